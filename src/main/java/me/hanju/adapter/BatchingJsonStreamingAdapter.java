@@ -0,0 +1,149 @@
+package me.hanju.adapter;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.function.LongSupplier;
+
+/**
+ * 입력 마이크로 배칭 어댑터
+ * <p>
+ * 작은 토큰마다 {@link JsonStreamingAdapter#feedToken(String)}을 호출하면
+ * 델타 초기화, 인코딩, 파서 피드, 토큰 처리 루프의 고정 비용이 매번 발생합니다.
+ * 이 어댑터는 입력을 모아두었다가 다음 조건 중 하나가 충족될 때 한 번에 파싱합니다.
+ * </p>
+ * <ul>
+ * <li>대기 중인 입력이 바이트 임계값에 도달</li>
+ * <li>호출자가 {@link #tick()}을 호출</li>
+ * <li>첫 대기 입력 이후 최대 지연 시간이 경과 (다음 {@link #feedToken(String)} 호출 시 확인)</li>
+ * </ul>
+ * <p>
+ * 델타는 배치 단위로 합쳐져 반환되므로 문자열 증분이 더 큰 단위로 전달됩니다.
+ * 스레드 안전하지 않습니다.
+ * </p>
+ */
+public class BatchingJsonStreamingAdapter {
+
+  private final JsonStreamingAdapter delegate;
+  private final int byteThreshold;
+  private final long maxLatencyNanos;
+  private final LongSupplier nanoClock;
+
+  private final StringBuilder pending = new StringBuilder();
+  private int pendingBytes = 0;
+  private long pendingSinceNanos = 0;
+
+  /**
+   * @param delegate      실제 파싱을 수행할 어댑터
+   * @param byteThreshold 파싱을 트리거하는 대기 입력 크기 (UTF-8 바이트)
+   * @param maxLatency    첫 대기 입력 이후 허용되는 최대 지연
+   */
+  public BatchingJsonStreamingAdapter(JsonStreamingAdapter delegate, int byteThreshold, Duration maxLatency) {
+    this(delegate, byteThreshold, maxLatency, System::nanoTime);
+  }
+
+  BatchingJsonStreamingAdapter(JsonStreamingAdapter delegate, int byteThreshold, Duration maxLatency,
+      LongSupplier nanoClock) {
+    if (delegate == null) {
+      throw new IllegalArgumentException("Delegate adapter cannot be null");
+    }
+    if (byteThreshold <= 0) {
+      throw new IllegalArgumentException("Byte threshold must be positive");
+    }
+    if (maxLatency == null || maxLatency.isNegative()) {
+      throw new IllegalArgumentException("Max latency must be zero or positive");
+    }
+    this.delegate = delegate;
+    this.byteThreshold = byteThreshold;
+    this.maxLatencyNanos = maxLatency.toNanos();
+    this.nanoClock = nanoClock;
+  }
+
+  /**
+   * 토큰을 대기 버퍼에 추가합니다.
+   * 임계값이나 지연 한도에 도달하면 모인 입력을 파싱하고 델타를 반환합니다.
+   *
+   * @return 이번 호출에서 파싱된 델타 (배치되지 않았으면 빈 리스트)
+   */
+  public List<Map<String, Object>> feedToken(String token) {
+    if (token == null || token.isEmpty()) {
+      return Collections.emptyList();
+    }
+
+    long now = nanoClock.getAsLong();
+    if (pending.isEmpty()) {
+      pendingSinceNanos = now;
+    }
+    pending.append(token);
+    pendingBytes += utf8Length(token);
+
+    if (pendingBytes >= byteThreshold || now - pendingSinceNanos >= maxLatencyNanos) {
+      return drain();
+    }
+    return Collections.emptyList();
+  }
+
+  /**
+   * 대기 중인 입력을 즉시 파싱합니다.
+   *
+   * @return 파싱된 델타 (대기 입력이 없으면 빈 리스트)
+   */
+  public List<Map<String, Object>> tick() {
+    return drain();
+  }
+
+  /**
+   * 대기 입력을 파싱한 뒤 스트림을 종료하고 스키마 검증을 수행합니다.
+   *
+   * @return 마지막 배치에서 파싱된 델타
+   */
+  public List<Map<String, Object>> flush() {
+    List<Map<String, Object>> deltas = drain();
+    delegate.flush();
+    return deltas;
+  }
+
+  /**
+   * 최대 지연 시간이 경과하여 {@link #tick()}이 필요한지 확인합니다.
+   */
+  public boolean isDue() {
+    return !pending.isEmpty() && nanoClock.getAsLong() - pendingSinceNanos >= maxLatencyNanos;
+  }
+
+  public int getPendingBytes() {
+    return pendingBytes;
+  }
+
+  public JsonStreamingAdapter getDelegate() {
+    return delegate;
+  }
+
+  private List<Map<String, Object>> drain() {
+    if (pending.isEmpty()) {
+      return Collections.emptyList();
+    }
+    String batch = pending.toString();
+    pending.setLength(0);
+    pendingBytes = 0;
+    return delegate.feedToken(batch);
+  }
+
+  private static int utf8Length(String s) {
+    int length = 0;
+    for (int i = 0; i < s.length(); i++) {
+      char c = s.charAt(i);
+      if (c < 0x80) {
+        length++;
+      } else if (c < 0x800) {
+        length += 2;
+      } else if (Character.isHighSurrogate(c)) {
+        length += 4;
+        i++;
+      } else {
+        length += 3;
+      }
+    }
+    return length;
+  }
+}
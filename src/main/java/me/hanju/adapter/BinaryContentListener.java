@@ -0,0 +1,71 @@
+package me.hanju.adapter;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+import me.hanju.adapter.exception.JsonStreamingException;
+
+/**
+ * {@code "contentEncoding": "base64"} 문자열 필드의 디코딩된 바이트 수신자
+ * <p>
+ * 텍스트 증분이 도착할 때마다 완성된 4문자 묶음을 디코딩해 전달하며,
+ * 이 필드들에 대해서는 문자열 델타를 생성하지 않습니다. 파싱 스레드에서 동기적으로 호출됩니다.
+ * </p>
+ */
+@FunctionalInterface
+public interface BinaryContentListener {
+
+  /**
+   * 디코딩된 바이트 조각을 전달합니다. 버퍼는 호출이 끝난 뒤 재사용될 수 있습니다.
+   *
+   * @param path  필드 위치 (예: {@code $.image})
+   * @param chunk 디코딩된 바이트
+   */
+  void onChunk(String path, ByteBuffer chunk);
+
+  /**
+   * 문자열 값이 완성되어 마지막 조각까지 전달되었음을 알립니다.
+   *
+   * @param totalBytes 이 값에서 디코딩된 전체 바이트 수
+   */
+  default void onComplete(String path, long totalBytes) {
+  }
+
+  /**
+   * 필드 값마다 채널을 열어 디코딩된 바이트를 바로 기록하는 수신자를 만듭니다.
+   * 채널은 첫 조각(빈 값이면 완성 시점)에 열리고 값이 완성되면 닫힙니다.
+   *
+   * @param opener 경로별 채널 생성 함수
+   */
+  static BinaryContentListener toChannels(Function<String, WritableByteChannel> opener) {
+    return new BinaryContentListener() {
+      private final Map<String, WritableByteChannel> open = new HashMap<>();
+
+      @Override
+      public void onChunk(String path, ByteBuffer chunk) {
+        WritableByteChannel channel = open.computeIfAbsent(path, opener);
+        try {
+          while (chunk.hasRemaining()) {
+            channel.write(chunk);
+          }
+        } catch (IOException e) {
+          throw new JsonStreamingException("Failed to write binary content for " + path, e);
+        }
+      }
+
+      @Override
+      public void onComplete(String path, long totalBytes) {
+        WritableByteChannel channel = open.remove(path);
+        try {
+          (channel != null ? channel : opener.apply(path)).close();
+        } catch (IOException e) {
+          throw new JsonStreamingException("Failed to close binary content for " + path, e);
+        }
+      }
+    };
+  }
+}
@@ -0,0 +1,30 @@
+package me.hanju.adapter;
+
+import java.util.Set;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.networknt.schema.ValidationMessage;
+
+/**
+ * 값, 객체 또는 배열 하나가 완성되었음을 알리는 이벤트
+ *
+ * @param kind   완성된 대상 종류
+ * @param path   완성된 위치 ({@code $.user.name}, {@code $.items[0]}, {@code $.tags[2]}; 루트는 {@code $})
+ * @param value  완성된 값 (누적 트리의 노드이므로 수정하지 않아야 함)
+ * @param errors 하위 스키마 검증 오류 (검증하지 않았거나 하위 스키마가 없으면 빈 집합)
+ */
+public record CompletionEvent(Kind kind, String path, JsonNode value, Set<ValidationMessage> errors) {
+
+  public enum Kind {
+    /** 문자열/숫자/불리언/null 값 */
+    VALUE,
+    /** 객체 (배열 요소와 루트 포함) */
+    OBJECT,
+    /** 배열 */
+    ARRAY
+  }
+
+  public boolean isValid() {
+    return errors.isEmpty();
+  }
+}
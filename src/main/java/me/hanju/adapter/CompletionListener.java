@@ -0,0 +1,14 @@
+package me.hanju.adapter;
+
+/**
+ * 완성 이벤트 수신자
+ * <p>
+ * {@link JsonStreamingAdapter#feedToken(String)}을 호출한 스레드에서 파싱 도중 동기적으로 호출됩니다.
+ * 오래 걸리는 작업은 다른 Executor로 넘겨야 하며, 리스너에서 발생한 예외는 호출자에게 그대로 전파됩니다.
+ * </p>
+ */
+@FunctionalInterface
+public interface CompletionListener {
+
+  void onComplete(CompletionEvent event);
+}
@@ -0,0 +1,77 @@
+package me.hanju.adapter;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 피드 한 번에서 나온 증분 하나
+ * <p>
+ * {@link JsonStreamingAdapter#feedToken(String)}의 Map 델타와 같은 내용을 객체 하나로 담습니다.
+ * 경로는 공유되는 {@link DeltaPath}이고 값은 가능한 한 기본 타입으로 보관하며,
+ * 중첩 Map은 {@link #toMap()}을 호출할 때만 만듭니다.
+ * </p>
+ */
+public sealed interface Delta {
+
+  /**
+   * 필드가 속한 객체의 경로 (배열 요소 안이면 마지막 세그먼트가 요소)
+   */
+  DeltaPath path();
+
+  String field();
+
+  /**
+   * 값 (숫자와 불리언은 박싱됨)
+   */
+  Object value();
+
+  /**
+   * {@link JsonStreamingAdapter#feedToken(String)}이 반환하는 것과 같은 중첩 Map을 만듭니다.
+   */
+  default Map<String, Object> toMap() {
+    return path().toMap(field(), value());
+  }
+
+  static List<Map<String, Object>> toMaps(List<Delta> deltas) {
+    List<Map<String, Object>> maps = new ArrayList<>(deltas.size());
+    for (Delta delta : deltas) {
+      maps.add(delta.toMap());
+    }
+    return maps;
+  }
+
+  /**
+   * 스트리밍 중인 문자열의 증분 (짧은 값은 한 번에 전체)
+   */
+  record StringIncrement(DeltaPath path, String field, String value) implements Delta {
+  }
+
+  record IntValue(DeltaPath path, String field, int intValue) implements Delta {
+    @Override
+    public Object value() {
+      return intValue;
+    }
+  }
+
+  record DoubleValue(DeltaPath path, String field, double doubleValue) implements Delta {
+    @Override
+    public Object value() {
+      return doubleValue;
+    }
+  }
+
+  record BooleanValue(DeltaPath path, String field, boolean booleanValue) implements Delta {
+    @Override
+    public Object value() {
+      return booleanValue;
+    }
+  }
+
+  record NullValue(DeltaPath path, String field) implements Delta {
+    @Override
+    public Object value() {
+      return null;
+    }
+  }
+}
@@ -0,0 +1,30 @@
+package me.hanju.adapter;
+
+/**
+ * 문자열 델타를 전달하는 단위
+ * <p>
+ * 단위가 커질수록 델타 수와 델타당 고정 비용이 줄어드는 대신, 클라이언트에 보이는 진행이 덜 부드러워집니다.
+ * 누적 트리와 완성된 값은 단위와 무관하게 같습니다.
+ * </p>
+ */
+public enum DeltaGranularity {
+
+  /** 받은 문자를 모두 즉시 전달 */
+  CHARACTER,
+
+  /** 공백이나 문장부호까지 모았다가 전달 */
+  WORD,
+
+  /** 문자열이 완성될 때 한 번에 전달 */
+  FIELD;
+
+  /**
+   * 단어/문장 경계 문자인지 확인합니다.
+   */
+  static boolean isBoundary(char c) {
+    return Character.isWhitespace(c) || switch (c) {
+      case '.', ',', '!', '?', ';', ':', ')', ']', '}', '。', '、', '！', '？' -> true;
+      default -> false;
+    };
+  }
+}
@@ -0,0 +1,165 @@
+package me.hanju.adapter;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * 델타가 속한 위치를 나타내는 불변 경로
+ * <p>
+ * 부모를 가리키는 연결 노드이므로, 같은 객체 안에서 나온 델타들은 같은 인스턴스를 공유합니다.
+ * 세그먼트는 객체 필드({@code user}) 또는 배열 요소({@code items[0]})입니다.
+ * </p>
+ */
+public final class DeltaPath {
+
+  private static final DeltaPath ROOT = new DeltaPath(null, null, -1);
+
+  private final DeltaPath parent;
+  private final String name;
+  private final int index;
+  private final int depth;
+
+  private DeltaPath(DeltaPath parent, String name, int index) {
+    this.parent = parent;
+    this.name = name;
+    this.index = index;
+    this.depth = parent == null ? 0 : parent.depth + 1;
+  }
+
+  public static DeltaPath root() {
+    return ROOT;
+  }
+
+  /**
+   * 객체 필드 세그먼트를 덧붙인 경로를 반환합니다.
+   */
+  public DeltaPath child(String field) {
+    return new DeltaPath(this, field, -1);
+  }
+
+  /**
+   * 배열 요소 세그먼트를 덧붙인 경로를 반환합니다.
+   */
+  public DeltaPath element(String arrayField, int index) {
+    return new DeltaPath(this, arrayField, index);
+  }
+
+  /**
+   * 상위 경로 (루트면 null)
+   */
+  public DeltaPath parent() {
+    return parent;
+  }
+
+  /**
+   * 마지막 세그먼트의 필드명 (배열 요소면 배열 필드명, 루트면 null)
+   */
+  public String name() {
+    return name;
+  }
+
+  /**
+   * 마지막 세그먼트의 배열 요소 index (객체 필드면 -1)
+   */
+  public int index() {
+    return index;
+  }
+
+  public boolean isElement() {
+    return index >= 0;
+  }
+
+  public boolean isRoot() {
+    return parent == null;
+  }
+
+  public int depth() {
+    return depth;
+  }
+
+  /**
+   * 루트부터 순서대로 세그먼트를 반환합니다. (루트 자신은 제외)
+   */
+  public List<DeltaPath> segments() {
+    DeltaPath[] segments = new DeltaPath[depth];
+    for (DeltaPath p = this; p.parent != null; p = p.parent) {
+      segments[p.depth - 1] = p;
+    }
+    return List.of(segments);
+  }
+
+  /**
+   * 이 경로 아래 필드 하나를 담은 중첩 Map을 만듭니다.
+   * <p>
+   * 객체 세그먼트는 중첩 Map, 배열 요소 세그먼트는 {@code index}를 담은 요소 Map 하나짜리 리스트가 됩니다.
+   * </p>
+   */
+  public Map<String, Object> toMap(String field, Object value) {
+    Map<String, Object> result = new LinkedHashMap<>();
+    Map<String, Object> current = result;
+    for (DeltaPath segment : segments()) {
+      Map<String, Object> nested = new LinkedHashMap<>();
+      if (segment.isElement()) {
+        nested.put("index", segment.index);
+        List<Map<String, Object>> array = new ArrayList<>();
+        array.add(nested);
+        current.put(segment.name, array);
+      } else {
+        current.put(segment.name, nested);
+      }
+      current = nested;
+    }
+    current.put(field, value);
+    return result;
+  }
+
+  /**
+   * {@code $.user.name}, {@code $.items[0]} 형식으로 표현합니다.
+   */
+  @Override
+  public String toString() {
+    StringBuilder sb = new StringBuilder("$");
+    for (DeltaPath segment : segments()) {
+      sb.append('.').append(segment.name);
+      if (segment.isElement()) {
+        sb.append('[').append(segment.index).append(']');
+      }
+    }
+    return sb.toString();
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (!(o instanceof DeltaPath other) || depth != other.depth) {
+      return false;
+    }
+    DeltaPath a = this;
+    DeltaPath b = other;
+    while (a.parent != null) {
+      if (a == b) {
+        return true;
+      }
+      if (a.index != b.index || !Objects.equals(a.name, b.name)) {
+        return false;
+      }
+      a = a.parent;
+      b = b.parent;
+    }
+    return true;
+  }
+
+  @Override
+  public int hashCode() {
+    int hash = 1;
+    for (DeltaPath p = this; p.parent != null; p = p.parent) {
+      hash = 31 * hash + Objects.hashCode(p.name) * 17 + p.index;
+    }
+    return hash;
+  }
+}
@@ -0,0 +1,18 @@
+package me.hanju.adapter;
+
+/**
+ * enum/const로 제한된 문자열 필드의 값이 확정될 때 호출되는 수신자
+ * <p>
+ * 스트리밍 중인 접두어와 일치하는 후보가 하나만 남는 즉시 호출되며, 닫는 따옴표를 기다리지 않습니다.
+ * 접두어만으로 확정되지 않은 값은 문자열이 완성될 때 호출됩니다. 필드 값마다 최대 한 번 호출됩니다.
+ * </p>
+ */
+@FunctionalInterface
+public interface EnumResolutionListener {
+
+  /**
+   * @param path  필드 위치 (예: {@code $.action})
+   * @param value 확정된 후보 값
+   */
+  void onResolved(String path, String value);
+}
@@ -0,0 +1,19 @@
+package me.hanju.adapter;
+
+/**
+ * 잘못된 입력을 건너뛰고 파싱을 이어갈 때 호출되는 수신자
+ * <p>
+ * 지정하면 어댑터는 구문 오류에서 멈추지 않고, 오류를 이 수신자에 알린 뒤 다음 키나 배열 요소처럼
+ * 구조적으로 온전한 지점부터 다시 파싱합니다. 건너뛴 값은 누적 트리에 들어가지 않습니다.
+ * </p>
+ */
+@FunctionalInterface
+public interface ErrorRecoveryListener {
+
+  /**
+   * @param path    오류가 난 위치 (예: {@code $.items[2].price})
+   * @param offset  입력에서 오류가 감지된 문자 위치 (체크포인트에서 복원한 경우 복원 시점의 미완성 입력 기준)
+   * @param message 파서 오류 메시지
+   */
+  void onRecovered(String path, long offset, String message);
+}
@@ -0,0 +1,123 @@
+package me.hanju.adapter;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.IntSupplier;
+
+/**
+ * 처리 부하에 따라 {@link DeltaGranularity}를 자동으로 바꾸는 컨트롤러
+ * <p>
+ * 어댑터는 {@code feedToken()}마다 현재 단위를 정하고, 처리에 걸린 시간을 기록합니다.
+ * 부하는 호출당 처리 시간의 지수 이동 평균을 예산으로 나눈 값과, 지정한 경우 대기열 점유율 중 큰 값입니다.
+ * 부하가 {@link #thresholds(double, double)}를 넘으면 단위를 키우고, 임계값의 {@value #RELEASE_RATIO}배
+ * 아래로 내려가야 되돌려서 경계 근처에서 단위가 흔들리지 않게 합니다.
+ * </p>
+ * <p>
+ * 여러 어댑터가 하나의 인스턴스를 공유해 전체 부하를 기준으로 함께 전환할 수 있습니다.
+ * 설정 메서드는 어댑터에 전달하기 전에 호출해야 하며, 이후의 기록과 조회는 스레드 안전합니다.
+ * </p>
+ */
+public class GranularityController {
+
+  static final double RELEASE_RATIO = 0.7;
+
+  // 이동 평균 가중치 (1/8)
+  private static final int EWMA_SHIFT = 3;
+
+  private long costBudgetNanos = Duration.ofMillis(1).toNanos();
+  private double wordThreshold = 0.5;
+  private double fieldThreshold = 1.0;
+  private IntSupplier queueDepth;
+  private int queueCapacity;
+
+  private final AtomicLong averageCostNanos = new AtomicLong();
+  private volatile DeltaGranularity current = DeltaGranularity.CHARACTER;
+
+  public static GranularityController create() {
+    return new GranularityController();
+  }
+
+  /**
+   * {@code feedToken()} 한 번에 허용할 처리 시간을 지정합니다. (기본: 1ms)
+   * 평균 처리 시간이 예산과 같으면 부하는 1.0입니다.
+   */
+  public GranularityController costBudget(Duration budget) {
+    if (budget == null || budget.isNegative() || budget.isZero()) {
+      throw new IllegalArgumentException("Cost budget must be positive");
+    }
+    this.costBudgetNanos = budget.toNanos();
+    return this;
+  }
+
+  /**
+   * 입력 대기열의 깊이를 부하에 반영합니다.
+   *
+   * @param depth    현재 대기 중인 항목 수 (예: 링 버퍼의 {@code size()})
+   * @param capacity 깊이가 이 값에 도달하면 부하 1.0
+   */
+  public GranularityController queueDepth(IntSupplier depth, int capacity) {
+    if (depth == null || capacity <= 0) {
+      throw new IllegalArgumentException("Queue depth supplier and positive capacity are required");
+    }
+    this.queueDepth = depth;
+    this.queueCapacity = capacity;
+    return this;
+  }
+
+  /**
+   * 단위를 키울 부하를 지정합니다. (기본: 0.5에서 WORD, 1.0에서 FIELD)
+   */
+  public GranularityController thresholds(double word, double field) {
+    if (!(word > 0 && field >= word)) {
+      throw new IllegalArgumentException("Thresholds must satisfy 0 < word <= field");
+    }
+    this.wordThreshold = word;
+    this.fieldThreshold = field;
+    return this;
+  }
+
+  /**
+   * 현재 부하로 단위를 다시 정해 반환합니다.
+   */
+  public DeltaGranularity current() {
+    double load = getLoad();
+    DeltaGranularity previous = current;
+    DeltaGranularity raised = levelFor(load, 1.0);
+    if (raised.compareTo(previous) > 0) {
+      current = raised;
+      return raised;
+    }
+    DeltaGranularity relaxed = levelFor(load, RELEASE_RATIO);
+    if (relaxed.compareTo(previous) < 0) {
+      current = relaxed;
+      return relaxed;
+    }
+    return previous;
+  }
+
+  /**
+   * {@code feedToken()} 한 번의 처리 시간을 기록합니다.
+   */
+  public void record(long elapsedNanos) {
+    long sample = Math.max(0, elapsedNanos);
+    averageCostNanos.accumulateAndGet(sample, (avg, s) -> avg + ((s - avg) >> EWMA_SHIFT));
+  }
+
+  /**
+   * 현재 부하를 반환합니다.
+   */
+  public double getLoad() {
+    double load = (double) averageCostNanos.get() / costBudgetNanos;
+    if (queueDepth != null) {
+      load = Math.max(load, (double) queueDepth.getAsInt() / queueCapacity);
+    }
+    return load;
+  }
+
+  private DeltaGranularity levelFor(double load, double ratio) {
+    if (load >= fieldThreshold * ratio) {
+      return DeltaGranularity.FIELD;
+    }
+    return load >= wordThreshold * ratio ? DeltaGranularity.WORD : DeltaGranularity.CHARACTER;
+  }
+}
@@ -0,0 +1,160 @@
+package me.hanju.adapter;
+
+/**
+ * LLM 출력에서 JSON 루트 객체만 걸러내는 스트리밍 전처리 필터
+ * <p>
+ * 코드 펜스(```json), 앞쪽 설명 문장, 뒤쪽 코멘트를 제거하고
+ * 루트 객체에 해당하는 부분만 반환합니다. 입력은 한 번만 스캔하며 재파싱하지 않습니다.
+ * </p>
+ * <p>
+ * 여는 중괄호 다음의 첫 공백이 아닌 문자가 따옴표일 때만 루트 객체 시작으로 인정하므로
+ * 설명 문장 속의 중괄호는 건너뜁니다. 루트 객체가 닫히면 이후 입력은 모두 무시합니다.
+ * </p>
+ * <p>
+ * 빈 객체({@code {}})는 설명 문장에도 흔하므로 바로 인정하지 않고 보류한 채 계속 찾습니다.
+ * 입력이 끝날 때까지 다른 루트 객체가 없으면 {@link #flush()}가 보류한 빈 객체를 반환합니다.
+ * </p>
+ *
+ * <pre>{@code
+ * JsonPreambleFilter filter = new JsonPreambleFilter();
+ * adapter.feedToken(filter.filter(token));
+ * adapter.feedToken(filter.flush());
+ * }</pre>
+ */
+public class JsonPreambleFilter {
+
+  private enum State {
+    SEEKING, CANDIDATE, IN_VALUE, DONE
+  }
+
+  private State state = State.SEEKING;
+  private final StringBuilder candidate = new StringBuilder();
+  // 루트 후보였던 마지막 빈 객체 (다른 루트 객체가 나오면 버림)
+  private final StringBuilder heldEmpty = new StringBuilder();
+
+  private int depth = 0;
+  private boolean inString = false;
+  private boolean pendingEscape = false;
+  private long skippedChars = 0;
+
+  /**
+   * 청크에서 JSON에 속하는 부분만 반환합니다.
+   *
+   * @param chunk 원본 출력 청크
+   * @return 어댑터로 전달할 JSON 부분 (없으면 빈 문자열)
+   */
+  public String filter(String chunk) {
+    if (chunk == null || chunk.isEmpty() || state == State.DONE) {
+      return "";
+    }
+
+    StringBuilder out = new StringBuilder();
+    for (int i = 0; i < chunk.length() && state != State.DONE; i++) {
+      char c = chunk.charAt(i);
+      switch (state) {
+        case SEEKING -> seek(c);
+        case CANDIDATE -> {
+          if (Character.isWhitespace(c)) {
+            candidate.append(c);
+          } else if (c == '}') {
+            skippedChars += heldEmpty.length();
+            heldEmpty.setLength(0);
+            heldEmpty.append(candidate).append(c);
+            candidate.setLength(0);
+            state = State.SEEKING;
+          } else if (c == '"') {
+            state = State.IN_VALUE;
+            skippedChars += heldEmpty.length();
+            heldEmpty.setLength(0);
+            for (int j = 0; j < candidate.length(); j++) {
+              track(candidate.charAt(j), out);
+            }
+            candidate.setLength(0);
+            track(c, out);
+          } else {
+            skippedChars += candidate.length();
+            candidate.setLength(0);
+            state = State.SEEKING;
+            seek(c);
+          }
+        }
+        case IN_VALUE -> track(c, out);
+        default -> {
+        }
+      }
+    }
+    return out.toString();
+  }
+
+  /**
+   * 입력이 끝났음을 알립니다.
+   *
+   * @return 다른 루트 객체 없이 빈 객체만 있었으면 그 빈 객체 (아니면 빈 문자열)
+   */
+  public String flush() {
+    if (state == State.IN_VALUE || state == State.DONE || heldEmpty.isEmpty()) {
+      return "";
+    }
+    String out = heldEmpty.toString();
+    heldEmpty.setLength(0);
+    candidate.setLength(0);
+    state = State.DONE;
+    return out;
+  }
+
+  /**
+   * 루트 객체 시작이 확정되었는지 확인합니다.
+   */
+  public boolean isStarted() {
+    return state == State.IN_VALUE || state == State.DONE;
+  }
+
+  /**
+   * 루트 객체가 닫혔는지 확인합니다. 이후 입력은 무시됩니다.
+   */
+  public boolean isComplete() {
+    return state == State.DONE;
+  }
+
+  /**
+   * 루트 객체 앞에서 건너뛴 문자 수를 반환합니다.
+   */
+  public long getSkippedChars() {
+    return skippedChars;
+  }
+
+  private void seek(char c) {
+    if (c == '{') {
+      state = State.CANDIDATE;
+      candidate.append(c);
+    } else {
+      skippedChars++;
+    }
+  }
+
+  private void track(char c, StringBuilder out) {
+    out.append(c);
+    if (inString) {
+      if (pendingEscape) {
+        pendingEscape = false;
+      } else if (c == '\\') {
+        pendingEscape = true;
+      } else if (c == '"') {
+        inString = false;
+      }
+      return;
+    }
+    switch (c) {
+      case '"' -> inString = true;
+      case '{', '[' -> depth++;
+      case '}', ']' -> {
+        depth--;
+        if (depth == 0) {
+          state = State.DONE;
+        }
+      }
+      default -> {
+      }
+    }
+  }
+}
@@ -1,31 +1,66 @@
 package me.hanju.adapter;
 
 import java.io.IOException;
+import java.io.StringWriter;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.Iterator;
 import java.util.Deque;
 import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.stream.Collectors;
 
 import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonFactoryBuilder;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParseException;
 import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonStreamContext;
 import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.core.async.ByteArrayFeeder;
+import com.fasterxml.jackson.core.json.JsonReadFeature;
 import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fasterxml.jackson.databind.node.POJONode;
+import com.networknt.schema.JsonNodePath;
 import com.networknt.schema.JsonSchema;
 import com.networknt.schema.JsonSchemaFactory;
 import com.networknt.schema.SpecVersion;
 import com.networknt.schema.ValidationMessage;
 
 import me.hanju.adapter.exception.JsonStreamingException;
+import me.hanju.adapter.exception.SchemaViolationException;
+import me.hanju.adapter.exception.StreamingLimitExceededException;
+import me.hanju.adapter.exception.StreamingLimitExceededException.Limit;
+import me.hanju.adapter.internal.AdapterCheckpoint;
 import me.hanju.adapter.internal.ArrayContext;
+import me.hanju.adapter.internal.Base64StreamDecoder;
 import me.hanju.adapter.internal.DeltaBuilder;
+import me.hanju.adapter.internal.DeltaJournal;
+import me.hanju.adapter.internal.EnumMatcher;
+import me.hanju.adapter.internal.LimitReadConstraints;
+import me.hanju.adapter.internal.SchemaIndex;
+import me.hanju.adapter.internal.StringConstraints;
 import me.hanju.adapter.internal.StringContext;
+import me.hanju.adapter.jfr.LimitViolationEvent;
+import me.hanju.adapter.jfr.SlowFeedEvent;
+import me.hanju.adapter.jfr.StreamEvent;
+import me.hanju.adapter.jfr.ValidationEvent;
+import me.hanju.adapter.spill.SpilledString;
 
 /**
  * JSON Schema 기반 스트리밍 어댑터 (Jackson 하이브리드 방식)
@@ -34,12 +69,30 @@ import me.hanju.adapter.internal.StringContext;
  * 문자열 필드는 토큰 단위로 증분 스트리밍합니다.
  * </p>
  */
-public class JsonStreamingAdapter {
+public class JsonStreamingAdapter implements AutoCloseable {
+
+  private static final TypeReference<LinkedHashMap<String, Object>> MAP_TYPE = new TypeReference<>() {
+  };
+
+  // 저메모리 모드에서 정책과 무관하게 내보낼 문자열 길이
+  private static final int LOW_MEMORY_SPILL_CHARS = 1024;
 
   private final JsonSchema schema;
-  private final JsonParser parser;
-  private final ByteArrayFeeder feeder;
+  private final SchemaIndex schemaIndex;
+  private final JsonFactory parserFactory;
+  private JsonParser parser;
+  private ByteArrayFeeder feeder;
   private final ObjectMapper objectMapper;
+  private final Executor validationExecutor;
+  private final Executor itemValidationExecutor;
+  private final int maxBufferSize;
+  private final CompletionListener completionListener;
+  private final boolean validateCompletions;
+  private final boolean validateStringsEarly;
+  private final EnumResolutionListener enumResolutionListener;
+  private final SpillPolicy spillPolicy;
+  private final BinaryContentListener binaryContentListener;
+  private final ErrorRecoveryListener errorRecoveryListener;
 
   // 버퍼
   private final StringBuilder rawBuffer = new StringBuilder();
@@ -51,35 +104,149 @@ public class JsonStreamingAdapter {
 
   // 상태 추적
   private final Deque<String> fieldPath = new ArrayDeque<>();
+  private final Map<List<String>, List<CompletableFuture<Set<ValidationMessage>>>> itemValidations =
+      new LinkedHashMap<>();
+  private final Map<String, MemberValidation> memberValidations = new LinkedHashMap<>();
   private String currentFieldName;
   private boolean awaitingValue = false;
 
-  // 누적 객체 (스키마 검증용)
-  private final Deque<Map<String, Object>> objectStack = new ArrayDeque<>();
-  private Map<String, Object> rootObject;
+  // 누적 객체 (스키마 검증용, 파서 이벤트로부터 JsonNode 트리를 직접 구성)
+  private final JsonNodeFactory nodeFactory = JsonNodeFactory.instance;
+  private final Deque<ObjectNode> objectStack = new ArrayDeque<>();
+  private ObjectNode rootObject;
+
+  // 체크포인트용 파서 바이트 오프셋 (rawBuffer에 없는 복원 접두어 길이 포함)
+  private long lastTokenEndOffset = 0;
+  private JsonToken lastToken;
+  private long parserByteBase = 0;
+
+  // 오류 복구: 다시 맞출 지점을 찾는 중인지, 오류 직전의 파서 상태, rawBuffer에서 찾기 시작할 위치
+  private boolean resyncing = false;
+  private boolean recovered = false;
+  private List<AdapterCheckpoint.ParserContext> resyncContexts;
+  private AdapterCheckpoint.LeafKind resyncLeaf;
+  private int resyncFrom;
+  private int resyncSkipFrom;
+  private boolean resyncCommaCandidate;
+  private boolean resyncInsertComma;
+  // 복구 시 rawBuffer 앞에 넣은 문자 수, 그 다음 문자의 입력 내 위치, 다음 복구 지점의 하한
+  private int insertedChars = 0;
+  private long rawBufferOffset = 0;
+  private int recoveryFloor = 0;
+
+  // oneOf/anyOf 판별 속성으로 선택된 분기 (-1이면 미선택)
+  private int selectedBranch = -1;
+
+  // 누적 트리에 힙 밖으로 내보낸 문자열 값이 있는지 (검증 시 사본에만 펼침)
+  private boolean hasSpills = false;
+
+  // 스트리밍 중인 문자열 필드의 enum 후보
+  private EnumMatcher enumMatcher;
+
+  // 스트리밍 중인 문자열 값의 pattern/format/길이 검사 상태
+  private StringConstraints.Matcher constraintMatcher;
+
+  // 스트리밍 중인 base64 필드의 디코더
+  private Base64StreamDecoder binaryDecoder;
+
+  // 체크포인트 복원 중 미완성 입력을 다시 피드하는 중인지 (이미 전달한 결과를 리스너로 다시 보내지 않음)
+  private boolean replayingTail = false;
+
+  // 문자열 델타 단위와 아직 전달하지 않은 현재 문자열의 앞부분
+  private final DeltaGranularity fixedGranularity;
+  private final GranularityController granularityController;
+  private DeltaGranularity granularity;
+  private final StringBuilder heldText = new StringBuilder();
+
+  // 델타 순번과 재연결용 최근 델타 (journal은 옵션으로 켠 경우에만)
+  private DeltaJournal journal;
+  private long sequence = 0;
+  private boolean restored = false;
+
+  // 공유 메모리 예산의 예약 (옵션으로 켠 경우에만), 그 중 재전송 버퍼 몫, 예산 초과로 저메모리 모드인지, close() 호출 여부
+  private final MemoryBudget.Account memoryAccount;
+  private long journalBytes = 0;
+  private boolean lowMemory = false;
+  private boolean closed = false;
+
+  // 검증 결과
+  private final CompletableFuture<ValidationResult> validationResult = new CompletableFuture<>();
+
+  // JFR 계측 (StreamEvent는 생성 시점에 기록 중일 때만 보관)
+  private StreamEvent streamEvent;
+  private long inputBytes = 0;
+  private long feedCalls = 0;
+  private long deltaCount = 0;
+  // 원본 버퍼의 최대 길이 (오류 복구로 버퍼가 줄어도 유지)
+  private int bufferHighWaterMark = 0;
 
   public JsonStreamingAdapter(String schemaJson) {
     this(createSchema(schemaJson));
   }
 
   public JsonStreamingAdapter(JsonSchema schema) {
+    this(schema, StreamingOptions.defaults());
+  }
+
+  public JsonStreamingAdapter(String schemaJson, StreamingOptions options) {
+    this(createSchema(schemaJson), options);
+  }
+
+  public JsonStreamingAdapter(JsonSchema schema, StreamingOptions options) {
     if (schema == null) {
       throw new IllegalArgumentException("Schema cannot be null");
     }
+    if (options == null) {
+      throw new IllegalArgumentException("Options cannot be null");
+    }
 
     this.schema = schema;
+    this.schemaIndex = SchemaIndex.of(schema);
     this.objectMapper = new ObjectMapper();
-    this.stringContext = new StringContext(rawBuffer);
-    this.arrayContext = new ArrayContext();
-    this.deltaBuilder = new DeltaBuilder();
+    this.validationExecutor = options.getValidationExecutor();
+    this.itemValidationExecutor = options.getItemValidationExecutor();
+    this.completionListener = options.getCompletionListener();
+    this.validateCompletions = options.isValidateCompletions();
+    this.validateStringsEarly = options.isValidateStringsEarly();
+    this.enumResolutionListener = options.getEnumResolutionListener();
+    this.spillPolicy = options.getSpillPolicy();
+    this.binaryContentListener = options.getBinaryContentListener();
+    this.errorRecoveryListener = options.getErrorRecoveryListener();
+    this.fixedGranularity = options.getDeltaGranularity();
+    this.granularityController = options.getGranularityController();
+    this.granularity = fixedGranularity;
+    StreamingLimits limits = options.getLimits();
+    this.maxBufferSize = limits.getMaxBufferSize();
+    this.stringContext = new StringContext(rawBuffer, limits.getMaxStringLength());
+    this.arrayContext = new ArrayContext(limits.getMaxArrayLength());
+    this.deltaBuilder = new DeltaBuilder(limits.getMaxDeltasPerCall());
+    this.journal = options.getReplayBufferSize() > 0 ? new DeltaJournal(options.getReplayBufferSize()) : null;
 
+    // 청크로 나뉘지 않는 문자열(배열의 스칼라 요소)과 깊이는 Jackson이 토큰을 만들기 전에 검사
+    JsonFactoryBuilder factoryBuilder = new JsonFactoryBuilder()
+        .streamReadConstraints(LimitReadConstraints.of(limits));
+    if (errorRecoveryListener != null) {
+      factoryBuilder
+          .enable(JsonReadFeature.ALLOW_UNESCAPED_CONTROL_CHARS)
+          .enable(JsonReadFeature.ALLOW_BACKSLASH_ESCAPING_ANY_CHARACTER)
+          .enable(JsonReadFeature.ALLOW_TRAILING_COMMA);
+    }
+    this.parserFactory = factoryBuilder.build();
     try {
-      JsonFactory factory = new JsonFactory();
-      this.parser = factory.createNonBlockingByteArrayParser();
+      this.parser = parserFactory.createNonBlockingByteArrayParser();
       this.feeder = (ByteArrayFeeder) parser.getNonBlockingInputFeeder();
     } catch (IOException e) {
       throw new JsonStreamingException("Failed to initialize JSON parser", e);
     }
+
+    MemoryBudget memoryBudget = options.getMemoryBudget();
+    this.memoryAccount = memoryBudget == null ? null : memoryBudget.open();
+
+    StreamEvent event = new StreamEvent();
+    if (event.isEnabled()) {
+      event.begin();
+      this.streamEvent = event;
+    }
   }
 
   private static JsonSchema createSchema(String schemaJson) {
@@ -91,29 +258,207 @@ public class JsonStreamingAdapter {
   }
 
   public List<Map<String, Object>> feedToken(String token) {
+    List<Delta> deltas = parseToken(token);
+    if (journal != null) {
+      sequence(deltas);
+    } else {
+      sequence += deltas.size();
+    }
+    return Delta.toMaps(deltas);
+  }
+
+  /**
+   * {@link #feedToken(String)}과 같지만, 델타를 중첩 Map 대신 {@link Delta} 객체로 반환합니다.
+   * <p>
+   * 델타 하나가 객체 하나이고 경로는 같은 객체 안에서 공유되므로, 문자 단위로 들어오는 긴 문자열에서
+   * 할당이 크게 줄어듭니다. Map 형태가 필요하면 {@link Delta#toMap()}을 호출합니다.
+   * </p>
+   */
+  public List<Delta> feedTokenDeltas(String token) {
+    List<Delta> deltas = parseToken(token);
+    if (journal != null) {
+      sequence(deltas);
+    } else {
+      sequence += deltas.size();
+    }
+    return deltas;
+  }
+
+  /**
+   * {@link #feedToken(String)}과 같지만, 델타마다 순번과 JSON 인코딩을 붙여 반환합니다.
+   */
+  public List<SequencedDelta> feedTokenSequenced(String token) {
+    return sequence(parseToken(token));
+  }
+
+  /**
+   * 마지막으로 생성한 델타의 순번을 반환합니다. (아직 없으면 0)
+   */
+  public long getLastSequence() {
+    return sequence;
+  }
+
+  /**
+   * 마지막으로 받은 순번이 {@code lastSequence}인 클라이언트를 이어서 전달할 내용을 반환합니다.
+   * <p>
+   * 이후 델타가 모두 재전송 버퍼에 남아 있으면 버퍼에서 그대로 꺼내고,
+   * 없으면 현재까지의 원본 입력을 스냅샷으로 반환합니다.
+   * 체크포인트에서 복원한 어댑터는 복원 이전 입력을 갖고 있지 않으므로 스냅샷을 만들 수 없습니다.
+   * {@link #feedToken(String)}과 같은 스레드에서 호출해야 합니다.
+   * </p>
+   *
+   * @param lastSequence 클라이언트가 마지막으로 받은 순번 (받은 것이 없으면 0)
+   * @throws IllegalStateException 재전송 버퍼가 꺼져 있거나, 스냅샷이 필요한데 복원되었거나 오류를 복구한 어댑터인 경우
+   */
+  public ResumeResult resume(long lastSequence) {
+    if (journal == null) {
+      throw new IllegalStateException("Replay buffer is not enabled");
+    }
+    List<SequencedDelta> missed = lowMemory ? null : journal.since(Math.max(0, lastSequence));
+    if (missed != null) {
+      return ResumeResult.replay(missed);
+    }
+    if (restored || recovered) {
+      throw new IllegalStateException("Snapshot is not available for a restored or recovered adapter");
+    }
+    // 저메모리 모드에서는 버퍼 전체를 한 번 더 복사하지 않고 현재 길이까지의 뷰를 넘김
+    return ResumeResult.snapshot(lowMemory ? CharBuffer.wrap(rawBuffer, 0, rawBuffer.length()) : rawBuffer.toString(),
+        sequence);
+  }
+
+  private List<SequencedDelta> sequence(List<Delta> deltas) {
+    List<SequencedDelta> sequenced = new ArrayList<>(deltas.size());
+    for (Delta delta : deltas) {
+      SequencedDelta entry;
+      try {
+        entry = new SequencedDelta(++sequence, delta, encode(delta));
+      } catch (IOException e) {
+        throw new JsonStreamingException("Failed to encode delta", e);
+      }
+      if (journal != null && !lowMemory) {
+        SequencedDelta evicted = journal.append(entry);
+        chargeJournal(entry, evicted);
+      }
+      sequenced.add(entry);
+    }
+    return sequenced;
+  }
+  /**
+   * 델타를 {@link Delta#toMap()}과 같은 모양의 JSON으로 바로 씁니다. (중첩 Map을 만들지 않음)
+   */
+  private String encode(Delta delta) throws IOException {
+    StringWriter out = new StringWriter();
+    try (JsonGenerator generator = objectMapper.getFactory().createGenerator(out)) {
+      generator.writeStartObject();
+      openSegments(generator, delta.path());
+      generator.writeFieldName(delta.field());
+      switch (delta) {
+        case Delta.StringIncrement string -> generator.writeString(string.value());
+        case Delta.IntValue number -> generator.writeNumber(number.intValue());
+        case Delta.DoubleValue number -> generator.writeNumber(number.doubleValue());
+        case Delta.BooleanValue bool -> generator.writeBoolean(bool.booleanValue());
+        case Delta.NullValue ignored -> generator.writeNull();
+      }
+      for (DeltaPath segment = delta.path(); !segment.isRoot(); segment = segment.parent()) {
+        generator.writeEndObject();
+        if (segment.isElement()) {
+          generator.writeEndArray();
+        }
+      }
+      generator.writeEndObject();
+    }
+    return out.toString();
+  }
+
+  /**
+   * 루트 쪽 세그먼트부터 엽니다. 배열 요소는 {@code index}를 담은 요소 객체 하나짜리 배열입니다.
+   */
+  private static void openSegments(JsonGenerator generator, DeltaPath path) throws IOException {
+    if (path.isRoot()) {
+      return;
+    }
+    openSegments(generator, path.parent());
+    generator.writeFieldName(path.name());
+    if (path.isElement()) {
+      generator.writeStartArray();
+      generator.writeStartObject();
+      generator.writeNumberField("index", path.index());
+    } else {
+      generator.writeStartObject();
+    }
+  }
+
+
+  private List<Delta> parseToken(String token) {
+    if (closed) {
+      throw new JsonStreamingException("Adapter is closed");
+    }
     if (token == null || token.isEmpty()) {
       return Collections.emptyList();
     }
 
+    SlowFeedEvent feedEvent = new SlowFeedEvent();
+    feedEvent.begin();
+    long startNanos = 0;
+    if (granularityController != null) {
+      granularity = granularityController.current();
+      startNanos = System.nanoTime();
+    }
+
     deltaBuilder.clear();
     int tokenStartPos = rawBuffer.length();
-    rawBuffer.append(token);
-
-    // 문자열 스트리밍 중이면 증분 추출
-    if (stringContext.isInStringValue()) {
-      emitStringIncrement(tokenStartPos);
+    if (token.length() > maxBufferSize - tokenStartPos) {
+      throw limitExceeded(new StreamingLimitExceededException(Limit.BUFFER_SIZE, maxBufferSize, null));
     }
+    try {
+      chargeMemory(token.length());
+    } catch (StreamingLimitExceededException e) {
+      throw limitExceeded(e);
+    }
+    rawBuffer.append(token);
+    bufferHighWaterMark = Math.max(bufferHighWaterMark, rawBuffer.length());
 
-    // Jackson 파싱
+    byte[] bytes = token.getBytes(StandardCharsets.UTF_8);
     try {
-      byte[] bytes = token.getBytes(StandardCharsets.UTF_8);
-      feeder.feedInput(bytes, 0, bytes.length);
-      processTokens();
+      if (resyncing) {
+        // 오류 이후 다시 맞출 지점을 아직 찾지 못함
+        resync();
+      } else {
+        // 문자열 스트리밍 중이면 증분 추출
+        if (stringContext.isInStringValue()) {
+          emitStringIncrement(tokenStartPos);
+        }
+
+        // Jackson 파싱
+        feeder.feedInput(bytes, 0, bytes.length);
+        processTokens();
+      }
+    } catch (JsonParseException e) {
+      if (errorRecoveryListener == null) {
+        throw new JsonStreamingException("Failed to feed token", e);
+      }
+      recover(e);
     } catch (IOException e) {
       throw new JsonStreamingException("Failed to feed token", e);
+    } catch (StreamingLimitExceededException e) {
+      throw limitExceeded(e);
+    }
+
+    List<Delta> deltas = deltaBuilder.getDeltas();
+    if (granularityController != null) {
+      granularityController.record(System.nanoTime() - startNanos);
     }
+    inputBytes += bytes.length;
+    feedCalls++;
+    deltaCount += deltas.size();
 
-    return deltaBuilder.getDeltas();
+    if (feedEvent.shouldCommit()) {
+      feedEvent.tokenBytes = bytes.length;
+      feedEvent.deltas = deltas.size();
+      feedEvent.path = describePath();
+      feedEvent.commit();
+    }
+    return deltas;
   }
 
   public List<Map<String, Object>> flush() {
@@ -122,19 +467,127 @@ public class JsonStreamingAdapter {
       processTokens();
     } catch (IOException e) {
       // ignore
+    } catch (StreamingLimitExceededException e) {
+      throw limitExceeded(e);
+    }
+
+    boolean complete = rootObject != null && objectStack.isEmpty();
+    commitStreamEvent(complete);
+    if (validationExecutor != null) {
+      // 비동기 모드: 완성된 트리를 Executor에서 검증하고 즉시 반환
+      if (complete) {
+        ObjectNode tree = rootObject;
+        JsonSchema effective = effectiveSchema();
+        CompletableFuture.supplyAsync(() -> {
+          ValidationEvent event = new ValidationEvent();
+          event.begin();
+          Set<ValidationMessage> errors = validateTree(effective, withSpillsInlined(tree));
+          if (event.shouldCommit()) {
+            event.errors = errors.size();
+            event.async = true;
+            event.commit();
+          }
+          return new ValidationResult(true, errors);
+        }, validationExecutor)
+            .whenComplete((result, error) -> {
+              if (error != null) {
+                validationResult.completeExceptionally(error);
+              } else {
+                validationResult.complete(result);
+              }
+            });
+      } else {
+        validationResult.complete(ValidationResult.skipped());
+      }
+      return Collections.emptyList();
     }
 
     // 루트 객체가 완성되었으면 스키마 검증
-    if (rootObject != null && objectStack.isEmpty()) {
+    if (complete) {
       validateSchema(rootObject);
+    } else {
+      validationResult.complete(ValidationResult.skipped());
     }
 
     return Collections.emptyList();
   }
 
+  /**
+   * 스키마 검증 결과를 반환합니다.
+   * <p>
+   * {@link #flush()} 이후 완료됩니다. Executor가 지정된 경우 검증은 해당 Executor에서 수행되며,
+   * 검증 실패는 예외 대신 결과의 메시지로 전달됩니다.
+   * </p>
+   */
+  public CompletableFuture<ValidationResult> getValidationResult() {
+    return validationResult;
+  }
+
+  /**
+   * 공유 메모리 예산을 넘겨 저메모리 모드로 전환되었는지 반환합니다.
+   * <p>
+   * 저메모리 모드에서는 재전송 버퍼를 비우고 더 기록하지 않으며({@link #resume(long)}은 원본 버퍼를 복사하지 않은 스냅샷으로 응답),
+   * {@link StreamingOptions#spill(SpillPolicy)}가 지정되어 있으면 {@value #LOW_MEMORY_SPILL_CHARS}자 이상인
+   * 문자열 값을 정책과 무관하게 내보냅니다.
+   * </p>
+   */
+  public boolean isLowMemory() {
+    return lowMemory;
+  }
+
+  /**
+   * 공유 메모리 예산에서 예약한 양을 반환합니다.
+   * 닫은 뒤에는 입력을 받지 않으며, 결과와 검증 결과는 계속 조회할 수 있습니다.
+   */
+  @Override
+  public void close() {
+    closed = true;
+    // flush 없이 닫힌 스트림도 JFR에 남김
+    commitStreamEvent(false);
+    if (memoryAccount != null) {
+      memoryAccount.close();
+    }
+  }
+
+  /**
+   * 루트 oneOf/anyOf 중 판별 속성 값으로 선택된 분기 index를 반환합니다.
+   * <p>
+   * 모든 분기가 같은 속성에 서로 다른 const/enum 값을 가지면 그 속성을 판별 속성으로 사용합니다.
+   * 값이 완성되는 즉시 분기가 선택되며, 이후 검증은 선택된 분기에만 수행됩니다.
+   * </p>
+   *
+   * @return 선택된 분기 index (판별 속성이 없거나 아직 값이 오지 않았으면 -1)
+   */
+  public int getSelectedBranch() {
+    return selectedBranch;
+  }
+
+  /**
+   * 지금까지 누적된 루트 객체를 반환합니다. (시작 전이면 null)
+   * <p>
+   * 진행 중인 하위 객체와 배열 요소는 닫힌 뒤에 포함됩니다.
+   * 반환된 트리는 이후 피드에 의해 변경될 수 있습니다.
+   * </p>
+   */
+  public JsonNode getResultNode() {
+    return rootObject;
+  }
+
+  /**
+   * 누적된 루트 객체를 Map으로 변환해 반환합니다. (시작 전이면 null)
+   * <p>
+   * 호출할 때마다 트리를 변환하므로 필요한 경우에만 사용합니다.
+   * </p>
+   */
+  public Map<String, Object> getResultAsMap() {
+    return rootObject == null ? null : objectMapper.convertValue(rootObject, MAP_TYPE);
+  }
+
   private void processTokens() throws IOException {
     JsonToken token;
     while ((token = parser.nextToken()) != null && token != JsonToken.NOT_AVAILABLE) {
+      lastTokenEndOffset = parser.currentLocation().getByteOffset();
+      lastToken = token;
       processJsonToken(token);
     }
 
@@ -142,12 +595,18 @@ public class JsonStreamingAdapter {
     if (awaitingValue && !stringContext.isInStringValue()) {
       int startPos = stringContext.checkForStringStart();
       if (startPos >= 0) {
+        startEnumTracking();
+        startConstraintTracking();
+        startBinaryDecoding();
         emitStringIncrement(startPos);
       }
     }
   }
 
   private void processJsonToken(JsonToken token) throws IOException {
+    if (token.isScalarValue() && arrayContext.isInArray() && !arrayContext.isInArrayElement()) {
+      arrayContext.countElement();
+    }
     switch (token) {
       case START_OBJECT -> handleStartObject();
       case END_OBJECT -> handleEndObject();
@@ -156,7 +615,12 @@ public class JsonStreamingAdapter {
         awaitingValue = true;
       }
       case VALUE_STRING -> {
-        handleStringComplete(parser.getText());
+        if (spillPolicy != null && (lowMemory && parser.getTextLength() >= LOW_MEMORY_SPILL_CHARS
+            || spillPolicy.shouldSpill(() -> formatPath(valueSegments()), parser.getTextLength()))) {
+          handleSpilledStringComplete();
+        } else {
+          handleStringComplete(parser.getText());
+        }
         awaitingValue = false;
       }
       case VALUE_NUMBER_INT -> {
@@ -164,49 +628,172 @@ public class JsonStreamingAdapter {
         if (arrayContext.isIndexField(currentFieldName)) {
           arrayContext.setIndex(intVal);
         }
-        emitDelta(currentFieldName, intVal);
-        setValueInCurrentObject(currentFieldName, intVal);
+        deltaBuilder.add(new Delta.IntValue(deltaPath(), currentFieldName, intVal));
+        storeScalar(nodeFactory.numberNode(intVal));
         awaitingValue = false;
       }
       case VALUE_NUMBER_FLOAT -> {
         double doubleVal = parser.getDoubleValue();
-        emitDelta(currentFieldName, doubleVal);
-        setValueInCurrentObject(currentFieldName, doubleVal);
+        deltaBuilder.add(new Delta.DoubleValue(deltaPath(), currentFieldName, doubleVal));
+        storeScalar(nodeFactory.numberNode(doubleVal));
         awaitingValue = false;
       }
       case VALUE_TRUE -> {
-        emitDelta(currentFieldName, true);
-        setValueInCurrentObject(currentFieldName, true);
+        deltaBuilder.add(new Delta.BooleanValue(deltaPath(), currentFieldName, true));
+        storeScalar(nodeFactory.booleanNode(true));
         awaitingValue = false;
       }
       case VALUE_FALSE -> {
-        emitDelta(currentFieldName, false);
-        setValueInCurrentObject(currentFieldName, false);
+        deltaBuilder.add(new Delta.BooleanValue(deltaPath(), currentFieldName, false));
+        storeScalar(nodeFactory.booleanNode(false));
         awaitingValue = false;
       }
       case VALUE_NULL -> {
-        emitDelta(currentFieldName, null);
-        setValueInCurrentObject(currentFieldName, null);
+        deltaBuilder.add(new Delta.NullValue(deltaPath(), currentFieldName));
+        storeScalar(nodeFactory.nullNode());
         awaitingValue = false;
       }
       case START_ARRAY -> {
-        arrayContext.startArray(parser.currentName());
+        String arrayField = parser.currentName();
+        arrayContext.startArray(arrayField);
+        if (getCurrentObject() != null && arrayField != null) {
+          arrayNodeFor(arrayField);
+        }
         awaitingValue = false;
       }
-      case END_ARRAY -> arrayContext.endArray();
+      case END_ARRAY -> {
+        String arrayField = arrayContext.getArrayFieldName();
+        if (arrayField != null && objectStack.size() == 1) {
+          dispatchMemberValidation(arrayField, getCurrentObject().get(arrayField));
+        }
+        if (completionListener != null && arrayField != null) {
+          List<String> segments = new ArrayList<>(fieldPath);
+          segments.add(arrayField);
+          fireCompletion(CompletionEvent.Kind.ARRAY, segments, getCurrentObject().get(arrayField));
+        }
+        arrayContext.endArray();
+      }
       default -> {
       }
     }
   }
 
+  /**
+   * 공유 메모리 예산에 입력 문자 수만큼 예약하고, 예산을 넘겼으면 저메모리 모드로 전환합니다.
+   */
+  private void chargeMemory(long inputChars) {
+    if (memoryAccount == null) {
+      return;
+    }
+    memoryAccount.bind(this);
+    if (memoryAccount.charge(inputChars * MemoryBudget.BYTES_PER_INPUT_CHAR) && !lowMemory) {
+      enterLowMemory();
+    }
+  }
+
+  /**
+   * 재전송 버퍼에 추가한 델타만큼 예약하고 밀려난 델타만큼 반환합니다.
+   * 델타는 이미 만들어졌으므로 정책과 무관하게 기다리거나 거부하지 않고, 예약하지 못하면 버퍼를 비우고 저메모리 모드로 전환합니다.
+   */
+  private void chargeJournal(SequencedDelta added, SequencedDelta evicted) {
+    if (memoryAccount == null) {
+      return;
+    }
+    memoryAccount.bind(this);
+    if (evicted != null) {
+      long freed = MemoryBudget.journalEntryBytes(evicted);
+      memoryAccount.release(freed);
+      journalBytes -= freed;
+    }
+    long bytes = MemoryBudget.journalEntryBytes(added);
+    if (memoryAccount.tryCharge(bytes)) {
+      journalBytes += bytes;
+    } else {
+      enterLowMemory();
+    }
+  }
+
+  /**
+   * 원본 버퍼가 {@code chars}자 줄어든 만큼 반환합니다. (누적 트리 몫은 그대로 유지)
+   */
+  private void releaseBuffered(long chars) {
+    if (memoryAccount != null && chars > 0) {
+      memoryAccount.release(chars * MemoryBudget.BYTES_PER_BUFFERED_CHAR);
+    }
+  }
+
+  private void enterLowMemory() {
+    lowMemory = true;
+    if (journal != null) {
+      journal.clear();
+    }
+    if (journalBytes > 0) {
+      memoryAccount.release(journalBytes);
+      journalBytes = 0;
+    }
+  }
+
+  /**
+   * 한도 예외에 경로를 채우고 JFR 이벤트를 기록합니다.
+   */
+  private StreamingLimitExceededException limitExceeded(StreamingLimitExceededException e) {
+    StreamingLimitExceededException located = e.getPath() == null ? e.withPath(describePath()) : e;
+    LimitViolationEvent event = new LimitViolationEvent();
+    if (event.isEnabled()) {
+      event.limit = located.getLimit().name();
+      event.maxValue = located.getMaxValue();
+      event.path = located.getPath();
+      event.commit();
+    }
+    return located;
+  }
+
+  private void commitStreamEvent(boolean completed) {
+    StreamEvent event = streamEvent;
+    if (event == null) {
+      return;
+    }
+    streamEvent = null;
+    event.end();
+    if (event.shouldCommit()) {
+      event.inputBytes = inputBytes;
+      event.feedCalls = feedCalls;
+      event.deltas = deltaCount;
+      event.bufferHighWaterMark = bufferHighWaterMark;
+      event.completed = completed;
+      event.commit();
+    }
+  }
+
+  /**
+   * 현재 파싱 위치를 {@code $.user.name}, {@code $.items[0].value} 형식으로 표현합니다.
+   */
+  private String describePath() {
+    StringBuilder sb = new StringBuilder("$");
+    for (String segment : fieldPath) {
+      sb.append('.').append(segment);
+    }
+    if (arrayContext.isInArray()) {
+      sb.append('.').append(arrayContext.getArrayFieldName());
+      if (arrayContext.isInArrayElement()) {
+        sb.append('[').append(arrayContext.getCurrentIndex()).append(']');
+      } else {
+        return sb.toString();
+      }
+    }
+    if (currentFieldName != null) {
+      sb.append('.').append(currentFieldName);
+    }
+    return sb.toString();
+  }
+
   private void handleStartObject() {
-    Map<String, Object> newObj = new LinkedHashMap<>();
+    ObjectNode newObj = nodeFactory.objectNode();
     if (rootObject == null) {
       rootObject = newObj;
     } else if (arrayContext.isInArray()) {
       arrayContext.startElement();
     } else {
-      objectStack.push(getCurrentObject());
       fieldPath.addLast(currentFieldName);
     }
     objectStack.push(newObj);
@@ -214,73 +801,925 @@ public class JsonStreamingAdapter {
   }
 
   private void handleEndObject() {
-    Map<String, Object> completedObj = objectStack.pop();
+    ObjectNode completedObj = objectStack.pop();
     if (arrayContext.isInArrayElement()) {
       arrayContext.endElement();
-      @SuppressWarnings("unchecked")
-      List<Map<String, Object>> array = (List<Map<String, Object>>) rootObject.computeIfAbsent(
-          arrayContext.getArrayFieldName(), k -> new ArrayList<>());
+      ArrayNode array = arrayNodeFor(arrayContext.getArrayFieldName());
       array.add(completedObj);
+      dispatchItemValidation(array.size() - 1, completedObj);
+      if (completionListener != null) {
+        List<String> segments = containerSegments();
+        segments.add("[" + arrayContext.getCurrentIndex() + "]");
+        fireCompletion(CompletionEvent.Kind.OBJECT, segments, completedObj);
+      }
     } else if (!objectStack.isEmpty()) {
       String parentField = fieldPath.pollLast();
       setValueInCurrentObject(parentField, completedObj);
+      if (objectStack.size() == 1) {
+        dispatchMemberValidation(parentField, completedObj);
+      }
+      if (completionListener != null) {
+        List<String> segments = containerSegments();
+        segments.add(parentField);
+        fireCompletion(CompletionEvent.Kind.OBJECT, segments, completedObj);
+      }
+    } else if (completionListener != null) {
+      fireCompletion(CompletionEvent.Kind.OBJECT, new ArrayList<>(), completedObj);
     }
   }
 
+  /**
+   * 현재 필드가 enum/const 문자열이면 후보 추적을 시작합니다.
+   */
+  private void startEnumTracking() {
+    enumMatcher = null;
+    if (enumResolutionListener == null || currentFieldName == null || isScalarArrayItem()) {
+      return;
+    }
+    List<String> candidates = schemaIndex.enumCandidates(selectedBranch, memberSchemaPath());
+    if (candidates != null) {
+      enumMatcher = new EnumMatcher(candidates);
+    }
+  }
+
+  private void trackEnumPrefix(String increment) {
+    if (!enumMatcher.append(increment)) {
+      throw new SchemaViolationException("Value does not match any of " + enumMatcher.getCandidates(),
+          describePath());
+    }
+    String resolved = enumMatcher.takeResolved();
+    // 복원 중 재피드에서 확정된 값은 원래 어댑터가 이미 알렸음
+    if (resolved != null && !replayingTail) {
+      enumResolutionListener.onResolved(describePath(), resolved);
+    }
+  }
+
+  private void completeEnumValue(CharSequence fullValue) {
+    EnumMatcher matcher = enumMatcher;
+    enumMatcher = null;
+    if (matcher == null) {
+      // 한 번에 완성되어 스트리밍되지 않은 값
+      if (currentFieldName == null || isScalarArrayItem()) {
+        return;
+      }
+      List<String> candidates = schemaIndex.enumCandidates(selectedBranch, memberSchemaPath());
+      if (candidates == null) {
+        return;
+      }
+      matcher = new EnumMatcher(candidates);
+    }
+    String matched = matcher.match(fullValue);
+    if (matched == null) {
+      throw new SchemaViolationException("Value does not match any of " + matcher.getCandidates(),
+          describePath());
+    }
+    if (!matcher.isResolved()) {
+      enumResolutionListener.onResolved(describePath(), matched);
+    }
+  }
+
+  /**
+   * 현재 문자열 값에 pattern/format/길이 제약이 있으면 추적을 시작합니다.
+   */
+  private void startConstraintTracking() {
+    constraintMatcher = null;
+    if (!validateStringsEarly) {
+      return;
+    }
+    StringConstraints constraints = currentStringConstraints();
+    if (constraints != null) {
+      constraintMatcher = constraints.newMatcher();
+    }
+  }
+
+  /**
+   * 완성된 문자열의 남은 부분으로 제약 검사를 마칩니다.
+   */
+  private void completeConstraints(CharSequence fullValue, String remaining) {
+    StringConstraints.Matcher matcher = constraintMatcher;
+    constraintMatcher = null;
+    if (!validateStringsEarly) {
+      return;
+    }
+    if (matcher == null) {
+      // 한 번에 완성되어 스트리밍되지 않은 값
+      StringConstraints constraints = currentStringConstraints();
+      if (constraints == null) {
+        return;
+      }
+      matcher = constraints.newMatcher();
+      remaining = null;
+      checkConstraint(matcher.append(fullValue));
+    }
+    if (remaining != null) {
+      checkConstraint(matcher.append(remaining));
+    }
+    checkConstraint(matcher.complete());
+  }
+
+  private StringConstraints currentStringConstraints() {
+    if (isScalarArrayItem()) {
+      List<String> segments = new ArrayList<>(fieldPath);
+      segments.add(arrayContext.getArrayFieldName());
+      segments.add("[]");
+      return schemaIndex.stringConstraints(selectedBranch, segments);
+    }
+    return currentFieldName == null ? null : schemaIndex.stringConstraints(selectedBranch, memberSchemaPath());
+  }
+
+  private void checkConstraint(String violation) {
+    if (violation != null) {
+      constraintMatcher = null;
+      throw new SchemaViolationException(violation, describePath());
+    }
+  }
+
+  private List<String> memberSchemaPath() {
+    List<String> segments = new ArrayList<>(fieldPath);
+    if (arrayContext.isInArray()) {
+      segments.add(arrayContext.getArrayFieldName());
+      segments.add("[]");
+    }
+    segments.add(currentFieldName);
+    return segments;
+  }
+
+  /**
+   * 완성된 배열 요소를 {@code items} 하위 스키마로 Executor에서 검증합니다.
+   */
+  private void dispatchItemValidation(int index, ObjectNode element) {
+    if (itemValidationExecutor == null || spillPolicy != null || schemaIndex.getDiscriminator() != null) {
+      return;
+    }
+    List<String> arrayPath = new ArrayList<>(fieldPath);
+    arrayPath.add(arrayContext.getArrayFieldName());
+    JsonSchema itemSchema = schemaIndex.itemSchema(arrayPath);
+    if (itemSchema == null) {
+      return;
+    }
+    JsonNodePath location = new JsonNodePath(itemSchema.getValidationContext().getConfig().getPathType());
+    for (String segment : arrayPath) {
+      location = location.append(segment);
+    }
+    JsonNodePath elementLocation = location.append(index);
+    itemValidations.computeIfAbsent(List.copyOf(arrayPath), k -> new ArrayList<>())
+        .add(CompletableFuture.supplyAsync(() -> itemSchema.validate(
+            itemSchema.createExecutionContext(), element, element, elementLocation), itemValidationExecutor));
+  }
+
+  /**
+   * 완성된 루트 필드를 하위 스키마로 검증 Executor에서 미리 검증합니다.
+   * 요소를 따로 검증 중인 배열이 들어 있는 필드는 flush 시 나머지 제약과 함께 검증합니다.
+   */
+  private void dispatchMemberValidation(String field, JsonNode value) {
+    if (validationExecutor == null || value == null || spillPolicy != null
+        || schemaIndex.getDiscriminator() != null) {
+      return;
+    }
+    for (List<String> arrayPath : itemValidations.keySet()) {
+      if (arrayPath.get(0).equals(field)) {
+        return;
+      }
+    }
+    JsonSchema memberSchema = schemaIndex.memberSchema(field);
+    if (memberSchema == null) {
+      return;
+    }
+    JsonNodePath location = new JsonNodePath(memberSchema.getValidationContext().getConfig().getPathType())
+        .append(field);
+    memberValidations.put(field, new MemberValidation(value, CompletableFuture.supplyAsync(
+        () -> memberSchema.validate(memberSchema.createExecutionContext(), value, value, location),
+        validationExecutor)));
+  }
+
+  /**
+   * 미리 검증을 맡긴 루트 필드 값과 결과
+   */
+  private record MemberValidation(JsonNode node, CompletableFuture<Set<ValidationMessage>> result) {
+  }
+
+  /**
+   * 완성된 트리를 검증합니다. 미리 검증한 루트 필드와 요소를 미리 검증한 배열은 해당 하위 스키마를 뺀
+   * 스키마로 나머지만 검증하고, 미리 받은 결과를 합칩니다.
+   */
+  private Set<ValidationMessage> validateTree(JsonSchema effective, JsonNode tree) {
+    List<String> members = new ArrayList<>();
+    for (Map.Entry<String, MemberValidation> entry : memberValidations.entrySet()) {
+      // 같은 키가 다시 나오는 등으로 값이 바뀌었으면 전체 검증에 맡김
+      if (tree.get(entry.getKey()) == entry.getValue().node()) {
+        members.add(entry.getKey());
+      }
+    }
+    List<List<String>> validated = new ArrayList<>();
+    for (Map.Entry<List<String>, List<CompletableFuture<Set<ValidationMessage>>>> entry : itemValidations.entrySet()) {
+      JsonNode array = tree;
+      for (String segment : entry.getKey()) {
+        array = array.path(segment);
+      }
+      // 요소 수가 다르면 (복구 등으로) 트리가 달라진 것이므로 전체 검증에 맡김
+      if (array.isArray() && array.size() == entry.getValue().size()) {
+        validated.add(entry.getKey());
+      }
+    }
+    if (members.isEmpty() && validated.isEmpty()) {
+      return effective.validate(tree);
+    }
+    Set<ValidationMessage> errors = new LinkedHashSet<>(
+        schemaIndex.schemaWithout(members, validated).validate(tree));
+    for (String member : members) {
+      errors.addAll(memberValidations.get(member).result().join());
+    }
+    for (List<String> path : validated) {
+      for (CompletableFuture<Set<ValidationMessage>> item : itemValidations.get(path)) {
+        errors.addAll(item.join());
+      }
+    }
+    return errors;
+  }
+
+  /**
+   * 현재 객체의 배열 필드를 반환합니다. 없으면 만듭니다.
+   */
+  private ArrayNode arrayNodeFor(String arrayField) {
+    ObjectNode owner = getCurrentObject();
+    return owner.get(arrayField) instanceof ArrayNode existing ? existing : owner.putArray(arrayField);
+  }
+
+  /**
+   * 완성된 스칼라 값을 현재 객체의 필드 또는 배열에 저장합니다.
+   */
+  private void storeScalar(JsonNode value) {
+    boolean arrayItem = isScalarArrayItem();
+    if (arrayItem && getCurrentObject() != null) {
+      arrayNodeFor(arrayContext.getArrayFieldName()).add(value);
+    } else {
+      setValueInCurrentObject(currentFieldName, value);
+      if (objectStack.size() == 1) {
+        dispatchMemberValidation(currentFieldName, value);
+      }
+    }
+    if (value instanceof POJONode) {
+      hasSpills = true;
+    }
+    if (completionListener != null && (arrayItem || currentFieldName != null)) {
+      fireCompletion(CompletionEvent.Kind.VALUE, valueSegments(), value);
+    }
+  }
+
+  /**
+   * 현재 스칼라 값의 경로 세그먼트
+   */
+  private List<String> valueSegments() {
+    List<String> segments = containerSegments();
+    segments.add(isScalarArrayItem() ? "[" + (arrayContext.getElementCount() - 1) + "]" : currentFieldName);
+    return segments;
+  }
+
+  private boolean isScalarArrayItem() {
+    return arrayContext.isInArray() && !arrayContext.isInArrayElement();
+  }
+
+  /**
+   * 현재 값이 들어 있는 컨테이너까지의 경로 세그먼트 (필드명 또는 {@code [n]})
+   */
+  private List<String> containerSegments() {
+    List<String> segments = new ArrayList<>(fieldPath);
+    if (arrayContext.isInArray()) {
+      segments.add(arrayContext.getArrayFieldName());
+      if (arrayContext.isInArrayElement()) {
+        segments.add("[" + arrayContext.getCurrentIndex() + "]");
+      }
+    }
+    return segments;
+  }
+
+  private static String formatPath(List<String> segments) {
+    StringBuilder path = new StringBuilder("$");
+    for (String segment : segments) {
+      if (!segment.startsWith("[")) {
+        path.append('.');
+      }
+      path.append(segment);
+    }
+    return path.toString();
+  }
+
+  private void fireCompletion(CompletionEvent.Kind kind, List<String> segments, JsonNode value) {
+    Set<ValidationMessage> errors = Set.of();
+    if (validateCompletions) {
+      List<String> schemaPath = segments.stream().map(s -> s.startsWith("[") ? "[]" : s).toList();
+      JsonSchema subSchema = schemaIndex.subSchema(selectedBranch, schemaPath);
+      if (subSchema != null) {
+        errors = subSchema.validate(withSpillsInlined(value));
+      }
+    }
+    completionListener.onComplete(new CompletionEvent(kind, formatPath(segments), value, errors));
+  }
+
   private void emitStringIncrement(int fromPos) {
     String increment = stringContext.extractIncrement(fromPos);
     if (increment != null) {
-      emitDelta(currentFieldName, increment);
+      if (binaryDecoder != null) {
+        decodeBinary(binaryDecoder, increment);
+      } else {
+        deliverText(increment);
+      }
+      if (enumMatcher != null) {
+        trackEnumPrefix(increment);
+      }
+      if (constraintMatcher != null) {
+        checkConstraint(constraintMatcher.append(increment));
+      }
     }
   }
 
   private void handleStringComplete(String fullValue) {
     String remaining = stringContext.completeString(fullValue);
+    completeConstraints(fullValue, remaining);
+    completeStringDelivery(remaining);
+    if (enumResolutionListener != null) {
+      completeEnumValue(fullValue);
+    }
+    storeScalar(nodeFactory.textNode(fullValue));
+  }
+
+  /**
+   * 완성된 문자열의 아직 전달하지 않은 부분을 델타 또는 디코딩된 바이트로 전달합니다.
+   */
+  private void completeStringDelivery(String remaining) {
+    Base64StreamDecoder decoder = binaryDecoder;
+    binaryDecoder = null;
+    if (decoder == null && binaryContentListener != null && currentFieldName != null && !isScalarArrayItem()
+        && schemaIndex.isBase64(selectedBranch, memberSchemaPath())) {
+      // 한 번에 완성되어 스트리밍되지 않은 값
+      decoder = new Base64StreamDecoder();
+    }
+    if (decoder == null) {
+      String text = takeHeldText(remaining);
+      if (text != null) {
+        deltaBuilder.add(new Delta.StringIncrement(deltaPath(), currentFieldName, text));
+      }
+      return;
+    }
     if (remaining != null) {
-      emitDelta(currentFieldName, remaining);
+      decodeBinary(decoder, remaining);
     }
-    setValueInCurrentObject(currentFieldName, fullValue);
+    decodeBinary(decoder, null);
+    binaryContentListener.onComplete(describePath(), decoder.getTotalBytes());
   }
 
-  private void emitDelta(String field, Object value) {
+  /**
+   * 문자열 증분을 현재 델타 단위에 맞춰 전달하거나 보류합니다.
+   */
+  private void deliverText(String increment) {
+    if (heldText.isEmpty() && granularity == DeltaGranularity.CHARACTER) {
+      deltaBuilder.add(new Delta.StringIncrement(deltaPath(), currentFieldName, increment));
+      return;
+    }
+    heldText.append(increment);
+    int end = switch (granularity) {
+      case CHARACTER -> heldText.length();
+      case WORD -> lastBoundaryEnd(heldText);
+      case FIELD -> 0;
+    };
+    if (end > 0) {
+      deltaBuilder.add(new Delta.StringIncrement(deltaPath(), currentFieldName, heldText.substring(0, end)));
+      heldText.delete(0, end);
+    }
+  }
+
+  private static int lastBoundaryEnd(CharSequence text) {
+    for (int i = text.length() - 1; i >= 0; i--) {
+      if (DeltaGranularity.isBoundary(text.charAt(i))) {
+        return i + 1;
+      }
+    }
+    return 0;
+  }
+
+  /**
+   * 보류한 앞부분과 남은 부분을 합쳐 반환하고 보류를 비웁니다. (둘 다 없으면 null)
+   */
+  private String takeHeldText(String remaining) {
+    if (heldText.isEmpty()) {
+      return remaining;
+    }
+    if (remaining != null) {
+      heldText.append(remaining);
+    }
+    String text = heldText.toString();
+    heldText.setLength(0);
+    return text;
+  }
+
+  /**
+   * 현재 필드가 base64 문자열이면 증분 디코딩을 시작합니다.
+   */
+  private void startBinaryDecoding() {
+    binaryDecoder = null;
+    if (binaryContentListener != null && currentFieldName != null && !isScalarArrayItem()
+        && schemaIndex.isBase64(selectedBranch, memberSchemaPath())) {
+      binaryDecoder = new Base64StreamDecoder();
+    }
+  }
+
+  /**
+   * 증분을 디코딩해 전달합니다. (chars가 null이면 남은 문자를 마무리)
+   */
+  private void decodeBinary(Base64StreamDecoder decoder, CharSequence chars) {
+    ByteBuffer chunk;
+    try {
+      chunk = chars == null ? decoder.finish() : decoder.decode(chars);
+    } catch (IllegalArgumentException e) {
+      throw new SchemaViolationException("Invalid base64 content: " + e.getMessage(), describePath());
+    }
+    if (chunk.hasRemaining() && !replayingTail) {
+      binaryContentListener.onChunk(describePath(), chunk);
+    }
+  }
+
+  /**
+   * 파서 버퍼의 문자열을 String으로 만들지 않고 임시 파일로 내보냅니다.
+   */
+  private void handleSpilledStringComplete() throws IOException {
+    CharBuffer value = CharBuffer.wrap(parser.getTextCharacters(), parser.getTextOffset(), parser.getTextLength());
+    String remaining = stringContext.completeString(value);
+    completeConstraints(value, remaining);
+    completeStringDelivery(remaining);
+    if (enumResolutionListener != null) {
+      completeEnumValue(value);
+    }
+    SpilledString spilled;
+    try {
+      spilled = SpilledString.write(value, spillPolicy.getDirectory());
+    } catch (IOException e) {
+      throw new JsonStreamingException("Failed to spill string value", e);
+    }
+    storeScalar(nodeFactory.pojoNode(spilled));
+  }
+
+  /**
+   * 스키마 검증용으로, 내보낸 문자열을 텍스트 노드로 바꾼 사본을 반환합니다.
+   * 내보낸 값이 없으면 원본을 그대로 반환하며, 어느 경우든 누적 트리는 바꾸지 않으므로 다른 스레드에서 호출해도 됩니다.
+   */
+  private JsonNode withSpillsInlined(JsonNode node) {
+    if (!hasSpills) {
+      return node;
+    }
+    if (node instanceof POJONode pojo && pojo.getPojo() instanceof SpilledString spilled) {
+      return nodeFactory.textNode(spilled.toString());
+    }
+    if (node instanceof ObjectNode object) {
+      ObjectNode copy = nodeFactory.objectNode();
+      object.properties().forEach(field -> copy.set(field.getKey(), withSpillsInlined(field.getValue())));
+      return copy;
+    }
+    if (node instanceof ArrayNode array) {
+      ArrayNode copy = nodeFactory.arrayNode(array.size());
+      array.forEach(item -> copy.add(withSpillsInlined(item)));
+      return copy;
+    }
+    return node;
+  }
+
+  /**
+   * 현재 필드가 속한 델타 경로 (배열 요소 안이면 요소 경로)
+   */
+  private DeltaPath deltaPath() {
     if (arrayContext.isInArrayElement()) {
-      deltaBuilder.addArrayElement(field, value, fieldPath,
-          arrayContext.getArrayFieldName(), arrayContext.getCurrentIndex());
-    } else {
-      deltaBuilder.add(field, value, fieldPath);
+      return deltaBuilder.elementPath(fieldPath, arrayContext.getArrayFieldName(), arrayContext.getCurrentIndex());
     }
+    return deltaBuilder.path(fieldPath);
   }
 
-  private Map<String, Object> getCurrentObject() {
+  private ObjectNode getCurrentObject() {
     return objectStack.isEmpty() ? rootObject : objectStack.peek();
   }
 
-  private void setValueInCurrentObject(String field, Object value) {
-    Map<String, Object> current = getCurrentObject();
+  private void setValueInCurrentObject(String field, JsonNode value) {
+    ObjectNode current = getCurrentObject();
     if (current != null && field != null) {
-      current.put(field, value);
+      current.set(field, value);
+      if (current == rootObject && selectedBranch < 0) {
+        routeDiscriminator(field, value);
+      }
     }
   }
 
-  private void validateSchema(Map<String, Object> obj) {
-    try {
-      JsonNode node = objectMapper.valueToTree(obj);
-      Set<ValidationMessage> errors = schema.validate(node);
+  private void routeDiscriminator(String field, JsonNode value) {
+    SchemaIndex.Discriminator discriminator = schemaIndex.getDiscriminator();
+    if (discriminator == null || !discriminator.property().equals(field)) {
+      return;
+    }
+    Integer branch = discriminator.branchOf(value);
+    if (branch == null) {
+      throw new SchemaViolationException("Unknown discriminator value " + value
+          + ", expected one of " + discriminator.branches().keySet(), "$." + field);
+    }
+    selectedBranch = branch;
+  }
 
-      if (!errors.isEmpty()) {
-        String message = errors.stream()
-            .map(ValidationMessage::getMessage)
-            .collect(java.util.stream.Collectors.joining(", "));
-        throw new JsonStreamingException("JSON Schema validation failed: " + message);
-      }
-    } catch (JsonStreamingException e) {
-      throw e;
+  private JsonSchema effectiveSchema() {
+    return selectedBranch >= 0 ? schemaIndex.branchSchema(selectedBranch) : schema;
+  }
+
+  private void validateSchema(JsonNode node) {
+    ValidationEvent event = new ValidationEvent();
+    event.begin();
+    Set<ValidationMessage> errors;
+    try {
+      errors = validateTree(effectiveSchema(), withSpillsInlined(node));
     } catch (Exception e) {
-      throw new JsonStreamingException("Schema validation failed", e);
+      JsonStreamingException failure = new JsonStreamingException("Schema validation failed", e);
+      validationResult.completeExceptionally(failure);
+      throw failure;
+    }
+
+    if (event.shouldCommit()) {
+      event.errors = errors.size();
+      event.commit();
+    }
+    validationResult.complete(new ValidationResult(true, errors));
+    if (!errors.isEmpty()) {
+      String message = errors.stream()
+          .map(ValidationMessage::getMessage)
+          .collect(Collectors.joining(", "));
+      throw new JsonStreamingException("JSON Schema validation failed: " + message);
     }
   }
 
   public String getCurrentBuffer() {
     return rawBuffer.toString();
   }
+
+  /**
+   * 현재 상태를 버전이 포함된 바이너리 체크포인트로 저장합니다.
+   * <p>
+   * {@link #feedToken(String)} 호출 사이에서만 호출해야 합니다.
+   * 누적 객체, 경로 및 배열 상태, 델타 순번, 델타 단위 때문에 보류 중인 문자열과
+   * 마지막 완성 토큰 이후의 미완성 입력만 기록하므로 전체 입력 크기와 무관하게 누적 객체 크기 정도로 유지됩니다.
+   * </p>
+   *
+   * @return {@link #restore(JsonSchema, byte[])}로 복원 가능한 체크포인트
+   */
+  public byte[] checkpoint() {
+    byte[] raw = rawBuffer.toString().getBytes(StandardCharsets.UTF_8);
+    int tailStart = (int) (lastTokenEndOffset - parserByteBase);
+    byte[] tail = Arrays.copyOfRange(raw, Math.max(0, tailStart), raw.length);
+
+    List<AdapterCheckpoint.ParserContext> contexts = parserContexts();
+
+    List<byte[]> stackJson = new ArrayList<>(objectStack.size());
+    Iterator<ObjectNode> bottomUp = objectStack.descendingIterator();
+    while (bottomUp.hasNext()) {
+      stackJson.add(toJsonBytes(bottomUp.next()));
+    }
+    byte[] rootJson = objectStack.isEmpty() && rootObject != null ? toJsonBytes(rootObject) : null;
+
+    return new AdapterCheckpoint(leafKindOf(lastToken), contexts, tail,
+        currentFieldName, awaitingValue,
+        arrayContext.isInArray(), arrayContext.getArrayFieldName(), arrayContext.getAutoIndex(),
+        arrayContext.getExplicitIndex(), arrayContext.isInArrayElement(),
+        new ArrayList<>(fieldPath), rootJson, stackJson, sequence,
+        heldText.isEmpty() ? null : heldText.toString(),
+        enumMatcher != null && enumMatcher.isResolved()).toBytes();
+  }
+
+  /**
+   * 체크포인트로부터 어댑터를 복원합니다.
+   * <p>
+   * 새 파서에는 중첩 상태를 재현하는 최소 접두어와 미완성 입력만 다시 피드되며,
+   * 이미 반환된 델타는 다시 반환되지 않습니다. 복원된 어댑터의 {@link #getCurrentBuffer()}는
+   * 체크포인트 이후 입력만 포함합니다.
+   * </p>
+   *
+   * @param schema     원래 어댑터와 동일한 스키마
+   * @param checkpoint {@link #checkpoint()}가 반환한 바이트
+   */
+  public static JsonStreamingAdapter restore(JsonSchema schema, byte[] checkpoint) {
+    return restore(schema, StreamingOptions.defaults(), checkpoint);
+  }
+
+  /**
+   * 체크포인트로부터 지정한 옵션의 어댑터를 복원합니다.
+   *
+   * @see #restore(JsonSchema, byte[])
+   */
+  public static JsonStreamingAdapter restore(JsonSchema schema, StreamingOptions options, byte[] checkpoint) {
+    AdapterCheckpoint cp = AdapterCheckpoint.fromBytes(checkpoint);
+    JsonStreamingAdapter adapter = new JsonStreamingAdapter(schema, options);
+    try {
+      // 복원되는 트리와 입력은 체크포인트 크기로 추정
+      adapter.chargeMemory(checkpoint.length);
+    } catch (StreamingLimitExceededException e) {
+      adapter.close();
+      throw e;
+    }
+    adapter.applyCheckpoint(cp);
+    return adapter;
+  }
+
+  private void applyCheckpoint(AdapterCheckpoint cp) {
+    restored = true;
+    sequence = cp.sequence();
+    if (journal != null) {
+      // 복원 이전 델타는 없으므로 그 순번을 요청하면 재전송 대신 스냅샷 경로로 가도록 함
+      journal = new DeltaJournal(journal.capacity(), sequence);
+    }
+    try {
+      byte[] prefix = cp.parserPrefix();
+      feeder.feedInput(prefix, 0, prefix.length);
+      JsonToken token;
+      while ((token = parser.nextToken()) != null && token != JsonToken.NOT_AVAILABLE) {
+        // 접두어 토큰은 상태에 반영하지 않음
+        lastToken = token;
+      }
+      parserByteBase = prefix.length;
+      lastTokenEndOffset = prefix.length;
+
+      for (byte[] json : cp.objectStackJson()) {
+        objectStack.push(fromJsonBytes(json));
+      }
+      rootObject = objectStack.isEmpty()
+          ? (cp.rootObjectJson() != null ? fromJsonBytes(cp.rootObjectJson()) : null)
+          : objectStack.peekLast();
+      SchemaIndex.Discriminator discriminator = schemaIndex.getDiscriminator();
+      if (discriminator != null && rootObject != null && rootObject.has(discriminator.property())) {
+        routeDiscriminator(discriminator.property(), rootObject.get(discriminator.property()));
+      }
+      fieldPath.addAll(cp.fieldPath());
+      currentFieldName = cp.currentFieldName();
+      awaitingValue = cp.awaitingValue();
+      arrayContext.restore(cp.inArray(), cp.arrayFieldName(), cp.autoIndex(),
+          cp.explicitIndex(), cp.inArrayElement());
+
+      // 미완성 입력 재피드: 문자열 진행 위치와 디코더 상태만 재구성하고 델타와 디코딩 결과는 버림
+      byte[] tail = cp.tail();
+      rawBuffer.append(new String(tail, StandardCharsets.UTF_8));
+      bufferHighWaterMark = rawBuffer.length();
+      feeder.feedInput(tail, 0, tail.length);
+      replayingTail = true;
+      try {
+        processTokens();
+      } finally {
+        replayingTail = false;
+      }
+      if (cp.enumResolved() && enumMatcher != null) {
+        enumMatcher.markResolved();
+      }
+      deltaBuilder.clear();
+      heldText.setLength(0);
+      if (cp.heldText() != null) {
+        // 재피드로는 이미 전달한 것으로 처리되므로 보류분을 되살림
+        heldText.append(cp.heldText());
+      }
+    } catch (IOException e) {
+      throw new JsonStreamingException("Failed to restore checkpoint", e);
+    }
+  }
+
+  private List<AdapterCheckpoint.ParserContext> parserContexts() {
+    List<AdapterCheckpoint.ParserContext> contexts = new ArrayList<>();
+    for (JsonStreamContext ctx = parser.getParsingContext(); ctx != null && !ctx.inRoot(); ctx = ctx.getParent()) {
+      contexts.add(0, new AdapterCheckpoint.ParserContext(ctx.inArray(), ctx.getCurrentName()));
+    }
+    return contexts;
+  }
+
+  /**
+   * 구문 오류를 알리고, 마지막 완성 토큰 이후에서 다시 맞출 지점을 찾아 새 파서로 이어서 파싱합니다.
+   * 다시 맞춘 뒤에도 오류가 나면 반복하며, 매번 이전 지점보다 뒤에서 찾으므로 입력이 끝나기 전에 멈춥니다.
+   */
+  private void recover(JsonParseException error) {
+    JsonParseException e = error;
+    while (e != null) {
+      int tokenEnd = charIndexOfByte(lastTokenEndOffset - parserByteBase);
+      int errorAt = Math.max(tokenEnd, charIndexOfByte(e.getLocation().getByteOffset() - parserByteBase));
+      errorRecoveryListener.onRecovered(describePath(), inputOffset(errorAt), e.getOriginalMessage());
+
+      recovered = true;
+      resyncing = true;
+      resyncContexts = parserContexts();
+      // 값을 읽던 중이면 그 값은 버림
+      resyncLeaf = lastToken == JsonToken.FIELD_NAME ? AdapterCheckpoint.LeafKind.VALUE : leafKindOf(lastToken);
+      resyncFrom = Math.max(tokenEnd, recoveryFloor);
+      // 배열의 깨진 요소는 마지막 값 뒤의 쉼표 다음부터 시작
+      int separator = resyncLeaf == AdapterCheckpoint.LeafKind.VALUE ? skipWhitespace(tokenEnd) : -1;
+      resyncSkipFrom = separator >= 0 && rawBuffer.charAt(separator) == ',' ? separator + 1 : resyncFrom;
+      resyncSkipFrom = Math.max(resyncSkipFrom, recoveryFloor);
+      resyncCommaCandidate = true;
+      awaitingValue = false;
+      stringContext.reset();
+      enumMatcher = null;
+      constraintMatcher = null;
+      binaryDecoder = null;
+      heldText.setLength(0);
+      try {
+        resync();
+        e = null;
+      } catch (JsonParseException next) {
+        e = next;
+      } catch (StreamingLimitExceededException limit) {
+        throw limitExceeded(limit);
+      } catch (IOException io) {
+        throw new JsonStreamingException("Failed to recover from malformed input", io);
+      }
+    }
+  }
+
+  /**
+   * 다시 맞출 지점이 버퍼에 있으면 그 지점부터 새 파서로 파싱합니다. 없으면 다음 입력을 기다립니다.
+   */
+  private void resync() throws IOException {
+    boolean inArray = !resyncContexts.isEmpty() && resyncContexts.get(resyncContexts.size() - 1).array();
+    boolean opened = resyncLeaf == AdapterCheckpoint.LeafKind.OPENED;
+    String insert = "";
+    int from = -1;
+    if (resyncContexts.isEmpty()) {
+      // 루트 객체 시작 전: 다음 '{'부터 (이미 완성된 뒤의 입력은 무시)
+      int brace = rawBuffer.indexOf("{", resyncFrom);
+      if (rootObject == null && brace >= 0) {
+        from = brace;
+      } else {
+        resyncFrom = rawBuffer.length();
+      }
+    } else if (inArray) {
+      resyncInsertComma = false;
+      from = findArraySync(opened);
+      insert = resyncInsertComma ? "," : "";
+    } else {
+      from = findObjectSync();
+      insert = from >= 0 && !opened && rawBuffer.charAt(from) == '"' ? "," : "";
+    }
+    if (from < 0) {
+      return;
+    }
+
+    long offset = inputOffset(from);
+    String text = insert + rawBuffer.substring(from);
+    resyncing = false;
+    parser.close();
+    parser = parserFactory.createNonBlockingByteArrayParser();
+    feeder = (ByteArrayFeeder) parser.getNonBlockingInputFeeder();
+    byte[] prefix = AdapterCheckpoint.parserPrefix(resyncContexts, resyncLeaf);
+    feeder.feedInput(prefix, 0, prefix.length);
+    JsonToken token;
+    while ((token = parser.nextToken()) != null && token != JsonToken.NOT_AVAILABLE) {
+      // 접두어 토큰은 상태에 반영하지 않음
+      lastToken = token;
+    }
+    parserByteBase = prefix.length;
+    lastTokenEndOffset = prefix.length;
+    int discarded = rawBuffer.length() - text.length();
+    rawBuffer.setLength(0);
+    rawBuffer.append(text);
+    rawBuffer.trimToSize();
+    releaseBuffered(discarded);
+    insertedChars = insert.length();
+    rawBufferOffset = offset;
+    recoveryFloor = insertedChars + 1;
+
+    byte[] bytes = text.getBytes(StandardCharsets.UTF_8);
+    feeder.feedInput(bytes, 0, bytes.length);
+    processTokens();
+  }
+
+  /**
+   * 객체 안에서 다시 맞출 지점: 다음 키({@code "name":})의 여는 따옴표 또는 닫는 중괄호
+   *
+   * @return rawBuffer 위치 (아직 판단할 수 없으면 -1)
+   */
+  private int findObjectSync() {
+    for (int i = resyncFrom; i < rawBuffer.length(); i++) {
+      char c = rawBuffer.charAt(i);
+      if (c == '}') {
+        return i;
+      }
+      if (c != '"') {
+        continue;
+      }
+      int close = closingQuote(i + 1);
+      int next = close < 0 ? -1 : skipWhitespace(close + 1);
+      if (next < 0) {
+        // 키인지 판단하려면 다음 입력이 필요
+        resyncFrom = i;
+        return -1;
+      }
+      if (rawBuffer.charAt(next) == ':') {
+        return i;
+      }
+    }
+    resyncFrom = rawBuffer.length();
+    return -1;
+  }
+
+  /**
+   * 배열 안에서 다시 맞출 지점: 쉼표가 빠진 것으로 보이는 바로 다음 값, 깨진 요소 다음의 요소, 또는 닫는 대괄호
+   *
+   * @return rawBuffer 위치 (아직 판단할 수 없으면 -1)
+   */
+  private int findArraySync(boolean opened) {
+    if (resyncCommaCandidate && !opened) {
+      int next = skipWhitespace(resyncFrom);
+      if (next < 0) {
+        return -1;
+      }
+      if ("\"{[-0123456789tfn".indexOf(rawBuffer.charAt(next)) >= 0) {
+        resyncCommaCandidate = false;
+        resyncInsertComma = true;
+        return next;
+      }
+    }
+    resyncCommaCandidate = false;
+    for (int i = resyncSkipFrom; i < rawBuffer.length(); i++) {
+      char c = rawBuffer.charAt(i);
+      if (c == ']') {
+        return i;
+      }
+      if (c == ',') {
+        // 첫 요소가 깨진 경우에는 쉼표 다음부터
+        return opened ? i + 1 : i;
+      }
+    }
+    resyncSkipFrom = rawBuffer.length();
+    return -1;
+  }
+
+  private int closingQuote(int from) {
+    for (int i = from; i < rawBuffer.length(); i++) {
+      char c = rawBuffer.charAt(i);
+      if (c == '\\') {
+        i++;
+      } else if (c == '"') {
+        return i;
+      }
+    }
+    return -1;
+  }
+
+  private int skipWhitespace(int from) {
+    for (int i = from; i < rawBuffer.length(); i++) {
+      if (!Character.isWhitespace(rawBuffer.charAt(i))) {
+        return i;
+      }
+    }
+    return -1;
+  }
+
+  /**
+   * rawBuffer 위치를 입력 전체의 문자 위치로 바꿉니다. (복구 시 넣은 문자는 제외)
+   */
+  private long inputOffset(int index) {
+    return rawBufferOffset + Math.max(0, index - insertedChars);
+  }
+
+  /**
+   * 파서 기준 바이트 위치를 rawBuffer 문자 위치로 바꿉니다.
+   */
+  private int charIndexOfByte(long byteIndex) {
+    long bytes = 0;
+    for (int i = 0; i < rawBuffer.length(); i++) {
+      if (bytes >= byteIndex) {
+        return i;
+      }
+      char c = rawBuffer.charAt(i);
+      if (c < 0x80) {
+        bytes += 1;
+      } else if (c < 0x800) {
+        bytes += 2;
+      } else if (Character.isHighSurrogate(c)) {
+        bytes += 4;
+        i++;
+      } else {
+        bytes += 3;
+      }
+    }
+    return rawBuffer.length();
+  }
+
+  private static AdapterCheckpoint.LeafKind leafKindOf(JsonToken token) {
+    if (token == null) {
+      return AdapterCheckpoint.LeafKind.NONE;
+    }
+    return switch (token) {
+      case START_OBJECT, START_ARRAY -> AdapterCheckpoint.LeafKind.OPENED;
+      case FIELD_NAME -> AdapterCheckpoint.LeafKind.FIELD_NAME;
+      default -> AdapterCheckpoint.LeafKind.VALUE;
+    };
+  }
+
+  private byte[] toJsonBytes(JsonNode obj) {
+    try {
+      return objectMapper.writeValueAsBytes(obj);
+    } catch (IOException e) {
+      throw new JsonStreamingException("Failed to serialize accumulated object", e);
+    }
+  }
+
+  private ObjectNode fromJsonBytes(byte[] json) throws IOException {
+    if (!(objectMapper.readTree(json) instanceof ObjectNode node)) {
+      throw new JsonStreamingException("Corrupted checkpoint: accumulated value is not an object");
+    }
+    return node;
+  }
 }
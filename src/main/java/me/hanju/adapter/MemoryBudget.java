@@ -0,0 +1,326 @@
+package me.hanju.adapter;
+
+import java.lang.ref.Cleaner;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import me.hanju.adapter.exception.StreamingLimitExceededException;
+import me.hanju.adapter.exception.StreamingLimitExceededException.Limit;
+
+/**
+ * 여러 어댑터가 공유하는 메모리 예산
+ * <p>
+ * 어댑터는 입력이 쌓일 때마다 원본 버퍼와 누적 트리가 차지할 크기의 추정치({@value #BYTES_PER_INPUT_CHAR}바이트/문자)와
+ * 재전송 버퍼에 보관한 델타의 추정 크기를 청크 단위로 예약합니다. 오류 복구로 원본 버퍼가 줄거나 재전송 버퍼에서
+ * 델타가 밀려나면 남는 청크를 바로 반환하고, 나머지는 {@link JsonStreamingAdapter#close()}에서 반환합니다.
+ * 닫지 않은 어댑터의 예약은 어댑터가 수거될 때 반환됩니다. 사용량은 스트라이프된 카운터에 기록되므로 많은 스레드가 동시에 예약해도
+ * 경합이 적지만, 동시에 예약하는 어댑터들이 한도를 청크 크기만큼 넘을 수 있습니다.
+ * </p>
+ * <p>
+ * 예산이 소진되면 새 어댑터 생성은 {@link StreamingLimitExceededException}({@link Limit#MEMORY_BUDGET})으로 거부되고,
+ * 이미 열린 스트림은 {@link Policy}에 따라 처리됩니다. 설정 메서드는 어댑터에 전달하기 전에 호출해야 합니다.
+ * </p>
+ */
+public class MemoryBudget {
+
+  /**
+   * 입력 한 문자당 예약하는 바이트 수 (원본 버퍼와 누적 트리의 UTF-16 사본)
+   */
+  static final int BYTES_PER_INPUT_CHAR = 4;
+
+  /**
+   * 그 중 원본 버퍼 몫 (버퍼가 줄면 이만큼 반환)
+   */
+  static final int BYTES_PER_BUFFERED_CHAR = 2;
+
+  /**
+   * 재전송 버퍼의 델타 하나에 JSON 문자열 외에 더하는 바이트 수 (레코드, 델타, 경로)
+   */
+  static final int JOURNAL_ENTRY_OVERHEAD = 96;
+
+  private static final Cleaner CLEANER = Cleaner.create();
+
+  /**
+   * 열린 스트림이 예산을 넘으려 할 때의 처리 방식
+   */
+  public enum Policy {
+    /** 해당 스트림의 피드를 예외로 실패시킴 */
+    REJECT,
+    /** 다른 스트림이 반환할 때까지 피드 스레드를 대기시키고, 시간 안에 확보하지 못하면 실패시킴 */
+    BACKPRESSURE,
+    /** 한도를 넘겨 예약하되 해당 어댑터를 저메모리 모드로 전환 (재전송 버퍼 비움) */
+    LOW_MEMORY
+  }
+
+  private final long maxBytes;
+  private Policy policy = Policy.REJECT;
+  private long backpressureTimeoutNanos = Duration.ofSeconds(1).toNanos();
+  private int chunkBytes = 8 * 1024;
+
+  private final LongAdder reserved = new LongAdder();
+  private final LongAdder rejectedStreams = new LongAdder();
+  private final Object releaseMonitor = new Object();
+  private volatile int waiters = 0;
+
+  private MemoryBudget(long maxBytes) {
+    this.maxBytes = maxBytes;
+  }
+
+  /**
+   * @param maxBytes 모든 어댑터가 함께 예약할 수 있는 최대 바이트 수
+   */
+  public static MemoryBudget of(long maxBytes) {
+    if (maxBytes <= 0) {
+      throw new IllegalArgumentException("Max bytes must be positive");
+    }
+    return new MemoryBudget(maxBytes);
+  }
+
+  /**
+   * 예산을 넘으려는 스트림의 처리 방식을 지정합니다. (기본: {@link Policy#REJECT})
+   */
+  public MemoryBudget policy(Policy policy) {
+    if (policy == null) {
+      throw new IllegalArgumentException("Policy cannot be null");
+    }
+    this.policy = policy;
+    return this;
+  }
+
+  /**
+   * {@link Policy#BACKPRESSURE}에서 피드 한 번이 예약을 기다릴 최대 시간 (기본: 1초)
+   */
+  public MemoryBudget backpressureTimeout(Duration timeout) {
+    if (timeout == null || timeout.isNegative()) {
+      throw new IllegalArgumentException("Backpressure timeout must not be negative");
+    }
+    this.backpressureTimeoutNanos = timeout.toNanos();
+    return this;
+  }
+
+  /**
+   * 어댑터가 한 번에 예약하는 단위 (기본: 8KiB)
+   * 클수록 공유 카운터 접근이 줄지만 스트림마다 미리 잡아 두는 양이 늘어납니다.
+   */
+  public MemoryBudget chunkBytes(int chunkBytes) {
+    if (chunkBytes <= 0) {
+      throw new IllegalArgumentException("Chunk bytes must be positive");
+    }
+    this.chunkBytes = chunkBytes;
+    return this;
+  }
+
+  public long getMaxBytes() {
+    return maxBytes;
+  }
+
+  public Policy getPolicy() {
+    return policy;
+  }
+
+  /**
+   * 현재 예약된 바이트 수
+   */
+  public long getReservedBytes() {
+    return reserved.sum();
+  }
+
+  public boolean isExhausted() {
+    return reserved.sum() >= maxBytes;
+  }
+
+  /**
+   * 예산 소진으로 생성이 거부된 스트림 수
+   */
+  public long getRejectedStreams() {
+    return rejectedStreams.sum();
+  }
+
+  /**
+   * 새 스트림의 예약 계정을 엽니다. 소유자는 생성이 끝난 뒤 {@link Account#bind(Object)}로 등록합니다.
+   *
+   * @throws StreamingLimitExceededException 예산이 소진된 경우
+   */
+  Account open() {
+    if (isExhausted()) {
+      rejectedStreams.increment();
+      throw new StreamingLimitExceededException(Limit.MEMORY_BUDGET, maxBytes, null);
+    }
+    return new Account(this);
+  }
+
+  /**
+   * 재전송 버퍼에 보관한 델타 하나의 추정 크기 (JSON 문자열과 델타 객체)
+   */
+  static long journalEntryBytes(SequencedDelta entry) {
+    return JOURNAL_ENTRY_OVERHEAD + (long) entry.json().length() * BYTES_PER_INPUT_CHAR;
+  }
+
+  private boolean tryReserve(long bytes) {
+    if (reserved.sum() + bytes > maxBytes) {
+      return false;
+    }
+    reserved.add(bytes);
+    return true;
+  }
+
+  private boolean awaitReserve(long bytes) {
+    long deadline = System.nanoTime() + backpressureTimeoutNanos;
+    synchronized (releaseMonitor) {
+      waiters++;
+      try {
+        while (!tryReserve(bytes)) {
+          long remaining = deadline - System.nanoTime();
+          if (remaining <= 0) {
+            return false;
+          }
+          releaseMonitor.wait(Math.max(1, remaining / 1_000_000));
+        }
+        return true;
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        return false;
+      } finally {
+        waiters--;
+      }
+    }
+  }
+
+  private void release(long bytes) {
+    if (bytes == 0) {
+      return;
+    }
+    reserved.add(-bytes);
+    if (waiters > 0) {
+      synchronized (releaseMonitor) {
+        releaseMonitor.notifyAll();
+      }
+    }
+  }
+
+  /**
+   * 어댑터 하나의 예약 (피드 스레드에서만 {@link #charge(long)}, {@link #release(long)} 호출)
+   */
+  static final class Account {
+
+    private final MemoryBudget budget;
+    private final Reservation reservation;
+    private Cleaner.Cleanable cleanable;
+    private long used = 0;
+
+    private Account(MemoryBudget budget) {
+      this.budget = budget;
+      this.reservation = new Reservation(budget);
+    }
+
+    /**
+     * 소유자가 수거되면 예약이 반환되도록 등록합니다. 생성자 밖에서, 첫 예약 전에 호출합니다. (두 번째 호출부터는 무시)
+     */
+    void bind(Object owner) {
+      if (cleanable == null) {
+        cleanable = CLEANER.register(owner, reservation);
+      }
+    }
+
+    /**
+     * 사용량을 늘리고, 모자라면 청크 단위로 더 예약합니다.
+     *
+     * @return 예산을 넘겨 저메모리 모드로 전환해야 하면 true
+     * @throws StreamingLimitExceededException 예약하지 못한 경우 ({@link Policy#REJECT}, {@link Policy#BACKPRESSURE})
+     */
+    boolean charge(long bytes) {
+      long chunk = shortfall(bytes);
+      if (chunk == 0) {
+        used += bytes;
+        return false;
+      }
+      boolean overBudget = false;
+      if (!budget.tryReserve(chunk)) {
+        switch (budget.policy) {
+          case REJECT -> throw new StreamingLimitExceededException(Limit.MEMORY_BUDGET, budget.maxBytes, null);
+          case BACKPRESSURE -> {
+            if (!budget.awaitReserve(chunk)) {
+              throw new StreamingLimitExceededException(Limit.MEMORY_BUDGET, budget.maxBytes, null);
+            }
+          }
+          case LOW_MEMORY -> {
+            budget.reserved.add(chunk);
+            overBudget = true;
+          }
+        }
+      }
+      reservation.bytes.addAndGet(chunk);
+      used += bytes;
+      return overBudget;
+    }
+
+    /**
+     * 정책과 무관하게 대기하거나 한도를 넘기지 않고 예약합니다. (버려도 되는 재전송 버퍼용)
+     *
+     * @return 예약하지 못했으면 false (사용량은 그대로)
+     */
+    boolean tryCharge(long bytes) {
+      long chunk = shortfall(bytes);
+      if (chunk > 0) {
+        if (!budget.tryReserve(chunk)) {
+          return false;
+        }
+        reservation.bytes.addAndGet(chunk);
+      }
+      used += bytes;
+      return true;
+    }
+
+    /**
+     * 사용량을 줄이고, 쓰지 않게 된 청크를 예산에 반환합니다.
+     */
+    void release(long bytes) {
+      used = Math.max(0, used - bytes);
+      long surplus = reservation.bytes.get() - used;
+      long excess = surplus / budget.chunkBytes * budget.chunkBytes;
+      if (excess > 0) {
+        reservation.bytes.addAndGet(-excess);
+        budget.release(excess);
+      }
+    }
+
+    long getReservedBytes() {
+      return reservation.bytes.get();
+    }
+
+    void close() {
+      if (cleanable != null) {
+        cleanable.clean();
+      } else {
+        reservation.run();
+      }
+    }
+
+    /**
+     * 사용량을 {@code bytes}만큼 늘리려면 더 예약해야 하는 양 (청크 단위로 올림, 필요 없으면 0)
+     */
+    private long shortfall(long bytes) {
+      long needed = used + bytes - reservation.bytes.get();
+      return needed <= 0 ? 0 : (needed + budget.chunkBytes - 1) / budget.chunkBytes * budget.chunkBytes;
+    }
+  }
+
+  /**
+   * 반환 작업 (소유자를 참조하지 않아야 수거 시 실행됨)
+   */
+  private static final class Reservation implements Runnable {
+
+    private final MemoryBudget budget;
+    private final AtomicLong bytes = new AtomicLong();
+
+    Reservation(MemoryBudget budget) {
+      this.budget = budget;
+    }
+
+    @Override
+    public void run() {
+      budget.release(bytes.getAndSet(0));
+    }
+  }
+}
@@ -0,0 +1,35 @@
+package me.hanju.adapter;
+
+import java.nio.CharBuffer;
+import java.util.List;
+
+/**
+ * 재연결한 클라이언트를 이어서 전달하기 위한 결과
+ * <p>
+ * 클라이언트가 마지막으로 받은 순번 이후의 델타가 재전송 버퍼에 남아 있으면 {@link #deltas()}로,
+ * 너무 뒤처졌으면 그 시점까지의 원본 JSON 입력 {@link #snapshot()}으로 전달합니다.
+ * 스냅샷을 받은 클라이언트는 상태를 스냅샷으로 다시 만든 뒤 {@link #snapshotSequence()} 이후의 델타부터 받습니다.
+ * </p>
+ * <p>
+ * 저메모리 모드인 어댑터의 스냅샷은 원본 버퍼를 복사하지 않은 읽기 전용 {@link CharBuffer} 뷰입니다.
+ * 다음 피드 전에 피드 스레드에서 전송하거나, 나중에 쓰려면 {@code toString()}으로 복사해야 합니다.
+ * </p>
+ *
+ * @param deltas           재전송할 델타 (스냅샷이면 빈 리스트)
+ * @param snapshot         지금까지 받은 원본 JSON 입력 (델타로 이어갈 수 있으면 null)
+ * @param snapshotSequence 스냅샷에 반영된 마지막 순번 (스냅샷이 아니면 -1)
+ */
+public record ResumeResult(List<SequencedDelta> deltas, CharSequence snapshot, long snapshotSequence) {
+
+  public static ResumeResult replay(List<SequencedDelta> deltas) {
+    return new ResumeResult(deltas, null, -1);
+  }
+
+  public static ResumeResult snapshot(CharSequence snapshot, long sequence) {
+    return new ResumeResult(List.of(), snapshot, sequence);
+  }
+
+  public boolean isSnapshot() {
+    return snapshot != null;
+  }
+}
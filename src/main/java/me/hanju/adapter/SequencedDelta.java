@@ -0,0 +1,24 @@
+package me.hanju.adapter;
+
+import java.util.Map;
+
+/**
+ * 스트림 안에서 순번이 매겨진 델타
+ * <p>
+ * SSE로 전달할 때 {@code id: sequence}, {@code data: json}으로 보내면
+ * 재연결한 클라이언트의 {@code Last-Event-ID}를 {@link JsonStreamingAdapter#resume(long)}에 그대로 넘길 수 있습니다.
+ * </p>
+ *
+ * @param sequence 1부터 시작해 델타마다 1씩 증가하는 순번
+ * @param source   델타 객체
+ * @param json     델타를 {@link JsonStreamingAdapter#feedToken(String)}의 Map 형태로 인코딩한 JSON 문자열
+ */
+public record SequencedDelta(long sequence, Delta source, String json) {
+
+  /**
+   * {@link JsonStreamingAdapter#feedToken(String)}이 반환하는 것과 같은 델타 (호출할 때마다 새로 만듦)
+   */
+  public Map<String, Object> delta() {
+    return source.toMap();
+  }
+}
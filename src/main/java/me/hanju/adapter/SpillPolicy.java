@@ -0,0 +1,93 @@
+package me.hanju.adapter;
+
+import java.nio.file.Path;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.function.Supplier;
+
+/**
+ * 큰 문자열 값을 힙 밖으로 내보내는 기준
+ * <p>
+ * 기준에 해당하는 문자열 값은 완성되는 즉시 파서 버퍼에서 임시 파일로 기록되고,
+ * 누적 트리와 완성 이벤트에는 {@link me.hanju.adapter.spill.SpilledString}을 담은 POJO 노드로 들어갑니다.
+ * 스트리밍 중의 문자열 델타는 그대로 전달됩니다.
+ * </p>
+ * <p>
+ * 내보내기는 값이 완성된 뒤에 일어나므로 줄어드는 것은 완성 이후 트리가 붙잡는 메모리뿐입니다.
+ * 값이 스트리밍되는 동안에는 파서 버퍼와 원본 입력 버퍼가 값 전체를 힙에 담으므로 최대 힙 사용량은 줄지 않습니다.
+ * </p>
+ */
+public class SpillPolicy {
+
+  private int thresholdChars = Integer.MAX_VALUE;
+  private final Set<String> fields = new HashSet<>();
+  private Path directory;
+
+  public static SpillPolicy create() {
+    return new SpillPolicy();
+  }
+
+  /**
+   * 이 길이(디코딩된 문자 수) 이상인 문자열 값을 내보냅니다.
+   */
+  public SpillPolicy threshold(int chars) {
+    if (chars <= 0) {
+      throw new IllegalArgumentException("Threshold must be positive: " + chars);
+    }
+    this.thresholdChars = chars;
+    return this;
+  }
+
+  /**
+   * 길이와 무관하게 항상 내보낼 필드 경로를 추가합니다.
+   *
+   * @param path {@code $.document} 또는 {@code $.images[*].data} 형식
+   */
+  public SpillPolicy field(String path) {
+    if (path == null || !path.startsWith("$")) {
+      throw new IllegalArgumentException("Path must start with '$': " + path);
+    }
+    fields.add(path);
+    return this;
+  }
+
+  /**
+   * 임시 파일 디렉터리를 지정합니다. (기본: 시스템 임시 디렉터리)
+   */
+  public SpillPolicy directory(Path directory) {
+    this.directory = directory;
+    return this;
+  }
+
+  public Path getDirectory() {
+    return directory;
+  }
+
+  /**
+   * 길이가 {@code length}인 값을 내보내야 하는지 판단합니다.
+   *
+   * @param path {@code $.images[0].data} 형식의 실제 경로 (필드 경로가 등록된 경우에만 계산)
+   */
+  public boolean shouldSpill(Supplier<String> path, int length) {
+    if (length >= thresholdChars) {
+      return true;
+    }
+    return !fields.isEmpty() && fields.contains(wildcardIndexes(path.get()));
+  }
+
+  private static String wildcardIndexes(String path) {
+    StringBuilder sb = new StringBuilder(path.length());
+    for (int i = 0; i < path.length(); i++) {
+      char c = path.charAt(i);
+      sb.append(c);
+      if (c == '[') {
+        int end = path.indexOf(']', i);
+        if (end > i) {
+          sb.append("*]");
+          i = end;
+        }
+      }
+    }
+    return sb.toString();
+  }
+}
@@ -0,0 +1,91 @@
+package me.hanju.adapter;
+
+/**
+ * 스트림 하나가 사용할 수 있는 자원 한도
+ * <p>
+ * 한도를 넘으면 즉시 {@link me.hanju.adapter.exception.StreamingLimitExceededException}이 발생합니다.
+ * 기본값은 모두 무제한이며, 중첩 깊이와 문자열 길이는 지정하지 않으면 Jackson 기본 한도(깊이 1000, 문자열 2천만 자)가 적용됩니다.
+ * </p>
+ */
+public class StreamingLimits {
+
+  public static final int UNLIMITED = Integer.MAX_VALUE;
+
+  private int maxDepth = UNLIMITED;
+  private int maxStringLength = UNLIMITED;
+  private int maxBufferSize = UNLIMITED;
+  private int maxArrayLength = UNLIMITED;
+  private int maxDeltasPerCall = UNLIMITED;
+
+  public static StreamingLimits unlimited() {
+    return new StreamingLimits();
+  }
+
+  /**
+   * 객체/배열 최대 중첩 깊이 (루트 객체가 1)
+   */
+  public StreamingLimits maxDepth(int maxDepth) {
+    this.maxDepth = requirePositive(maxDepth, "maxDepth");
+    return this;
+  }
+
+  /**
+   * 단일 문자열 값의 최대 길이 (디코딩된 문자 수)
+   * 스트리밍 중인 값은 증분마다, 배열의 스칼라 요소는 파서가 토큰을 만들 때 검사합니다.
+   */
+  public StreamingLimits maxStringLength(int maxStringLength) {
+    this.maxStringLength = requirePositive(maxStringLength, "maxStringLength");
+    return this;
+  }
+
+  /**
+   * 원본 입력 버퍼의 최대 크기 (문자 수)
+   */
+  public StreamingLimits maxBufferSize(int maxBufferSize) {
+    this.maxBufferSize = requirePositive(maxBufferSize, "maxBufferSize");
+    return this;
+  }
+
+  /**
+   * 배열 하나의 최대 요소 수
+   */
+  public StreamingLimits maxArrayLength(int maxArrayLength) {
+    this.maxArrayLength = requirePositive(maxArrayLength, "maxArrayLength");
+    return this;
+  }
+
+  /**
+   * {@code feedToken} 호출 한 번이 반환할 수 있는 최대 델타 수
+   */
+  public StreamingLimits maxDeltasPerCall(int maxDeltasPerCall) {
+    this.maxDeltasPerCall = requirePositive(maxDeltasPerCall, "maxDeltasPerCall");
+    return this;
+  }
+
+  public int getMaxDepth() {
+    return maxDepth;
+  }
+
+  public int getMaxStringLength() {
+    return maxStringLength;
+  }
+
+  public int getMaxBufferSize() {
+    return maxBufferSize;
+  }
+
+  public int getMaxArrayLength() {
+    return maxArrayLength;
+  }
+
+  public int getMaxDeltasPerCall() {
+    return maxDeltasPerCall;
+  }
+
+  private static int requirePositive(int value, String name) {
+    if (value <= 0) {
+      throw new IllegalArgumentException(name + " must be positive");
+    }
+    return value;
+  }
+}
@@ -0,0 +1,285 @@
+package me.hanju.adapter;
+
+import java.util.concurrent.Executor;
+
+/**
+ * {@link JsonStreamingAdapter} 선택 기능 설정
+ * <p>
+ * 어댑터는 생성 시점에 값을 복사하므로, 같은 인스턴스를 여러 어댑터 생성에 재사용할 수 있습니다.
+ * </p>
+ */
+public class StreamingOptions {
+
+  private Executor validationExecutor;
+  private Executor itemValidationExecutor;
+  private StreamingLimits limits = StreamingLimits.unlimited();
+  private CompletionListener completionListener;
+  private boolean validateCompletions = false;
+  private boolean validateStringsEarly = false;
+  private EnumResolutionListener enumResolutionListener;
+  private SpillPolicy spillPolicy;
+  private BinaryContentListener binaryContentListener;
+  private int replayBufferSize = 0;
+  private DeltaGranularity deltaGranularity = DeltaGranularity.CHARACTER;
+  private GranularityController granularityController;
+  private ErrorRecoveryListener errorRecoveryListener;
+  private MemoryBudget memoryBudget;
+
+  public static StreamingOptions defaults() {
+    return new StreamingOptions();
+  }
+
+  /**
+   * 같은 설정을 가진 새 옵션을 반환합니다. 리스너와 공유 객체(Executor, 컨트롤러, 예산)는 참조만 복사합니다.
+   */
+  public StreamingOptions copy() {
+    StreamingOptions copy = new StreamingOptions();
+    copy.validationExecutor = validationExecutor;
+    copy.itemValidationExecutor = itemValidationExecutor;
+    copy.limits = limits;
+    copy.completionListener = completionListener;
+    copy.validateCompletions = validateCompletions;
+    copy.validateStringsEarly = validateStringsEarly;
+    copy.enumResolutionListener = enumResolutionListener;
+    copy.spillPolicy = spillPolicy;
+    copy.binaryContentListener = binaryContentListener;
+    copy.replayBufferSize = replayBufferSize;
+    copy.deltaGranularity = deltaGranularity;
+    copy.granularityController = granularityController;
+    copy.errorRecoveryListener = errorRecoveryListener;
+    copy.memoryBudget = memoryBudget;
+    return copy;
+  }
+
+  /**
+   * 스키마 검증을 수행할 Executor를 지정합니다.
+   * <p>
+   * 지정하면 완성된 루트 필드를 스트리밍 중에 해당 하위 스키마로 미리 검증하고,
+   * {@link JsonStreamingAdapter#flush()}는 나머지 제약(required 등)의 검증과 결과 병합을 맡긴 뒤 기다리지 않고 반환합니다.
+   * 루트에 조합 키워드나 판별 분기가 있거나 {@link #spill(SpillPolicy)}을 사용하면 flush 시 전체를 검증합니다.
+   * 결과는 {@link JsonStreamingAdapter#getValidationResult()}로 받습니다.
+   * </p>
+   */
+  public StreamingOptions validationExecutor(Executor executor) {
+    this.validationExecutor = executor;
+    return this;
+  }
+
+  public Executor getValidationExecutor() {
+    return validationExecutor;
+  }
+
+  /**
+   * 배열 요소(객체)가 완성될 때마다 {@code items} 하위 스키마 검증을 맡길 Executor를 지정합니다.
+   * <p>
+   * 요소 검증이 생성과 겹쳐 진행되므로, {@link JsonStreamingAdapter#flush()}에서는 {@code items}를 뺀
+   * 나머지 제약만 검증하고 요소 결과를 배열 순서대로 합칩니다. 코어 수만큼 나눠 처리하려면
+   * {@link java.util.concurrent.ForkJoinPool#commonPool()}을 지정합니다.
+   * </p>
+   * <p>
+   * 배열까지의 경로에 조합 키워드가 있거나 oneOf/anyOf 판별 분기 또는 {@link #spill(SpillPolicy)}을 사용하는 경우,
+   * 스칼라가 섞인 배열은 기존처럼 flush 시 전체를 검증합니다.
+   * </p>
+   */
+  public StreamingOptions itemValidationExecutor(Executor executor) {
+    this.itemValidationExecutor = executor;
+    return this;
+  }
+
+  public Executor getItemValidationExecutor() {
+    return itemValidationExecutor;
+  }
+
+  /**
+   * 여러 어댑터가 공유할 메모리 예산을 지정합니다.
+   * <p>
+   * 예산이 소진되면 어댑터 생성이 거부되고, 열린 스트림은 {@link MemoryBudget.Policy}에 따라 실패하거나
+   * 대기하거나 저메모리 모드로 전환됩니다. 예약은 {@link JsonStreamingAdapter#close()}에서 반환됩니다.
+   * </p>
+   */
+  public StreamingOptions memoryBudget(MemoryBudget budget) {
+    this.memoryBudget = budget;
+    return this;
+  }
+
+  public MemoryBudget getMemoryBudget() {
+    return memoryBudget;
+  }
+
+  /**
+   * 스트림별 자원 한도를 지정합니다.
+   */
+  public StreamingOptions limits(StreamingLimits limits) {
+    if (limits == null) {
+      throw new IllegalArgumentException("Limits cannot be null");
+    }
+    this.limits = limits;
+    return this;
+  }
+
+  public StreamingLimits getLimits() {
+    return limits;
+  }
+
+  /**
+   * 값, 객체, 배열이 완성될 때마다 호출할 리스너를 지정합니다.
+   * <p>
+   * {@link JsonStreamingAdapter#flush()}를 기다리지 않고 완성된 부분부터 다음 처리를 시작할 때 사용합니다.
+   * </p>
+   */
+  public StreamingOptions completionListener(CompletionListener listener) {
+    this.completionListener = listener;
+    return this;
+  }
+
+  public CompletionListener getCompletionListener() {
+    return completionListener;
+  }
+
+  /**
+   * 완성 이벤트마다 해당 위치의 하위 스키마로 값을 검증할지 지정합니다. (기본: false)
+   * <p>
+   * 오류는 예외 대신 {@link CompletionEvent#errors()}로 전달됩니다.
+   * </p>
+   */
+  public StreamingOptions validateCompletions(boolean validate) {
+    this.validateCompletions = validate;
+    return this;
+  }
+
+  public boolean isValidateCompletions() {
+    return validateCompletions;
+  }
+
+  /**
+   * 문자열 값의 {@code pattern}, {@code format}, {@code maxLength}를 스트리밍 중에 검사할지 지정합니다. (기본: false)
+   * <p>
+   * 켜면 지금까지 받은 접두어로 더 이상 제약을 만족할 수 없게 되는 즉시
+   * {@link me.hanju.adapter.exception.SchemaViolationException}이 발생합니다.
+   * 앞에서부터 고정되지 않은({@code ^}가 없는) 패턴은 문자열이 끝날 때 판정됩니다.
+   * </p>
+   */
+  public StreamingOptions validateStringsEarly(boolean validate) {
+    this.validateStringsEarly = validate;
+    return this;
+  }
+
+  public boolean isValidateStringsEarly() {
+    return validateStringsEarly;
+  }
+
+  /**
+   * enum/const로 제한된 문자열 필드의 후보 추적을 켜고, 값이 확정될 때 호출할 리스너를 지정합니다.
+   * <p>
+   * 지정하면 스트리밍 중인 접두어와 일치하는 후보가 하나도 남지 않는 즉시
+   * {@link me.hanju.adapter.exception.SchemaViolationException}이 발생합니다.
+   * </p>
+   */
+  public StreamingOptions enumResolutionListener(EnumResolutionListener listener) {
+    this.enumResolutionListener = listener;
+    return this;
+  }
+
+  public EnumResolutionListener getEnumResolutionListener() {
+    return enumResolutionListener;
+  }
+
+  /**
+   * 큰 문자열 값을 힙 밖의 임시 파일로 내보낼 기준을 지정합니다.
+   * <p>
+   * 스키마 검증 시에는 내보낸 값을 일시적으로 문자열로 읽어 들입니다.
+   * </p>
+   */
+  public StreamingOptions spill(SpillPolicy policy) {
+    this.spillPolicy = policy;
+    return this;
+  }
+
+  public SpillPolicy getSpillPolicy() {
+    return spillPolicy;
+  }
+
+  /**
+   * {@code "contentEncoding": "base64"} 문자열 필드를 증분 디코딩해 전달할 수신자를 지정합니다.
+   * <p>
+   * 지정하면 해당 필드는 문자열 델타 대신 디코딩된 바이트로만 전달됩니다.
+   * 누적 트리에는 원래 문자열이 들어가므로, 큰 값은 {@link #spill(SpillPolicy)}과 함께 사용합니다.
+   * </p>
+   */
+  public StreamingOptions binaryContentListener(BinaryContentListener listener) {
+    this.binaryContentListener = listener;
+    return this;
+  }
+
+  public BinaryContentListener getBinaryContentListener() {
+    return binaryContentListener;
+  }
+
+  /**
+   * 재연결한 클라이언트에게 다시 보낼 최근 델타 수를 지정합니다. (기본: 0, 보관하지 않음)
+   * <p>
+   * 지정하면 델타를 생성 시점에 JSON으로 인코딩해 보관하고, {@link JsonStreamingAdapter#resume(long)}으로
+   * 마지막으로 받은 순번 이후의 델타를 돌려받을 수 있습니다.
+   * </p>
+   */
+  public StreamingOptions replayBuffer(int deltas) {
+    if (deltas < 0) {
+      throw new IllegalArgumentException("Replay buffer size must not be negative");
+    }
+    this.replayBufferSize = deltas;
+    return this;
+  }
+
+  public int getReplayBufferSize() {
+    return replayBufferSize;
+  }
+
+  /**
+   * 문자열 델타를 전달할 단위를 고정합니다. (기본: {@link DeltaGranularity#CHARACTER})
+   */
+  public StreamingOptions deltaGranularity(DeltaGranularity granularity) {
+    if (granularity == null) {
+      throw new IllegalArgumentException("Granularity cannot be null");
+    }
+    this.deltaGranularity = granularity;
+    return this;
+  }
+
+  public DeltaGranularity getDeltaGranularity() {
+    return deltaGranularity;
+  }
+
+  /**
+   * 처리 부하에 따라 문자열 델타 단위를 바꿀 컨트롤러를 지정합니다.
+   * <p>
+   * 지정하면 {@link #deltaGranularity(DeltaGranularity)} 대신 매 {@code feedToken()} 호출 시점의
+   * {@link GranularityController#current()}를 따르고, 호출마다 처리 시간을 컨트롤러에 기록합니다.
+   * 여러 어댑터에 같은 컨트롤러를 지정하면 함께 전환됩니다.
+   * </p>
+   */
+  public StreamingOptions adaptiveGranularity(GranularityController controller) {
+    this.granularityController = controller;
+    return this;
+  }
+
+  public GranularityController getGranularityController() {
+    return granularityController;
+  }
+
+  /**
+   * 잘못된 입력에서 멈추지 않고 복구하는 관대한 모드를 켜고, 복구할 때마다 호출할 리스너를 지정합니다.
+   * <p>
+   * 문자열 안의 제어 문자, 알 수 없는 이스케이프, 끝의 쉼표는 그대로 받아들이고, 빠진 쉼표는 채워 넣습니다.
+   * 그 밖의 구문 오류는 다음 키, 배열 요소 또는 닫는 괄호까지 건너뜁니다.
+   * 복구 전에 전달된 델타는 취소되지 않습니다.
+   * </p>
+   */
+  public StreamingOptions errorRecovery(ErrorRecoveryListener listener) {
+    this.errorRecoveryListener = listener;
+    return this;
+  }
+
+  public ErrorRecoveryListener getErrorRecoveryListener() {
+    return errorRecoveryListener;
+  }
+}
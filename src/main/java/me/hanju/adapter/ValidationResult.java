@@ -0,0 +1,22 @@
+package me.hanju.adapter;
+
+import java.util.Set;
+
+import com.networknt.schema.ValidationMessage;
+
+/**
+ * 스키마 검증 결과
+ *
+ * @param completed 루트 객체가 완성되어 검증이 수행되었는지 여부
+ * @param messages  검증 오류 (검증하지 않았으면 빈 집합)
+ */
+public record ValidationResult(boolean completed, Set<ValidationMessage> messages) {
+
+  public static ValidationResult skipped() {
+    return new ValidationResult(false, Set.of());
+  }
+
+  public boolean isValid() {
+    return completed && messages.isEmpty();
+  }
+}
@@ -0,0 +1,491 @@
+package me.hanju.adapter.codegen;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.async.ByteArrayFeeder;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import me.hanju.adapter.Delta;
+import me.hanju.adapter.DeltaPath;
+import me.hanju.adapter.exception.JsonStreamingException;
+import me.hanju.adapter.exception.SchemaViolationException;
+import me.hanju.adapter.internal.ArrayContext;
+import me.hanju.adapter.internal.DeltaBuilder;
+import me.hanju.adapter.internal.StringContext;
+
+/**
+ * {@link StreamingParserGenerator}가 생성하는 스키마 전용 스트리밍 파서의 기반 클래스
+ * <p>
+ * {@link me.hanju.adapter.JsonStreamingAdapter}와 같은 델타를 만들지만, 스키마 라이브러리 없이
+ * 생성된 switch 테이블로 필드를 구분하고 값이 도착하는 즉시 타입과 제약을 검사합니다.
+ * 위반은 {@link #flush()}를 기다리지 않고 {@link SchemaViolationException}으로 발생합니다.
+ * </p>
+ * <p>
+ * 필드와 배열 요소 위치는 생성 시점에 번호(slot)가 매겨지며, 스키마에 없는 필드는 {@link #UNKNOWN}입니다.
+ * 인스턴스는 스트림 하나에만 사용합니다.
+ * </p>
+ */
+public abstract class GeneratedStreamingParser {
+
+  /** 스키마에 선언되지 않은 필드 또는 위치 */
+  protected static final int UNKNOWN = -1;
+  /** {@code additionalProperties: false}인 객체의 선언되지 않은 필드 */
+  protected static final int FORBIDDEN = -2;
+
+  protected static final int ANY = 0;
+  protected static final int STRING = 1;
+  protected static final int INTEGER = 1 << 1;
+  protected static final int NUMBER = 1 << 2;
+  protected static final int BOOLEAN = 1 << 3;
+  protected static final int NULL = 1 << 4;
+  protected static final int OBJECT = 1 << 5;
+  protected static final int ARRAY = 1 << 6;
+
+  private static final TypeReference<LinkedHashMap<String, Object>> MAP_TYPE = new TypeReference<>() {
+  };
+
+  private final JsonParser parser;
+  private final ByteArrayFeeder feeder;
+
+  private final StringBuilder rawBuffer = new StringBuilder();
+  private final StringContext stringContext = new StringContext(rawBuffer);
+  private final ArrayContext arrayContext = new ArrayContext();
+  private final DeltaBuilder deltaBuilder = new DeltaBuilder();
+
+  private final Deque<String> fieldPath = new ArrayDeque<>();
+  private String currentFieldName;
+  private int currentSlot = UNKNOWN;
+  private boolean awaitingValue = false;
+
+  // 열린 객체마다 생성된 객체 번호와 지금까지 나온 required 필드 bit
+  private final Deque<Frame> frames = new ArrayDeque<>();
+  private final JsonNodeFactory nodeFactory = JsonNodeFactory.instance;
+  private ObjectNode rootObject;
+
+  // 현재 배열의 요소 slot
+  private int itemSlot = UNKNOWN;
+  // 배열 요소 객체 안에서 배열이 열리면 닫힐 때 되돌릴 바깥 배열 상태
+  private final Deque<OuterArray> outerArrays = new ArrayDeque<>();
+
+  // 스트리밍 중인 문자열의 code point 수 (maxLength 조기 검사용)
+  private int streamedCodePoints = 0;
+
+  protected GeneratedStreamingParser() {
+    try {
+      this.parser = new JsonFactory().createNonBlockingByteArrayParser();
+      this.feeder = (ByteArrayFeeder) parser.getNonBlockingInputFeeder();
+    } catch (IOException e) {
+      throw new JsonStreamingException("Failed to initialize JSON parser", e);
+    }
+  }
+
+  /**
+   * 객체의 필드명을 slot 번호로 바꿉니다.
+   *
+   * @return slot 번호, {@link #UNKNOWN} 또는 {@link #FORBIDDEN}
+   */
+  protected abstract int field(int object, String name);
+
+  /**
+   * slot에 허용되는 값 종류의 bit 조합을 반환합니다. ({@link #ANY}이면 검사하지 않음)
+   */
+  protected abstract int kinds(int slot);
+
+  /**
+   * 객체 값을 갖는 slot의 객체 번호를 반환합니다. (구조를 모르면 {@link #UNKNOWN})
+   */
+  protected abstract int objectOf(int slot);
+
+  /**
+   * 배열 slot의 요소 slot을 반환합니다. (요소 스키마가 없으면 {@link #UNKNOWN})
+   */
+  protected abstract int itemOf(int slot);
+
+  /**
+   * slot이 배열 요소의 명시적 index 필드인지 확인합니다.
+   */
+  protected abstract boolean isIndexSlot(int slot);
+
+  /**
+   * slot이 소속 객체의 required 필드이면 해당 bit를 반환합니다. (아니면 0)
+   */
+  protected abstract long requiredBit(int slot);
+
+  /**
+   * slot 문자열의 최대 길이(code point)를 반환합니다. (제한이 없으면 {@link Integer#MAX_VALUE})
+   */
+  protected abstract int maxLength(int slot);
+
+  /**
+   * 완성된 문자열 값의 제약(enum, const, 길이)을 검사합니다.
+   */
+  protected abstract void checkString(int slot, String value);
+
+  /**
+   * 완성된 숫자 값의 제약(minimum, maximum)을 검사합니다.
+   */
+  protected abstract void checkNumber(int slot, double value);
+
+  /**
+   * 닫힌 객체에 required 필드가 모두 있었는지 검사합니다.
+   *
+   * @param seen 객체에서 나온 required 필드 bit 조합
+   */
+  protected abstract void checkRequired(int object, long seen);
+
+  /**
+   * 현재 위치의 스키마 위반 예외를 만듭니다.
+   */
+  protected final SchemaViolationException violation(String message) {
+    return new SchemaViolationException(message, describePath());
+  }
+
+  /**
+   * 방금 닫힌 객체에 required 필드가 없다는 예외를 만듭니다.
+   */
+  protected final SchemaViolationException missing(String property) {
+    return new SchemaViolationException("Missing required property '" + property + "'", describeContainer());
+  }
+
+  public List<Map<String, Object>> feedToken(String token) {
+    return Delta.toMaps(feedTokenDeltas(token));
+  }
+
+  /**
+   * {@link #feedToken(String)}과 같지만, 델타를 {@link Delta} 객체로 반환합니다.
+   */
+  public List<Delta> feedTokenDeltas(String token) {
+    if (token == null || token.isEmpty()) {
+      return Collections.emptyList();
+    }
+
+    deltaBuilder.clear();
+    int tokenStartPos = rawBuffer.length();
+    rawBuffer.append(token);
+
+    byte[] bytes = token.getBytes(StandardCharsets.UTF_8);
+    try {
+      if (stringContext.isInStringValue()) {
+        emitStringIncrement(tokenStartPos);
+      }
+      feeder.feedInput(bytes, 0, bytes.length);
+      processTokens();
+    } catch (IOException e) {
+      throw new JsonStreamingException("Failed to feed token", e);
+    }
+    return deltaBuilder.getDeltas();
+  }
+
+  /**
+   * 입력 종료를 알립니다.
+   * <p>
+   * 검사는 스트리밍 중에 끝나므로, 예외 없이 반환되면 결과는 이미 스키마를 만족합니다.
+   * </p>
+   *
+   * @throws JsonStreamingException 루트 객체가 닫히기 전에 입력이 끝난 경우
+   */
+  public List<Map<String, Object>> flush() {
+    try {
+      feeder.endOfInput();
+      processTokens();
+    } catch (IOException e) {
+      // 비동기 파서는 닫히지 않은 구조를 입력 끝에서 오류로 알림
+      throw incomplete(e);
+    }
+    if (!isComplete()) {
+      throw incomplete(null);
+    }
+    return Collections.emptyList();
+  }
+
+  private JsonStreamingException incomplete(IOException cause) {
+    return new JsonStreamingException("Input ended before the root object was closed at " + describePath(), cause);
+  }
+
+  /**
+   * 루트 객체가 닫혔는지 확인합니다.
+   */
+  public boolean isComplete() {
+    return rootObject != null && frames.isEmpty();
+  }
+
+  /**
+   * 지금까지 누적된 루트 객체를 반환합니다. (시작 전이면 null)
+   */
+  public JsonNode getResultNode() {
+    return rootObject;
+  }
+
+  /**
+   * 누적된 루트 객체를 Map으로 변환해 반환합니다. (시작 전이면 null)
+   */
+  public Map<String, Object> getResultAsMap() {
+    return rootObject == null ? null : new ObjectMapper().convertValue(rootObject, MAP_TYPE);
+  }
+
+  private void processTokens() throws IOException {
+    JsonToken token;
+    while ((token = parser.nextToken()) != null && token != JsonToken.NOT_AVAILABLE) {
+      processJsonToken(token);
+    }
+
+    if (awaitingValue && !stringContext.isInStringValue()) {
+      int startPos = stringContext.checkForStringStart();
+      if (startPos >= 0) {
+        checkKind(valueSlot(), STRING);
+        streamedCodePoints = 0;
+        emitStringIncrement(startPos);
+      }
+    }
+  }
+
+  private void processJsonToken(JsonToken token) throws IOException {
+    if (token.isScalarValue() && arrayContext.isInArray() && !arrayContext.isInArrayElement()) {
+      arrayContext.countElement();
+    }
+    switch (token) {
+      case START_OBJECT -> handleStartObject();
+      case END_OBJECT -> handleEndObject();
+      case FIELD_NAME -> {
+        currentFieldName = parser.currentName();
+        currentSlot = field(frames.peek().object, currentFieldName);
+        if (currentSlot == FORBIDDEN) {
+          currentSlot = UNKNOWN;
+          throw violation("Property is not allowed by the schema");
+        }
+        frames.peek().seen |= requiredBit(currentSlot);
+        awaitingValue = true;
+      }
+      case VALUE_STRING -> {
+        int slot = valueSlot();
+        String value = parser.getText();
+        checkKind(slot, STRING);
+        checkString(slot, value);
+        String remaining = stringContext.completeString(value);
+        if (remaining != null) {
+          deltaBuilder.add(new Delta.StringIncrement(deltaPath(), currentFieldName, remaining));
+        }
+        storeScalar(nodeFactory.textNode(value));
+        awaitingValue = false;
+      }
+      case VALUE_NUMBER_INT -> {
+        int slot = valueSlot();
+        checkKind(slot, INTEGER);
+        int intVal = parser.getIntValue();
+        checkNumber(slot, intVal);
+        if (arrayContext.isInArrayElement() && isIndexSlot(currentSlot)) {
+          arrayContext.setIndex(intVal);
+        }
+        deltaBuilder.add(new Delta.IntValue(deltaPath(), currentFieldName, intVal));
+        storeScalar(nodeFactory.numberNode(intVal));
+        awaitingValue = false;
+      }
+      case VALUE_NUMBER_FLOAT -> {
+        int slot = valueSlot();
+        checkKind(slot, NUMBER);
+        double doubleVal = parser.getDoubleValue();
+        checkNumber(slot, doubleVal);
+        deltaBuilder.add(new Delta.DoubleValue(deltaPath(), currentFieldName, doubleVal));
+        storeScalar(nodeFactory.numberNode(doubleVal));
+        awaitingValue = false;
+      }
+      case VALUE_TRUE, VALUE_FALSE -> {
+        checkKind(valueSlot(), BOOLEAN);
+        boolean value = token == JsonToken.VALUE_TRUE;
+        deltaBuilder.add(new Delta.BooleanValue(deltaPath(), currentFieldName, value));
+        storeScalar(nodeFactory.booleanNode(value));
+        awaitingValue = false;
+      }
+      case VALUE_NULL -> {
+        checkKind(valueSlot(), NULL);
+        deltaBuilder.add(new Delta.NullValue(deltaPath(), currentFieldName));
+        storeScalar(nodeFactory.nullNode());
+        awaitingValue = false;
+      }
+      case START_ARRAY -> {
+        checkKind(valueSlot(), ARRAY);
+        if (isScalarArrayItem()) {
+          throw violation("Arrays directly inside arrays are not supported");
+        }
+        if (arrayContext.isInArray()) {
+          outerArrays.push(new OuterArray(arrayContext.getArrayFieldName(), arrayContext.getAutoIndex(),
+              arrayContext.getExplicitIndex(), itemSlot));
+        }
+        String arrayField = parser.currentName();
+        arrayContext.startArray(arrayField);
+        itemSlot = itemOf(currentSlot);
+        if (!frames.isEmpty() && arrayField != null) {
+          arrayNodeFor(arrayField);
+        }
+        awaitingValue = false;
+      }
+      case END_ARRAY -> {
+        arrayContext.endArray();
+        itemSlot = UNKNOWN;
+        // 요소 안의 배열이 닫히면 나머지 바깥 요소도 요소 slot으로 검사
+        OuterArray outer = outerArrays.poll();
+        if (outer != null) {
+          arrayContext.restore(true, outer.fieldName(), outer.autoIndex(), outer.explicitIndex(), true);
+          itemSlot = outer.itemSlot();
+        }
+      }
+      default -> {
+      }
+    }
+  }
+
+  private void handleStartObject() {
+    ObjectNode newObj = nodeFactory.objectNode();
+    int object;
+    if (rootObject == null) {
+      rootObject = newObj;
+      object = 0;
+    } else if (arrayContext.isInArray()) {
+      checkKind(itemSlot, OBJECT);
+      arrayContext.startElement();
+      object = objectOf(itemSlot);
+    } else {
+      checkKind(currentSlot, OBJECT);
+      fieldPath.addLast(currentFieldName);
+      object = objectOf(currentSlot);
+    }
+    frames.push(new Frame(newObj, object));
+    currentFieldName = null;
+    currentSlot = UNKNOWN;
+    awaitingValue = false;
+  }
+
+  private void handleEndObject() {
+    Frame completed = frames.peek();
+    checkRequired(completed.object, completed.seen);
+    frames.pop();
+    if (arrayContext.isInArrayElement()) {
+      arrayContext.endElement();
+      arrayNodeFor(arrayContext.getArrayFieldName()).add(completed.node);
+    } else if (!frames.isEmpty()) {
+      String parentField = fieldPath.pollLast();
+      frames.peek().node.set(parentField, completed.node);
+    }
+  }
+
+  /**
+   * 현재 값의 slot (배열의 스칼라 요소이면 요소 slot)
+   */
+  private int valueSlot() {
+    return isScalarArrayItem() ? itemSlot : currentSlot;
+  }
+
+  private void checkKind(int slot, int kind) {
+    int allowed = kinds(slot);
+    if (allowed != ANY && (allowed & kind) == 0 && !(kind == INTEGER && (allowed & NUMBER) != 0)) {
+      throw violation("Expected " + describeKinds(allowed) + " but got " + describeKinds(kind));
+    }
+  }
+
+  private void emitStringIncrement(int fromPos) {
+    String increment = stringContext.extractIncrement(fromPos);
+    if (increment == null) {
+      return;
+    }
+    for (int i = 0; i < increment.length(); i++) {
+      if (!Character.isLowSurrogate(increment.charAt(i))) {
+        streamedCodePoints++;
+      }
+    }
+    if (streamedCodePoints > maxLength(valueSlot())) {
+      throw violation("String is longer than " + maxLength(valueSlot()));
+    }
+    deltaBuilder.add(new Delta.StringIncrement(deltaPath(), currentFieldName, increment));
+  }
+
+  private DeltaPath deltaPath() {
+    if (arrayContext.isInArrayElement()) {
+      return deltaBuilder.elementPath(fieldPath, arrayContext.getArrayFieldName(), arrayContext.getCurrentIndex());
+    }
+    return deltaBuilder.path(fieldPath);
+  }
+
+  private ArrayNode arrayNodeFor(String arrayField) {
+    ObjectNode owner = frames.peek().node;
+    return owner.get(arrayField) instanceof ArrayNode existing ? existing : owner.putArray(arrayField);
+  }
+
+  private void storeScalar(JsonNode value) {
+    if (frames.isEmpty()) {
+      return;
+    }
+    if (isScalarArrayItem()) {
+      arrayNodeFor(arrayContext.getArrayFieldName()).add(value);
+    } else if (currentFieldName != null) {
+      frames.peek().node.set(currentFieldName, value);
+    }
+  }
+
+  private boolean isScalarArrayItem() {
+    return arrayContext.isInArray() && !arrayContext.isInArrayElement();
+  }
+
+  private String describePath() {
+    StringBuilder sb = new StringBuilder(describeContainer());
+    if (isScalarArrayItem()) {
+      sb.append('[').append(arrayContext.getElementCount() - 1).append(']');
+    } else if (currentFieldName != null) {
+      sb.append('.').append(currentFieldName);
+    }
+    return sb.toString();
+  }
+
+  private String describeContainer() {
+    StringBuilder sb = new StringBuilder("$");
+    for (String segment : fieldPath) {
+      sb.append('.').append(segment);
+    }
+    if (arrayContext.isInArray()) {
+      sb.append('.').append(arrayContext.getArrayFieldName());
+      if (arrayContext.isInArrayElement()) {
+        sb.append('[').append(arrayContext.getCurrentIndex()).append(']');
+      }
+    }
+    return sb.toString();
+  }
+
+  private static String describeKinds(int kinds) {
+    StringBuilder sb = new StringBuilder();
+    String[] names = { "string", "integer", "number", "boolean", "null", "object", "array" };
+    for (int i = 0; i < names.length; i++) {
+      if ((kinds & (1 << i)) != 0) {
+        sb.append(sb.isEmpty() ? "" : "|").append(names[i]);
+      }
+    }
+    return sb.toString();
+  }
+
+  private record OuterArray(String fieldName, int autoIndex, Integer explicitIndex, int itemSlot) {
+  }
+
+  private static final class Frame {
+    private final ObjectNode node;
+    private final int object;
+    private long seen;
+
+    private Frame(ObjectNode node, int object) {
+      this.node = node;
+      this.object = object;
+    }
+  }
+}
@@ -0,0 +1,539 @@
+package me.hanju.adapter.codegen;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.StringJoiner;
+import java.util.function.Function;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * JSON Schema를 {@link GeneratedStreamingParser} 하위 클래스의 Java 소스로 변환합니다.
+ * <p>
+ * 빌드 시점에 실행해 스키마 로딩과 검증기 초기화를 런타임에서 없애는 용도입니다.
+ * 지원하는 키워드: {@code type}, {@code properties}, {@code required}, {@code additionalProperties: false},
+ * {@code items}, 문자열 {@code enum}/{@code const}, {@code minLength}/{@code maxLength},
+ * {@code minimum}/{@code maximum}, 문서 내부 {@code $ref}. 생성된 파서가 검사하지 못하는 제약이 스키마에 있으면
+ * ({@code pattern}, {@code format}, {@code oneOf}, 숫자 {@code enum} 등) 검증 없이 통과시키는 대신
+ * {@link IllegalArgumentException}으로 생성을 실패시킵니다. {@code title}, {@code description} 같은 주석 키워드와
+ * {@code definitions}는 허용됩니다. 요소가 곧바로 배열인 배열({@code items}가 배열 스키마)은 지원하지 않습니다.
+ * </p>
+ *
+ * <pre>
+ * java me.hanju.adapter.codegen.StreamingParserGenerator &lt;출력 디렉터리&gt; &lt;패키지&gt; &lt;스키마 파일&gt;...
+ * </pre>
+ * <p>
+ * 클래스 이름은 파일 이름에서 만듭니다. ({@code order-event.json} → {@code OrderEventParser})
+ * </p>
+ */
+public final class StreamingParserGenerator {
+
+  private static final ObjectMapper MAPPER = new ObjectMapper();
+  private static final String[] KIND_NAMES = { "STRING", "INTEGER", "NUMBER", "BOOLEAN", "NULL", "OBJECT", "ARRAY" };
+  private static final Set<String> SUPPORTED_KEYWORDS = Set.of(
+      "type", "properties", "required", "additionalProperties", "items", "enum", "const",
+      "minLength", "maxLength", "minimum", "maximum", "$ref");
+  // 검증에 영향이 없는 키워드
+  private static final Set<String> ANNOTATION_KEYWORDS = Set.of(
+      "$schema", "$id", "id", "$comment", "title", "description", "default", "examples",
+      "readOnly", "writeOnly", "deprecated", "definitions", "$defs");
+
+  private final JsonNode root;
+  private final List<ObjectModel> objects = new ArrayList<>();
+  private final List<SlotModel> slots = new ArrayList<>();
+  private final Map<JsonNode, Integer> objectIds = new IdentityHashMap<>();
+
+  private StreamingParserGenerator(JsonNode root) {
+    this.root = root;
+  }
+
+  public static void main(String[] args) throws IOException {
+    if (args.length < 3) {
+      throw new IllegalArgumentException(
+          "Usage: StreamingParserGenerator <output dir> <package> <schema file>...");
+    }
+    Path outputDir = Path.of(args[0]);
+    String packageName = args[1];
+    Path packageDir = outputDir.resolve(packageName.replace('.', '/'));
+    Files.createDirectories(packageDir);
+    for (int i = 2; i < args.length; i++) {
+      Path schemaFile = Path.of(args[i]);
+      String className = classNameFor(schemaFile.getFileName().toString());
+      String source = generate(Files.readString(schemaFile), packageName, className);
+      Files.writeString(packageDir.resolve(className + ".java"), source, StandardCharsets.UTF_8);
+    }
+  }
+
+  /**
+   * 스키마 JSON에서 파서 소스를 생성합니다.
+   *
+   * @param schemaJson  루트가 객체 타입인 JSON Schema
+   * @param packageName 생성할 클래스의 패키지 (기본 패키지면 빈 문자열)
+   * @param className   생성할 클래스 이름
+   * @return Java 소스
+   */
+  public static String generate(String schemaJson, String packageName, String className) {
+    JsonNode schema;
+    try {
+      schema = MAPPER.readTree(schemaJson);
+    } catch (IOException e) {
+      throw new IllegalArgumentException("Invalid schema JSON", e);
+    }
+    if (schema == null || !schema.isObject()) {
+      throw new IllegalArgumentException("Schema must be a JSON object");
+    }
+    StreamingParserGenerator generator = new StreamingParserGenerator(schema);
+    if ((generator.kindsOf(schema) & ~(bit("OBJECT") | bit("NULL"))) != 0) {
+      throw new IllegalArgumentException("Root schema must describe an object");
+    }
+    generator.objectFor(schema, "#");
+    return generator.emit(packageName, className);
+  }
+
+  static String classNameFor(String fileName) {
+    String base = fileName.endsWith(".json") ? fileName.substring(0, fileName.length() - 5) : fileName;
+    StringBuilder sb = new StringBuilder();
+    boolean upper = true;
+    for (char c : base.toCharArray()) {
+      if (!Character.isLetterOrDigit(c)) {
+        upper = true;
+      } else {
+        sb.append(upper ? Character.toUpperCase(c) : c);
+        upper = false;
+      }
+    }
+    if (sb.isEmpty() || !Character.isJavaIdentifierStart(sb.charAt(0))) {
+      sb.insert(0, "Schema");
+    }
+    return sb.append("Parser").toString();
+  }
+
+  // ===== 스키마 분석 =====
+
+  private int objectFor(JsonNode schema, String location) {
+    JsonNode resolved = resolve(schema, location);
+    Integer existing = objectIds.get(resolved);
+    if (existing != null) {
+      return existing;
+    }
+    ObjectModel object = new ObjectModel(objects.size());
+    objects.add(object);
+    objectIds.put(resolved, object.id);
+    object.closed = resolved.path("additionalProperties").isBoolean()
+        && !resolved.path("additionalProperties").booleanValue();
+
+    List<String> required = new ArrayList<>();
+    resolved.path("required").forEach(name -> required.add(name.asText()));
+    if (required.size() > Long.SIZE) {
+      throw new IllegalArgumentException("At most " + Long.SIZE + " required properties are supported per object");
+    }
+
+    for (Map.Entry<String, JsonNode> property : resolved.path("properties").properties()) {
+      SlotModel slot = slotFor(property.getValue(), location + "/properties/" + escapePointer(property.getKey()));
+      slot.name = property.getKey();
+      object.properties.add(slot);
+    }
+    if (!object.closed) {
+      // 선언되지 않은 required 필드도 이름으로 구분해 bit를 세움 (값은 검사하지 않음)
+      for (String name : required) {
+        if (object.properties.stream().noneMatch(slot -> slot.name.equals(name))) {
+          SlotModel slot = new SlotModel(slots.size());
+          slots.add(slot);
+          slot.name = name;
+          object.properties.add(slot);
+        }
+      }
+    }
+    for (SlotModel slot : object.properties) {
+      int requiredIndex = required.indexOf(slot.name);
+      slot.requiredBit = requiredIndex < 0 ? 0 : 1L << requiredIndex;
+    }
+    object.required = required;
+    return object.id;
+  }
+
+  private SlotModel slotFor(JsonNode schema, String location) {
+    JsonNode resolved = resolve(schema, location);
+    SlotModel slot = new SlotModel(slots.size());
+    slots.add(slot);
+    slot.kinds = kindsOf(resolved);
+
+    if ((slot.kinds == 0 || (slot.kinds & bit("OBJECT")) != 0) && isObjectSchema(resolved)) {
+      slot.object = objectFor(resolved, location);
+    }
+    if (resolved.has("items")) {
+      if (!resolved.get("items").isObject()) {
+        throw unsupported("items", location, "only a single item schema is supported");
+      }
+      if (slot.kinds == 0 || (slot.kinds & bit("ARRAY")) != 0) {
+        SlotModel item = slotFor(resolved.get("items"), location + "/items");
+        if ((item.kinds & bit("ARRAY")) != 0 || item.item >= 0) {
+          throw unsupported("items", location, "arrays of arrays are not supported");
+        }
+        slot.item = item.id;
+      }
+    }
+
+    List<String> values = new ArrayList<>();
+    if (resolved.has("const")) {
+      values.add(resolved.get("const").isTextual() ? resolved.get("const").asText() : null);
+    } else if (resolved.has("enum")) {
+      if (!resolved.get("enum").isArray()) {
+        throw unsupported("enum", location, "must be an array");
+      }
+      resolved.get("enum").forEach(value -> values.add(value.isTextual() ? value.asText() : null));
+    }
+    if (values.contains(null)) {
+      throw unsupported(resolved.has("const") ? "const" : "enum", location, "only string values are supported");
+    }
+    if (!values.isEmpty()) {
+      slot.enumValues = values;
+    }
+    slot.minLength = intKeyword(resolved, "minLength", location);
+    slot.maxLength = intKeyword(resolved, "maxLength", location);
+    slot.minimum = numberKeyword(resolved, "minimum", location);
+    slot.maximum = numberKeyword(resolved, "maximum", location);
+    return slot;
+  }
+
+  /**
+   * {@code $ref}를 따라가며, 거쳐 가는 모든 스키마에 지원하지 않는 키워드가 없는지 확인합니다.
+   */
+  private JsonNode resolve(JsonNode schema, String location) {
+    JsonNode current = schema;
+    String currentLocation = location;
+    for (int hops = 0;; hops++) {
+      checkKeywords(current, currentLocation);
+      if (!current.path("$ref").isTextual()) {
+        return current;
+      }
+      String ref = current.get("$ref").asText();
+      if (!ref.startsWith("#") || hops > 32) {
+        throw new IllegalArgumentException("Unsupported $ref: " + ref);
+      }
+      JsonNode target = ref.length() == 1 ? root : root.at(ref.substring(1));
+      if (target.isMissingNode()) {
+        throw new IllegalArgumentException("Unresolved $ref: " + ref);
+      }
+      current = target;
+      currentLocation = ref;
+    }
+  }
+
+  private static void checkKeywords(JsonNode schema, String location) {
+    if (!schema.isObject()) {
+      throw new IllegalArgumentException("Schema must be a JSON object at " + location);
+    }
+    for (Map.Entry<String, JsonNode> keyword : schema.properties()) {
+      String name = keyword.getKey();
+      if (!SUPPORTED_KEYWORDS.contains(name) && !ANNOTATION_KEYWORDS.contains(name)) {
+        throw unsupported(name, location, "the generated parser cannot check it");
+      }
+    }
+    JsonNode additional = schema.get("additionalProperties");
+    if (additional != null && !additional.isBoolean()) {
+      throw unsupported("additionalProperties", location, "only true or false is supported");
+    }
+  }
+
+  private static int intKeyword(JsonNode schema, String name, String location) {
+    JsonNode value = schema.get(name);
+    if (value == null) {
+      return -1;
+    }
+    if (!value.canConvertToInt() || !value.isIntegralNumber() || value.asInt() < 0) {
+      throw unsupported(name, location, "must be a non-negative integer");
+    }
+    return value.asInt();
+  }
+
+  private static String numberKeyword(JsonNode schema, String name, String location) {
+    JsonNode value = schema.get(name);
+    if (value == null) {
+      return null;
+    }
+    if (!value.isNumber()) {
+      throw unsupported(name, location, "must be a number");
+    }
+    return value.asText();
+  }
+
+  private static IllegalArgumentException unsupported(String keyword, String location, String reason) {
+    return new IllegalArgumentException("Unsupported keyword '" + keyword + "' at " + location + ": " + reason);
+  }
+
+  private static String escapePointer(String name) {
+    return name.replace("~", "~0").replace("/", "~1");
+  }
+
+  private int kindsOf(JsonNode schema) {
+    JsonNode type = schema.path("type");
+    int kinds = 0;
+    if (type.isTextual()) {
+      kinds = kindOf(type.asText());
+    } else if (type.isArray()) {
+      for (JsonNode t : type) {
+        kinds |= kindOf(t.asText());
+      }
+    } else if (schema.has("properties")) {
+      kinds = bit("OBJECT");
+    }
+    return kinds;
+  }
+
+  private static int kindOf(String type) {
+    return switch (type) {
+      case "string" -> bit("STRING");
+      case "integer" -> bit("INTEGER");
+      case "number" -> bit("NUMBER") | bit("INTEGER");
+      case "boolean" -> bit("BOOLEAN");
+      case "null" -> bit("NULL");
+      case "object" -> bit("OBJECT");
+      case "array" -> bit("ARRAY");
+      default -> throw new IllegalArgumentException("Unknown type: " + type);
+    };
+  }
+
+  private static boolean isObjectSchema(JsonNode schema) {
+    return schema.has("properties") || schema.has("required") || schema.has("additionalProperties");
+  }
+
+  private static int bit(String kind) {
+    for (int i = 0; i < KIND_NAMES.length; i++) {
+      if (KIND_NAMES[i].equals(kind)) {
+        return 1 << i;
+      }
+    }
+    throw new IllegalArgumentException(kind);
+  }
+
+  // ===== 소스 생성 =====
+
+  private String emit(String packageName, String className) {
+    StringBuilder out = new StringBuilder();
+    if (!packageName.isEmpty()) {
+      out.append("package ").append(packageName).append(";\n\n");
+    }
+    out.append("import me.hanju.adapter.codegen.GeneratedStreamingParser;\n\n");
+    out.append("/**\n * ").append(StreamingParserGenerator.class.getSimpleName())
+        .append("가 생성한 스트리밍 파서입니다. 직접 수정하지 마세요.\n */\n");
+    out.append("public final class ").append(className).append(" extends GeneratedStreamingParser {\n");
+
+    emitField(out);
+    emitIntTable(out, "kinds", "ANY", slot -> slot.kinds == 0 ? null : kindExpression(slot.kinds));
+    emitIntTable(out, "objectOf", "UNKNOWN", slot -> slot.object < 0 ? null : String.valueOf(slot.object));
+    emitIntTable(out, "itemOf", "UNKNOWN", slot -> slot.item < 0 ? null : String.valueOf(slot.item));
+    emitIndexSlot(out);
+    emitLongTable(out);
+    emitIntTable(out, "maxLength", "Integer.MAX_VALUE",
+        slot -> slot.maxLength < 0 ? null : String.valueOf(slot.maxLength));
+    emitCheckString(out);
+    emitCheckNumber(out);
+    emitCheckRequired(out);
+
+    return out.append("}\n").toString();
+  }
+
+  private void emitField(StringBuilder out) {
+    out.append("\n  @Override\n  protected int field(int object, String name) {\n");
+    out.append("    return switch (object) {\n");
+    for (ObjectModel object : objects) {
+      String fallback = object.closed ? "FORBIDDEN" : "UNKNOWN";
+      if (object.properties.isEmpty()) {
+        out.append("      case ").append(object.id).append(" -> ").append(fallback).append(";\n");
+        continue;
+      }
+      out.append("      case ").append(object.id).append(" -> switch (name) {\n");
+      for (SlotModel slot : object.properties) {
+        out.append("        case ").append(literal(slot.name)).append(" -> ").append(slot.id).append(";\n");
+      }
+      out.append("        default -> ").append(fallback).append(";\n      };\n");
+    }
+    out.append("      default -> UNKNOWN;\n    };\n  }\n");
+  }
+
+  private void emitIntTable(StringBuilder out, String method, String fallback,
+      Function<SlotModel, String> value) {
+    out.append("\n  @Override\n  protected int ").append(method).append("(int slot) {\n");
+    out.append("    return switch (slot) {\n");
+    for (SlotModel slot : slots) {
+      String v = value.apply(slot);
+      if (v != null) {
+        out.append("      case ").append(slot.id).append(" -> ").append(v).append(";\n");
+      }
+    }
+    out.append("      default -> ").append(fallback).append(";\n    };\n  }\n");
+  }
+
+  private void emitIndexSlot(StringBuilder out) {
+    // 배열 요소 객체의 "index" 필드
+    StringJoiner cases = new StringJoiner(", ");
+    for (SlotModel arraySlot : slots) {
+      if (arraySlot.item < 0 || slots.get(arraySlot.item).object < 0) {
+        continue;
+      }
+      for (SlotModel member : objects.get(slots.get(arraySlot.item).object).properties) {
+        if (member.name.equals("index")) {
+          cases.add(String.valueOf(member.id));
+        }
+      }
+    }
+    out.append("\n  @Override\n  protected boolean isIndexSlot(int slot) {\n");
+    if (cases.length() == 0) {
+      out.append("    return false;\n  }\n");
+      return;
+    }
+    out.append("    return switch (slot) {\n      case ").append(cases).append(" -> true;\n");
+    out.append("      default -> false;\n    };\n  }\n");
+  }
+
+  private void emitLongTable(StringBuilder out) {
+    out.append("\n  @Override\n  protected long requiredBit(int slot) {\n    return switch (slot) {\n");
+    for (SlotModel slot : slots) {
+      if (slot.requiredBit != 0) {
+        out.append("      case ").append(slot.id).append(" -> 0x").append(Long.toHexString(slot.requiredBit))
+            .append("L;\n");
+      }
+    }
+    out.append("      default -> 0L;\n    };\n  }\n");
+  }
+
+  private void emitCheckString(StringBuilder out) {
+    out.append("\n  @Override\n  protected void checkString(int slot, String value) {\n    switch (slot) {\n");
+    for (SlotModel slot : slots) {
+      if (slot.enumValues == null && slot.minLength < 0 && slot.maxLength < 0) {
+        continue;
+      }
+      out.append("      case ").append(slot.id).append(" -> {\n");
+      if (slot.minLength >= 0 || slot.maxLength >= 0) {
+        out.append("        int length = value.codePointCount(0, value.length());\n");
+      }
+      if (slot.minLength >= 0) {
+        out.append("        if (length < ").append(slot.minLength).append(") {\n")
+            .append("          throw violation(").append(literal("String is shorter than " + slot.minLength))
+            .append(");\n        }\n");
+      }
+      if (slot.maxLength >= 0) {
+        out.append("        if (length > ").append(slot.maxLength).append(") {\n")
+            .append("          throw violation(").append(literal("String is longer than " + slot.maxLength))
+            .append(");\n        }\n");
+      }
+      if (slot.enumValues != null) {
+        StringJoiner cases = new StringJoiner(", ");
+        slot.enumValues.stream().distinct().forEach(v -> cases.add(literal(v)));
+        out.append("        switch (value) {\n          case ").append(cases).append(" -> {\n          }\n")
+            .append("          default -> throw violation(")
+            .append(literal("Value does not match any of " + slot.enumValues)).append(");\n        }\n");
+      }
+      out.append("      }\n");
+    }
+    out.append("      default -> {\n      }\n    }\n  }\n");
+  }
+
+  private void emitCheckNumber(StringBuilder out) {
+    out.append("\n  @Override\n  protected void checkNumber(int slot, double value) {\n    switch (slot) {\n");
+    for (SlotModel slot : slots) {
+      if (slot.minimum == null && slot.maximum == null) {
+        continue;
+      }
+      out.append("      case ").append(slot.id).append(" -> {\n");
+      if (slot.minimum != null) {
+        out.append("        if (value < ").append(slot.minimum).append("d) {\n")
+            .append("          throw violation(").append(literal("Value is less than " + slot.minimum))
+            .append(");\n        }\n");
+      }
+      if (slot.maximum != null) {
+        out.append("        if (value > ").append(slot.maximum).append("d) {\n")
+            .append("          throw violation(").append(literal("Value is greater than " + slot.maximum))
+            .append(");\n        }\n");
+      }
+      out.append("      }\n");
+    }
+    out.append("      default -> {\n      }\n    }\n  }\n");
+  }
+
+  private void emitCheckRequired(StringBuilder out) {
+    out.append("\n  @Override\n  protected void checkRequired(int object, long seen) {\n    switch (object) {\n");
+    for (ObjectModel object : objects) {
+      if (object.required.isEmpty()) {
+        continue;
+      }
+      out.append("      case ").append(object.id).append(" -> {\n");
+      for (int i = 0; i < object.required.size(); i++) {
+        out.append("        if ((seen & 0x").append(Long.toHexString(1L << i)).append("L) == 0) {\n")
+            .append("          throw missing(").append(literal(object.required.get(i))).append(");\n")
+            .append("        }\n");
+      }
+      out.append("      }\n");
+    }
+    out.append("      default -> {\n      }\n    }\n  }\n");
+  }
+
+  private static String kindExpression(int kinds) {
+    StringJoiner expression = new StringJoiner(" | ");
+    for (int i = 0; i < KIND_NAMES.length; i++) {
+      if ((kinds & (1 << i)) != 0) {
+        expression.add(KIND_NAMES[i]);
+      }
+    }
+    return expression.toString();
+  }
+
+  private static String literal(String value) {
+    StringBuilder sb = new StringBuilder("\"");
+    for (char c : value.toCharArray()) {
+      switch (c) {
+        case '"' -> sb.append("\\\"");
+        case '\\' -> sb.append("\\\\");
+        case '\n' -> sb.append("\\n");
+        case '\r' -> sb.append("\\r");
+        case '\t' -> sb.append("\\t");
+        default -> {
+          if (c < 0x20 || c > 0x7e) {
+            sb.append(String.format("\\u%04x", (int) c));
+          } else {
+            sb.append(c);
+          }
+        }
+      }
+    }
+    return sb.append('"').toString();
+  }
+
+  private static final class ObjectModel {
+    private final int id;
+    private final List<SlotModel> properties = new ArrayList<>();
+    private List<String> required = List.of();
+    private boolean closed;
+
+    private ObjectModel(int id) {
+      this.id = id;
+    }
+  }
+
+  private static final class SlotModel {
+    private final int id;
+    private String name;
+    private int kinds;
+    private int object = -1;
+    private int item = -1;
+    private long requiredBit;
+    private List<String> enumValues;
+    private int minLength = -1;
+    private int maxLength = -1;
+    private String minimum;
+    private String maximum;
+
+    private SlotModel(int id) {
+      this.id = id;
+    }
+  }
+}
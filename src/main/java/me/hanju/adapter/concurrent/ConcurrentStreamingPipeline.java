@@ -0,0 +1,225 @@
+package me.hanju.adapter.concurrent;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadFactory;
+
+import me.hanju.adapter.JsonStreamingAdapter;
+import me.hanju.adapter.exception.JsonStreamingException;
+
+/**
+ * 입력 수신과 파싱을 분리하는 동시 실행 front-end
+ * <p>
+ * 생산자 스레드(예: 네트워크 I/O 스레드)는 원본 청크를 입력 링 버퍼에 넣기만 하고,
+ * 전용 소비자 스레드가 어댑터로 파싱해 델타를 출력 링 버퍼에 게시합니다.
+ * 델타는 다른 한 스레드가 {@link #poll()}/{@link #take()}로 꺼냅니다.
+ * 두 링 버퍼 모두 단일 생산자/단일 소비자 전용이므로, 입력과 델타 수신은 각각 한 스레드에서만 해야 합니다.
+ * </p>
+ * <p>
+ * 소비자 스레드에서 발생한 예외는 이후 생산자/수신 쪽 호출에서 {@link JsonStreamingException}으로 전달됩니다.
+ * </p>
+ */
+public class ConcurrentStreamingPipeline implements AutoCloseable {
+
+  // 참조 비교로만 쓰는 종료 표시 (사용자 청크와 같은 인스턴스일 수 없음)
+  private static final String END_OF_INPUT = new String("<end-of-input>");
+  private static final ThreadFactory DEFAULT_THREAD_FACTORY = Thread.ofPlatform()
+      .name("json-streaming-consumer-", 0)
+      .daemon()
+      .factory();
+
+  private final JsonStreamingAdapter adapter;
+  private final SpscRingBuffer<String> input;
+  private final SpscRingBuffer<Map<String, Object>> output;
+  private final WaitStrategy waitStrategy;
+  private final Thread consumer;
+
+  private volatile boolean finished = false;
+  private volatile boolean closed = false;
+  private volatile Throwable failure;
+
+  /**
+   * @param adapter  소비자 스레드만 사용하게 될 어댑터
+   * @param capacity 입력/출력 링 버퍼 용량
+   */
+  public ConcurrentStreamingPipeline(JsonStreamingAdapter adapter, int capacity) {
+    this(adapter, capacity, capacity, WaitStrategy.parking(Duration.ofMillis(1)), DEFAULT_THREAD_FACTORY);
+  }
+
+  /**
+   * @param adapter        소비자 스레드만 사용하게 될 어댑터
+   * @param inputCapacity  입력 청크 링 버퍼 용량
+   * @param outputCapacity 델타 링 버퍼 용량
+   * @param waitStrategy   생산자/소비자/수신자 공통 대기 방식
+   * @param threadFactory  소비자 스레드 생성 (가상 스레드 사용 시 {@code Thread.ofVirtual().factory()})
+   */
+  public ConcurrentStreamingPipeline(JsonStreamingAdapter adapter, int inputCapacity, int outputCapacity,
+      WaitStrategy waitStrategy, ThreadFactory threadFactory) {
+    if (adapter == null || waitStrategy == null || threadFactory == null) {
+      throw new IllegalArgumentException("Adapter, wait strategy and thread factory cannot be null");
+    }
+    this.adapter = adapter;
+    this.input = new SpscRingBuffer<>(inputCapacity);
+    this.output = new SpscRingBuffer<>(outputCapacity);
+    this.waitStrategy = waitStrategy;
+    this.consumer = threadFactory.newThread(this::consume);
+    this.consumer.start();
+  }
+
+  /**
+   * 청크를 대기 없이 넣습니다. (생산자 스레드 전용)
+   *
+   * @return 입력 버퍼가 가득 차 넣지 못했으면 false
+   */
+  public boolean offer(String chunk) {
+    checkFailure();
+    if (chunk == null || chunk.isEmpty()) {
+      return true;
+    }
+    return input.offer(chunk);
+  }
+
+  /**
+   * 청크를 넣습니다. 입력 버퍼가 가득 차 있으면 대기 방식에 따라 기다립니다. (생산자 스레드 전용)
+   */
+  public void put(String chunk) {
+    if (chunk == null || chunk.isEmpty()) {
+      return;
+    }
+    enqueue(chunk);
+  }
+
+  /**
+   * 입력이 끝났음을 알립니다. 소비자 스레드는 남은 청크를 처리한 뒤 {@code flush()}합니다. (생산자 스레드 전용)
+   */
+  public void complete() {
+    enqueue(END_OF_INPUT);
+  }
+
+  /**
+   * 게시된 델타를 대기 없이 꺼냅니다. (수신 스레드 전용)
+   *
+   * @return 게시된 델타가 없으면 null
+   */
+  public Map<String, Object> poll() {
+    Map<String, Object> delta = output.poll();
+    if (delta == null) {
+      checkFailure();
+    }
+    return delta;
+  }
+
+  /**
+   * 다음 델타를 기다려 꺼냅니다. (수신 스레드 전용)
+   *
+   * @return 입력이 끝나 더 이상 델타가 없으면 null
+   */
+  public Map<String, Object> take() {
+    for (int attempt = 0;; attempt++) {
+      Map<String, Object> delta = output.poll();
+      if (delta != null) {
+        return delta;
+      }
+      if (finished) {
+        // 종료 표시 이전에 게시된 델타가 남아 있을 수 있음
+        delta = output.poll();
+        if (delta == null) {
+          checkFailure();
+        }
+        return delta;
+      }
+      waitStrategy.idle(attempt);
+    }
+  }
+
+  /**
+   * 아직 파싱되지 않고 입력 버퍼에 남은 청크 수
+   * <p>
+   * {@link me.hanju.adapter.GranularityController#queueDepth(java.util.function.IntSupplier, int)}에
+   * 넘겨 입력이 밀릴 때 델타 단위를 키우는 데 사용할 수 있습니다.
+   * </p>
+   */
+  public int getPendingInput() {
+    return input.size();
+  }
+
+  /**
+   * 소비자 스레드가 끝났고 남은 델타도 모두 꺼냈는지 여부
+   */
+  public boolean isFinished() {
+    return finished && output.isEmpty();
+  }
+
+  /**
+   * 내부 어댑터를 반환합니다. 소비자 스레드가 끝난 뒤에만 안전하게 사용할 수 있습니다.
+   */
+  public JsonStreamingAdapter getAdapter() {
+    return adapter;
+  }
+
+  /**
+   * 소비자 스레드를 멈추고 종료를 기다립니다. 처리되지 않은 입력과 델타는 버려집니다.
+   */
+  @Override
+  public void close() {
+    closed = true;
+    consumer.interrupt();
+    try {
+      consumer.join();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  private void enqueue(String chunk) {
+    for (int attempt = 0; !input.offer(chunk); attempt++) {
+      checkFailure();
+      if (closed || finished) {
+        throw new JsonStreamingException("Pipeline is closed");
+      }
+      waitStrategy.idle(attempt);
+    }
+  }
+
+  private void consume() {
+    try {
+      int attempt = 0;
+      while (!closed) {
+        String chunk = input.poll();
+        if (chunk == null) {
+          waitStrategy.idle(attempt++);
+          continue;
+        }
+        attempt = 0;
+        if (chunk == END_OF_INPUT) {
+          publish(adapter.flush());
+          return;
+        }
+        publish(adapter.feedToken(chunk));
+      }
+    } catch (Throwable t) {
+      failure = t;
+    } finally {
+      finished = true;
+    }
+  }
+
+  private void publish(List<Map<String, Object>> deltas) {
+    for (Map<String, Object> delta : deltas) {
+      for (int attempt = 0; !output.offer(delta); attempt++) {
+        if (closed) {
+          return;
+        }
+        waitStrategy.idle(attempt);
+      }
+    }
+  }
+
+  private void checkFailure() {
+    Throwable cause = failure;
+    if (cause != null) {
+      throw new JsonStreamingException("Parsing failed on consumer thread: " + cause.getMessage(), cause);
+    }
+  }
+}
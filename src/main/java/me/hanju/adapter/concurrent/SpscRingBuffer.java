@@ -0,0 +1,110 @@
+package me.hanju.adapter.concurrent;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+
+/**
+ * 단일 생산자/단일 소비자 전용 lock-free 링 버퍼
+ * <p>
+ * 용량은 2의 거듭제곱으로 올림되어 생성 시 한 번만 할당됩니다. {@link #offer(Object)}는 한 스레드에서만,
+ * {@link #poll()}은 다른 한 스레드에서만 호출해야 합니다. 각 쪽은 상대 index를 캐시해 두고
+ * 버퍼가 가득 찼거나 비어 보일 때만 상대 index를 다시 읽습니다.
+ * </p>
+ */
+public final class SpscRingBuffer<E> {
+
+  private static final VarHandle HEAD;
+  private static final VarHandle TAIL;
+
+  static {
+    try {
+      MethodHandles.Lookup lookup = MethodHandles.lookup();
+      HEAD = lookup.findVarHandle(SpscRingBuffer.class, "head", long.class);
+      TAIL = lookup.findVarHandle(SpscRingBuffer.class, "tail", long.class);
+    } catch (ReflectiveOperationException e) {
+      throw new ExceptionInInitializerError(e);
+    }
+  }
+
+  private final Object[] buffer;
+  private final int mask;
+
+  // 생산자 소유
+  private long tail;
+  private long cachedHead;
+
+  // 소비자 소유
+  private long head;
+  private long cachedTail;
+
+  public SpscRingBuffer(int capacity) {
+    if (capacity <= 0 || capacity > 1 << 30) {
+      throw new IllegalArgumentException("Capacity must be between 1 and 2^30: " + capacity);
+    }
+    int size = Integer.highestOneBit(capacity);
+    if (size < capacity) {
+      size <<= 1;
+    }
+    this.buffer = new Object[size];
+    this.mask = size - 1;
+  }
+
+  /**
+   * 요소를 추가합니다. (생산자 스레드 전용)
+   *
+   * @return 버퍼가 가득 차 추가하지 못했으면 false
+   */
+  public boolean offer(E element) {
+    if (element == null) {
+      throw new IllegalArgumentException("Element cannot be null");
+    }
+    long t = tail;
+    if (t - cachedHead >= buffer.length) {
+      cachedHead = (long) HEAD.getAcquire(this);
+      if (t - cachedHead >= buffer.length) {
+        return false;
+      }
+    }
+    buffer[(int) t & mask] = element;
+    TAIL.setRelease(this, t + 1);
+    return true;
+  }
+
+  /**
+   * 요소를 꺼냅니다. (소비자 스레드 전용)
+   *
+   * @return 비어 있으면 null
+   */
+  @SuppressWarnings("unchecked")
+  public E poll() {
+    long h = head;
+    if (h >= cachedTail) {
+      cachedTail = (long) TAIL.getAcquire(this);
+      if (h >= cachedTail) {
+        return null;
+      }
+    }
+    int index = (int) h & mask;
+    E element = (E) buffer[index];
+    buffer[index] = null;
+    HEAD.setRelease(this, h + 1);
+    return element;
+  }
+
+  /**
+   * 현재 요소 수의 근사값 (어느 스레드에서나 호출 가능)
+   */
+  public int size() {
+    long h = (long) HEAD.getAcquire(this);
+    long t = (long) TAIL.getAcquire(this);
+    return (int) Math.max(0, t - h);
+  }
+
+  public boolean isEmpty() {
+    return size() == 0;
+  }
+
+  public int capacity() {
+    return buffer.length;
+  }
+}
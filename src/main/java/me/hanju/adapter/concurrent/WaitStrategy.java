@@ -0,0 +1,58 @@
+package me.hanju.adapter.concurrent;
+
+import java.time.Duration;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 링 버퍼가 비었거나 가득 찼을 때의 대기 방식
+ */
+@FunctionalInterface
+public interface WaitStrategy {
+
+  /**
+   * 한 번 대기합니다.
+   *
+   * @param attempt 연속으로 대기한 횟수 (진행되면 0부터 다시 시작)
+   */
+  void idle(int attempt);
+
+  /**
+   * 계속 스핀합니다. 지연이 가장 작지만 코어 하나를 점유합니다.
+   */
+  static WaitStrategy spinning() {
+    return attempt -> Thread.onSpinWait();
+  }
+
+  /**
+   * 잠시 스핀한 뒤 다른 스레드에 양보합니다.
+   */
+  static WaitStrategy yielding() {
+    return attempt -> {
+      if (attempt < 100) {
+        Thread.onSpinWait();
+      } else {
+        Thread.yield();
+      }
+    };
+  }
+
+  /**
+   * 잠시 스핀한 뒤 대기 시간을 두 배씩 늘려 가며 park합니다.
+   * 가상 스레드에서는 park 동안 캐리어 스레드를 반납하므로 가상 스레드 소비자에 적합합니다.
+   *
+   * @param maxPark 한 번에 park할 최대 시간
+   */
+  static WaitStrategy parking(Duration maxPark) {
+    long maxNanos = maxPark.toNanos();
+    if (maxNanos <= 0) {
+      throw new IllegalArgumentException("Max park time must be positive");
+    }
+    return attempt -> {
+      if (attempt < 64) {
+        Thread.onSpinWait();
+      } else {
+        LockSupport.parkNanos(Math.min(maxNanos, 1_000L << Math.min(attempt - 64, 20)));
+      }
+    };
+  }
+}
@@ -0,0 +1,24 @@
+package me.hanju.adapter.exception;
+
+/**
+ * 스트리밍 도중 스키마 위반이 확정되었을 때 발생하는 예외
+ * <p>
+ * {@code flush()} 시점의 전체 검증을 기다리지 않고, 위반이 확정되는 즉시 발생합니다.
+ * </p>
+ */
+public class SchemaViolationException extends JsonStreamingException {
+
+  private final String path;
+
+  public SchemaViolationException(String message, String path) {
+    super(message + " at " + path);
+    this.path = path;
+  }
+
+  /**
+   * 위반이 발생한 위치 (예: {@code $.name})
+   */
+  public String getPath() {
+    return path;
+  }
+}
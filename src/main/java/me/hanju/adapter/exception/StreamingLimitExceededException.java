@@ -0,0 +1,49 @@
+package me.hanju.adapter.exception;
+
+/**
+ * 스트림이 설정된 자원 한도를 넘었을 때 발생하는 예외
+ */
+public class StreamingLimitExceededException extends JsonStreamingException {
+
+  /**
+   * 초과된 한도 종류
+   */
+  public enum Limit {
+    DEPTH, STRING_LENGTH, BUFFER_SIZE, ARRAY_LENGTH, DELTAS_PER_CALL, MEMORY_BUDGET
+  }
+
+  private final Limit limit;
+  private final long maxValue;
+  private final String path;
+
+  public StreamingLimitExceededException(Limit limit, long maxValue, String path) {
+    super(limit + " limit exceeded (max " + maxValue + ")" + (path != null ? " at " + path : ""));
+    this.limit = limit;
+    this.maxValue = maxValue;
+    this.path = path;
+  }
+
+  public Limit getLimit() {
+    return limit;
+  }
+
+  public long getMaxValue() {
+    return maxValue;
+  }
+
+  /**
+   * 한도를 넘은 위치 (예: {@code $.items[2].value}, 알 수 없으면 null)
+   */
+  public String getPath() {
+    return path;
+  }
+
+  /**
+   * 같은 한도 정보에 경로를 채운 예외를 생성합니다.
+   */
+  public StreamingLimitExceededException withPath(String path) {
+    StreamingLimitExceededException e = new StreamingLimitExceededException(limit, maxValue, path);
+    e.setStackTrace(getStackTrace());
+    return e;
+  }
+}
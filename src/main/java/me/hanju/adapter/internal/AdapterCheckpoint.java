@@ -0,0 +1,242 @@
+package me.hanju.adapter.internal;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.fasterxml.jackson.core.io.JsonStringEncoder;
+
+import me.hanju.adapter.exception.JsonStreamingException;
+
+/**
+ * 어댑터 상태 체크포인트의 바이너리 표현입니다.
+ * <p>
+ * Jackson 파서의 내부 상태는 직렬화할 수 없으므로, 파서 컨텍스트(중첩된 객체/배열과 필드명)와
+ * 마지막 완성 토큰 이후의 미완성 입력(tail)만 기록합니다. 복원 시 {@link #parserPrefix()}로
+ * 같은 중첩 상태를 만드는 최소 JSON 접두어를 새 파서에 먹인 뒤 tail을 다시 피드합니다.
+ * </p>
+ */
+public record AdapterCheckpoint(
+    LeafKind leafKind,
+    List<ParserContext> contexts,
+    byte[] tail,
+    String currentFieldName,
+    boolean awaitingValue,
+    boolean inArray,
+    String arrayFieldName,
+    int autoIndex,
+    Integer explicitIndex,
+    boolean inArrayElement,
+    List<String> fieldPath,
+    byte[] rootObjectJson,
+    List<byte[]> objectStackJson,
+    long sequence,
+    String heldText,
+    boolean enumResolved) {
+
+  private static final int MAGIC = 0x4A534143; // "JSAC"
+  private static final int VERSION = 1;
+
+  /**
+   * 가장 안쪽 파서 컨텍스트에서 마지막으로 완성된 토큰의 종류
+   */
+  public enum LeafKind {
+    /** 아직 토큰 없음 */
+    NONE,
+    /** 객체/배열이 막 열림 */
+    OPENED,
+    /** 필드명까지 완성 */
+    FIELD_NAME,
+    /** 값(또는 하위 컨테이너)이 완성 */
+    VALUE
+  }
+
+  /**
+   * 루트부터 순서대로 기록된 파서 컨텍스트
+   *
+   * @param array 배열 컨텍스트 여부
+   * @param name  객체 컨텍스트의 현재 필드명
+   */
+  public record ParserContext(boolean array, String name) {
+  }
+
+  /**
+   * 새 파서를 체크포인트 시점과 같은 중첩 상태로 만드는 JSON 접두어를 생성합니다.
+   * 접두어의 마지막 토큰은 항상 접두어 끝에서 완성됩니다.
+   */
+  public byte[] parserPrefix() {
+    return parserPrefix(contexts, leafKind);
+  }
+
+  /**
+   * 주어진 파서 컨텍스트와 마지막 토큰 종류를 재현하는 JSON 접두어를 생성합니다.
+   *
+   * @see #parserPrefix()
+   */
+  public static byte[] parserPrefix(List<ParserContext> contexts, LeafKind leafKind) {
+    StringBuilder sb = new StringBuilder();
+    for (int i = 0; i < contexts.size(); i++) {
+      ParserContext ctx = contexts.get(i);
+      sb.append(ctx.array() ? '[' : '{');
+      boolean leaf = i == contexts.size() - 1;
+      if (!leaf) {
+        if (!ctx.array()) {
+          appendQuoted(sb, ctx.name()).append(':');
+        }
+        continue;
+      }
+      switch (leafKind) {
+        case FIELD_NAME -> appendQuoted(sb, ctx.name());
+        case VALUE -> sb.append(ctx.array() ? "\"\"" : "\"\":\"\"");
+        default -> {
+        }
+      }
+    }
+    if (contexts.isEmpty() && leafKind == LeafKind.VALUE) {
+      sb.append("{}");
+    }
+    return sb.toString().getBytes(StandardCharsets.UTF_8);
+  }
+
+  public byte[] toBytes() {
+    try {
+      ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+      DataOutputStream out = new DataOutputStream(bytes);
+      out.writeInt(MAGIC);
+      out.writeByte(VERSION);
+
+      out.writeByte(leafKind.ordinal());
+      out.writeInt(contexts.size());
+      for (ParserContext ctx : contexts) {
+        out.writeBoolean(ctx.array());
+        writeNullableString(out, ctx.name());
+      }
+      writeBytes(out, tail);
+
+      writeNullableString(out, currentFieldName);
+      out.writeBoolean(awaitingValue);
+
+      out.writeBoolean(inArray);
+      writeNullableString(out, arrayFieldName);
+      out.writeInt(autoIndex);
+      out.writeBoolean(explicitIndex != null);
+      if (explicitIndex != null) {
+        out.writeInt(explicitIndex);
+      }
+      out.writeBoolean(inArrayElement);
+
+      out.writeInt(fieldPath.size());
+      for (String segment : fieldPath) {
+        writeNullableString(out, segment);
+      }
+      out.writeBoolean(rootObjectJson != null);
+      if (rootObjectJson != null) {
+        writeBytes(out, rootObjectJson);
+      }
+      out.writeInt(objectStackJson.size());
+      for (byte[] json : objectStackJson) {
+        writeBytes(out, json);
+      }
+      out.writeLong(sequence);
+      writeNullableString(out, heldText);
+      out.writeBoolean(enumResolved);
+      out.flush();
+      return bytes.toByteArray();
+    } catch (IOException e) {
+      throw new JsonStreamingException("Failed to write checkpoint", e);
+    }
+  }
+
+  public static AdapterCheckpoint fromBytes(byte[] data) {
+    if (data == null) {
+      throw new IllegalArgumentException("Checkpoint cannot be null");
+    }
+    try {
+      DataInputStream in = new DataInputStream(new ByteArrayInputStream(data));
+      if (in.readInt() != MAGIC) {
+        throw new JsonStreamingException("Not an adapter checkpoint");
+      }
+      int version = in.readUnsignedByte();
+      if (version != VERSION) {
+        throw new JsonStreamingException("Unsupported checkpoint version: " + version);
+      }
+
+      LeafKind leafKind = LeafKind.values()[in.readUnsignedByte()];
+      int contextCount = in.readInt();
+      List<ParserContext> contexts = new ArrayList<>(contextCount);
+      for (int i = 0; i < contextCount; i++) {
+        contexts.add(new ParserContext(in.readBoolean(), readNullableString(in)));
+      }
+      byte[] tail = readBytes(in);
+
+      String currentFieldName = readNullableString(in);
+      boolean awaitingValue = in.readBoolean();
+
+      boolean inArray = in.readBoolean();
+      String arrayFieldName = readNullableString(in);
+      int autoIndex = in.readInt();
+      Integer explicitIndex = in.readBoolean() ? in.readInt() : null;
+      boolean inArrayElement = in.readBoolean();
+
+      int pathSize = in.readInt();
+      List<String> fieldPath = new ArrayList<>(pathSize);
+      for (int i = 0; i < pathSize; i++) {
+        fieldPath.add(readNullableString(in));
+      }
+      byte[] rootObjectJson = in.readBoolean() ? readBytes(in) : null;
+      int stackSize = in.readInt();
+      List<byte[]> objectStackJson = new ArrayList<>(stackSize);
+      for (int i = 0; i < stackSize; i++) {
+        objectStackJson.add(readBytes(in));
+      }
+      long sequence = in.readLong();
+      String heldText = readNullableString(in);
+      boolean enumResolved = in.readBoolean();
+
+      return new AdapterCheckpoint(leafKind, contexts, tail, currentFieldName, awaitingValue,
+          inArray, arrayFieldName, autoIndex, explicitIndex, inArrayElement,
+          fieldPath, rootObjectJson, objectStackJson, sequence, heldText, enumResolved);
+    } catch (IOException | ArrayIndexOutOfBoundsException e) {
+      throw new JsonStreamingException("Corrupted checkpoint", e);
+    }
+  }
+
+  private static StringBuilder appendQuoted(StringBuilder sb, String name) {
+    sb.append('"');
+    if (name != null) {
+      JsonStringEncoder.getInstance().quoteAsString(name, sb);
+    }
+    return sb.append('"');
+  }
+
+  private static void writeNullableString(DataOutputStream out, String value) throws IOException {
+    out.writeBoolean(value != null);
+    if (value != null) {
+      writeBytes(out, value.getBytes(StandardCharsets.UTF_8));
+    }
+  }
+
+  private static String readNullableString(DataInputStream in) throws IOException {
+    return in.readBoolean() ? new String(readBytes(in), StandardCharsets.UTF_8) : null;
+  }
+
+  private static void writeBytes(DataOutputStream out, byte[] value) throws IOException {
+    out.writeInt(value.length);
+    out.write(value);
+  }
+
+  private static byte[] readBytes(DataInputStream in) throws IOException {
+    int length = in.readInt();
+    if (length < 0) {
+      throw new IOException("Negative length: " + length);
+    }
+    byte[] value = new byte[length];
+    in.readFully(value);
+    return value;
+  }
+}
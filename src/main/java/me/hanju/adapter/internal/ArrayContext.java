@@ -1,16 +1,33 @@
 package me.hanju.adapter.internal;
 
+import me.hanju.adapter.exception.StreamingLimitExceededException;
+import me.hanju.adapter.exception.StreamingLimitExceededException.Limit;
+
 /**
  * 배열 파싱 상태를 관리합니다.
  * 배열 필드명, 현재 요소 index, 자동 index 생성을 처리합니다.
  */
 public class ArrayContext {
 
+  private final int maxArrayLength;
+
   private boolean inArray = false;
   private String arrayFieldName = null;
   private int autoIndex = 0;
   private Integer currentElementIndex = null;
   private boolean inArrayElement = false;
+  private int elementCount = 0;
+
+  public ArrayContext() {
+    this(Integer.MAX_VALUE);
+  }
+
+  /**
+   * @param maxArrayLength 배열 하나의 최대 요소 수 (초과 시 즉시 예외)
+   */
+  public ArrayContext(int maxArrayLength) {
+    this.maxArrayLength = maxArrayLength;
+  }
 
   public boolean isInArray() {
     return inArray;
@@ -39,6 +56,7 @@ public class ArrayContext {
     inArray = true;
     arrayFieldName = fieldName;
     autoIndex = 0;
+    elementCount = 0;
   }
 
   /**
@@ -49,12 +67,23 @@ public class ArrayContext {
     arrayFieldName = null;
     autoIndex = 0;
     currentElementIndex = null;
+    elementCount = 0;
+  }
+
+  /**
+   * 배열 요소 하나를 셉니다. 객체가 아닌 요소는 직접 호출합니다.
+   */
+  public void countElement() {
+    if (++elementCount > maxArrayLength) {
+      throw new StreamingLimitExceededException(Limit.ARRAY_LENGTH, maxArrayLength, null);
+    }
   }
 
   /**
    * 배열 요소 객체 시작을 처리합니다.
    */
   public void startElement() {
+    countElement();
     inArrayElement = true;
     currentElementIndex = null;
   }
@@ -79,6 +108,37 @@ public class ArrayContext {
     currentElementIndex = index;
   }
 
+  /**
+   * 현재 배열에서 지금까지 센 요소 수를 반환합니다.
+   */
+  public int getElementCount() {
+    return elementCount;
+  }
+
+  public int getAutoIndex() {
+    return autoIndex;
+  }
+
+  /**
+   * 현재 요소에 명시적으로 지정된 index를 반환합니다. (없으면 null)
+   */
+  public Integer getExplicitIndex() {
+    return currentElementIndex;
+  }
+
+  /**
+   * 체크포인트에서 배열 상태를 복원합니다.
+   */
+  public void restore(boolean inArray, String arrayFieldName, int autoIndex,
+      Integer currentElementIndex, boolean inArrayElement) {
+    this.elementCount = autoIndex + (inArrayElement ? 1 : 0);
+    this.inArray = inArray;
+    this.arrayFieldName = arrayFieldName;
+    this.autoIndex = autoIndex;
+    this.currentElementIndex = currentElementIndex;
+    this.inArrayElement = inArrayElement;
+  }
+
   /**
    * 필드가 index 필드인지 확인합니다.
    */
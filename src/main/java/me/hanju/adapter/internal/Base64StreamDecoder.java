@@ -0,0 +1,85 @@
+package me.hanju.adapter.internal;
+
+import java.nio.ByteBuffer;
+import java.util.Base64;
+
+/**
+ * 여러 증분으로 나뉘어 들어오는 base64 텍스트를 완성된 4문자 묶음 단위로 디코딩합니다.
+ * <p>
+ * 묶음을 채우지 못한 나머지 문자(최대 3개)는 다음 증분까지 보관합니다. 공백과 줄바꿈은 무시합니다.
+ * </p>
+ */
+public final class Base64StreamDecoder {
+
+  private static final ByteBuffer EMPTY = ByteBuffer.allocate(0);
+
+  private final Base64.Decoder decoder = Base64.getDecoder();
+  private final byte[] pending = new byte[3];
+  private int pendingLength = 0;
+  private boolean padded = false;
+  private long totalBytes = 0;
+
+  /**
+   * 증분을 디코딩합니다.
+   *
+   * @return 이번 증분으로 완성된 바이트 (없으면 빈 버퍼)
+   * @throws IllegalArgumentException base64 문자가 아니거나 패딩 뒤에 데이터가 있는 경우
+   */
+  public ByteBuffer decode(CharSequence chars) {
+    byte[] quads = new byte[pendingLength + chars.length()];
+    System.arraycopy(pending, 0, quads, 0, pendingLength);
+    int length = pendingLength;
+    for (int i = 0; i < chars.length(); i++) {
+      char c = chars.charAt(i);
+      if (c == ' ' || c == '\n' || c == '\r' || c == '\t') {
+        continue;
+      }
+      if (!isBase64Char(c)) {
+        throw new IllegalArgumentException("Illegal base64 character: '" + c + "'");
+      }
+      if (padded) {
+        throw new IllegalArgumentException("Data after base64 padding");
+      }
+      quads[length++] = (byte) c;
+    }
+
+    int whole = length - length % 4;
+    pendingLength = length - whole;
+    System.arraycopy(quads, whole, pending, 0, pendingLength);
+    if (whole == 0) {
+      return EMPTY;
+    }
+    padded = quads[whole - 1] == '=';
+    return count(decoder.decode(ByteBuffer.wrap(quads, 0, whole)));
+  }
+
+  /**
+   * 남은 문자를 디코딩합니다. 패딩이 생략된 마지막 묶음을 허용합니다.
+   *
+   * @throws IllegalArgumentException 남은 문자가 하나뿐인 경우
+   */
+  public ByteBuffer finish() {
+    if (pendingLength == 0) {
+      return EMPTY;
+    }
+    ByteBuffer tail = decoder.decode(ByteBuffer.wrap(pending, 0, pendingLength));
+    pendingLength = 0;
+    return count(tail);
+  }
+
+  /**
+   * 지금까지 디코딩된 바이트 수
+   */
+  public long getTotalBytes() {
+    return totalBytes;
+  }
+
+  private ByteBuffer count(ByteBuffer decoded) {
+    totalBytes += decoded.remaining();
+    return decoded;
+  }
+
+  private static boolean isBase64Char(char c) {
+    return c >= 'A' && c <= 'Z' || c >= 'a' && c <= 'z' || c >= '0' && c <= '9' || c == '+' || c == '/' || c == '=';
+  }
+}
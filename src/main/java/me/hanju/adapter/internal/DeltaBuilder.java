@@ -2,19 +2,40 @@ package me.hanju.adapter.internal;
 
 import java.util.ArrayList;
 import java.util.Deque;
-import java.util.LinkedHashMap;
+import java.util.Iterator;
 import java.util.List;
-import java.util.Map;
+import java.util.Objects;
+
+import me.hanju.adapter.Delta;
+import me.hanju.adapter.DeltaPath;
+import me.hanju.adapter.exception.StreamingLimitExceededException;
+import me.hanju.adapter.exception.StreamingLimitExceededException.Limit;
 
 /**
  * Delta 객체 생성 및 수집을 담당합니다.
- * 경로 기반 delta 구성과 배열 래핑을 처리합니다.
+ * 현재 경로의 {@link DeltaPath}를 캐시해 같은 객체 안의 델타들이 공유하게 합니다.
  */
 public class DeltaBuilder {
 
-  private final List<Map<String, Object>> deltas = new ArrayList<>();
+  private final List<Delta> deltas = new ArrayList<>();
+  private final int maxDeltas;
+
+  // 마지막으로 만든 객체 경로와 배열 요소 경로
+  private DeltaPath objectPath = DeltaPath.root();
+  private DeltaPath elementPath;
+
+  public DeltaBuilder() {
+    this(Integer.MAX_VALUE);
+  }
+
+  /**
+   * @param maxDeltas {@link #clear()} 사이에 수집할 수 있는 최대 delta 수 (초과 시 즉시 예외)
+   */
+  public DeltaBuilder(int maxDeltas) {
+    this.maxDeltas = maxDeltas;
+  }
 
-  public List<Map<String, Object>> getDeltas() {
+  public List<Delta> getDeltas() {
     return new ArrayList<>(deltas);
   }
 
@@ -23,61 +44,55 @@ public class DeltaBuilder {
   }
 
   /**
-   * 일반 필드의 delta를 추가합니다.
+   * delta를 추가합니다. 필드명이 없는 delta(루트 값 등)는 버립니다.
    */
-  public void add(String field, Object value, Deque<String> fieldPath) {
-    if (field == null) {
+  public void add(Delta delta) {
+    if (delta.field() == null) {
       return;
     }
-    Map<String, Object> delta = buildDelta(field, value, fieldPath);
+    if (deltas.size() >= maxDeltas) {
+      throw new StreamingLimitExceededException(Limit.DELTAS_PER_CALL, maxDeltas, null);
+    }
     deltas.add(delta);
   }
 
   /**
-   * 배열 요소 내 필드의 delta를 추가합니다.
+   * 일반 필드의 경로를 반환합니다.
    */
-  public void addArrayElement(String field, Object value, Deque<String> fieldPath,
-      String arrayFieldName, int index) {
-    if (field == null) {
-      return;
+  public DeltaPath path(Deque<String> fieldPath) {
+    if (!matches(objectPath, fieldPath)) {
+      DeltaPath path = DeltaPath.root();
+      for (String segment : fieldPath) {
+        path = path.child(segment);
+      }
+      objectPath = path;
     }
-    Map<String, Object> delta = buildArrayDelta(field, value, fieldPath, arrayFieldName, index);
-    deltas.add(delta);
+    return objectPath;
   }
 
-  private Map<String, Object> buildDelta(String field, Object value, Deque<String> fieldPath) {
-    Map<String, Object> result = new LinkedHashMap<>();
-    Map<String, Object> current = result;
-
-    for (String pathElement : fieldPath) {
-      Map<String, Object> nested = new LinkedHashMap<>();
-      current.put(pathElement, nested);
-      current = nested;
+  /**
+   * 배열 요소 내 필드의 경로를 반환합니다.
+   */
+  public DeltaPath elementPath(Deque<String> fieldPath, String arrayFieldName, int index) {
+    DeltaPath parent = path(fieldPath);
+    if (elementPath == null || elementPath.parent() != parent || elementPath.index() != index
+        || !Objects.equals(elementPath.name(), arrayFieldName)) {
+      elementPath = parent.element(arrayFieldName, index);
     }
-    current.put(field, value);
-
-    return result;
+    return elementPath;
   }
 
-  private Map<String, Object> buildArrayDelta(String field, Object value, Deque<String> fieldPath,
-      String arrayFieldName, int index) {
-    Map<String, Object> result = new LinkedHashMap<>();
-    Map<String, Object> current = result;
-
-    for (String pathElement : fieldPath) {
-      Map<String, Object> nested = new LinkedHashMap<>();
-      current.put(pathElement, nested);
-      current = nested;
+  private static boolean matches(DeltaPath path, Deque<String> fieldPath) {
+    if (path.depth() != fieldPath.size()) {
+      return false;
     }
-
-    Map<String, Object> element = new LinkedHashMap<>();
-    element.put("index", index);
-    element.put(field, value);
-
-    List<Map<String, Object>> array = new ArrayList<>();
-    array.add(element);
-    current.put(arrayFieldName, array);
-
-    return result;
+    Iterator<String> segments = fieldPath.descendingIterator();
+    for (DeltaPath p = path; !p.isRoot(); p = p.parent()) {
+      String segment = segments.next();
+      if (p.name() != segment && !Objects.equals(p.name(), segment)) {
+        return false;
+      }
+    }
+    return true;
   }
 }
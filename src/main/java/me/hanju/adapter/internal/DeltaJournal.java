@@ -0,0 +1,76 @@
+package me.hanju.adapter.internal;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import me.hanju.adapter.SequencedDelta;
+
+/**
+ * 최근 델타를 고정 크기 링 버퍼에 보관합니다.
+ * 가득 차면 가장 오래된 델타부터 덮어씁니다.
+ */
+public final class DeltaJournal {
+
+  private final SequencedDelta[] ring;
+  private int size = 0;
+  private long lastSequence = 0;
+
+  public DeltaJournal(int capacity) {
+    this(capacity, 0);
+  }
+
+  /**
+   * 순번이 {@code startSequence} 다음부터 이어지는 빈 버퍼를 만듭니다. (체크포인트 복원용)
+   * 그 이전 순번은 보관하지 않으므로 {@link #since(long)}로 요청하면 null을 반환합니다.
+   */
+  public DeltaJournal(int capacity, long startSequence) {
+    this.ring = new SequencedDelta[capacity];
+    this.lastSequence = startSequence;
+  }
+
+  public int capacity() {
+    return ring.length;
+  }
+
+  /**
+   * 다음 순번의 델타를 추가합니다.
+   *
+   * @return 가득 차서 밀려난 가장 오래된 델타 (없으면 null)
+   */
+  public SequencedDelta append(SequencedDelta delta) {
+    int slot = (int) (delta.sequence() % ring.length);
+    SequencedDelta evicted = ring[slot];
+    ring[slot] = delta;
+    lastSequence = delta.sequence();
+    if (size < ring.length) {
+      size++;
+    }
+    return evicted;
+  }
+
+  /**
+   * 보관한 델타를 모두 버립니다. 이후 {@link #since(long)}는 마지막 순번 이전을 요청하면 null을 반환합니다.
+   */
+  public void clear() {
+    Arrays.fill(ring, null);
+    size = 0;
+  }
+
+  /**
+   * 지정한 순번 이후의 델타를 순서대로 반환합니다.
+   *
+   * @return 델타 목록 (중간 델타가 이미 덮어써졌으면 null)
+   */
+  public List<SequencedDelta> since(long sequence) {
+    long oldest = lastSequence - size + 1;
+    if (sequence + 1 < oldest) {
+      return null;
+    }
+    List<SequencedDelta> result = new ArrayList<>((int) Math.max(0, lastSequence - sequence));
+    for (long s = sequence + 1; s <= lastSequence; s++) {
+      result.add(ring[(int) (s % ring.length)]);
+    }
+    return result;
+  }
+}
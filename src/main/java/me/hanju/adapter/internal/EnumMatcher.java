@@ -0,0 +1,89 @@
+package me.hanju.adapter.internal;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 스트리밍 중인 문자열 값에 대해 아직 가능한 enum 후보를 추적합니다.
+ * <p>
+ * 후보를 정렬해 두고, 문자가 들어올 때마다 현재 접두어와 일치하는 후보 구간을 좁힙니다.
+ * </p>
+ */
+public final class EnumMatcher {
+
+  private final String[] candidates;
+  private final int maxLength;
+  private int length = 0;
+  private int from = 0;
+  private int to;
+  private boolean resolved = false;
+
+  public EnumMatcher(List<String> candidates) {
+    this.candidates = candidates.stream().distinct().sorted().toArray(String[]::new);
+    this.to = this.candidates.length;
+    this.maxLength = Arrays.stream(this.candidates).mapToInt(String::length).max().orElse(0);
+  }
+
+  /**
+   * 디코딩된 문자열 증분을 추가합니다.
+   *
+   * @return 아직 일치하는 후보가 있으면 true
+   */
+  public boolean append(String increment) {
+    for (int i = 0; i < increment.length() && from < to; i++) {
+      char c = increment.charAt(i);
+      while (from < to && !matchesAt(candidates[from], length, c)) {
+        from++;
+      }
+      int end = from;
+      while (end < to && matchesAt(candidates[end], length, c)) {
+        end++;
+      }
+      to = end;
+      length++;
+    }
+    return from < to;
+  }
+
+  /**
+   * 후보가 하나로 좁혀졌고 아직 알리지 않았으면 그 후보를 반환합니다. (그 외에는 null)
+   */
+  public String takeResolved() {
+    if (resolved || to - from != 1) {
+      return null;
+    }
+    resolved = true;
+    return candidates[from];
+  }
+
+  /**
+   * 완성된 값과 같은 후보를 반환합니다. (없으면 null)
+   * 가장 긴 후보보다 긴 값은 문자열로 만들지 않고 거부하므로, 내보낸 큰 값에도 쓸 수 있습니다.
+   */
+  public String match(CharSequence value) {
+    if (value.length() > maxLength) {
+      return null;
+    }
+    int index = Arrays.binarySearch(candidates, value.toString());
+    return index >= 0 ? candidates[index] : null;
+  }
+
+  public boolean isResolved() {
+    return resolved;
+  }
+
+  /**
+   * 이미 알린 것으로 표시합니다. (체크포인트 복원용)
+   */
+  public void markResolved() {
+    resolved = true;
+  }
+
+  public List<String> getCandidates() {
+    return List.of(candidates);
+  }
+
+  private static boolean matchesAt(String candidate, int index, char c) {
+    return index < candidate.length() && candidate.charAt(index) == c;
+  }
+}
@@ -0,0 +1,48 @@
+package me.hanju.adapter.internal;
+
+import com.fasterxml.jackson.core.StreamReadConstraints;
+
+import me.hanju.adapter.StreamingLimits;
+import me.hanju.adapter.exception.StreamingLimitExceededException;
+import me.hanju.adapter.exception.StreamingLimitExceededException.Limit;
+
+/**
+ * 깊이와 문자열 길이 한도를 파서에 적용하는 Jackson 읽기 제약입니다.
+ * <p>
+ * 지정하지 않은 한도는 Jackson 기본값을 그대로 씁니다. 넘으면 파서가 토큰을 만들기 전에
+ * 해당 {@link Limit}의 {@link StreamingLimitExceededException}을 던지므로, 예외 메시지로 한도 종류를 추측하지 않습니다.
+ * 그 밖의 제약(필드명, 숫자 길이 등)은 Jackson 기본 동작을 따릅니다.
+ * </p>
+ */
+public final class LimitReadConstraints extends StreamReadConstraints {
+
+  private static final long serialVersionUID = 1L;
+
+  private LimitReadConstraints(StreamReadConstraints base, int maxDepth, int maxStringLength) {
+    super(maxDepth, base.getMaxDocumentLength(), base.getMaxNumberLength(), maxStringLength,
+        base.getMaxNameLength(), base.getMaxTokenCount());
+  }
+
+  public static LimitReadConstraints of(StreamingLimits limits) {
+    StreamReadConstraints defaults = StreamReadConstraints.defaults();
+    return new LimitReadConstraints(defaults,
+        limits.getMaxDepth() == StreamingLimits.UNLIMITED ? defaults.getMaxNestingDepth() : limits.getMaxDepth(),
+        limits.getMaxStringLength() == StreamingLimits.UNLIMITED
+            ? defaults.getMaxStringLength()
+            : limits.getMaxStringLength());
+  }
+
+  @Override
+  public void validateNestingDepth(int depth) {
+    if (depth > _maxNestingDepth) {
+      throw new StreamingLimitExceededException(Limit.DEPTH, _maxNestingDepth, null);
+    }
+  }
+
+  @Override
+  public void validateStringLength(int length) {
+    if (length > _maxStringLen) {
+      throw new StreamingLimitExceededException(Limit.STRING_LENGTH, _maxStringLen, null);
+    }
+  }
+}
@@ -0,0 +1,372 @@
+package me.hanju.adapter.internal;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.DecimalNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.networknt.schema.JsonSchema;
+import com.networknt.schema.JsonSchemaFactory;
+import com.networknt.schema.SchemaValidatorsConfig;
+
+/**
+ * 스트리밍 중 참조하는 스키마 분석 결과입니다.
+ * <p>
+ * 같은 {@link JsonSchema}를 사용하는 어댑터들이 공유하도록 스키마 인스턴스별로 캐시되며,
+ * 분기별 스키마처럼 비용이 큰 항목은 처음 필요할 때 컴파일합니다.
+ * </p>
+ */
+public final class SchemaIndex {
+
+  private static final Map<JsonSchema, SchemaIndex> CACHE = Collections.synchronizedMap(new WeakHashMap<>());
+  private static final int MAX_REF_HOPS = 32;
+  // properties/items 외에 하위 값 검증에 영향을 줄 수 있는 키워드 (경로에 있으면 하위 값을 따로 검증하지 않음)
+  private static final List<String> SUBTREE_SENSITIVE_KEYWORDS = List.of(
+      "allOf", "anyOf", "oneOf", "not", "if", "then", "else", "dependencies", "dependentSchemas",
+      "patternProperties", "unevaluatedProperties", "unevaluatedItems", "additionalItems", "prefixItems");
+
+  private final JsonNode rootNode;
+  private final JsonSchemaFactory factory;
+  private final SchemaValidatorsConfig config;
+  private final Discriminator discriminator;
+  private final ConcurrentMap<Integer, JsonSchema> branchSchemas = new ConcurrentHashMap<>();
+  private final ConcurrentMap<String, Optional<JsonSchema>> subSchemas = new ConcurrentHashMap<>();
+  private final ConcurrentMap<String, Optional<List<String>>> enumCandidates = new ConcurrentHashMap<>();
+  private final ConcurrentMap<String, Boolean> base64Fields = new ConcurrentHashMap<>();
+  private final ConcurrentMap<String, Optional<StringConstraints>> stringConstraints = new ConcurrentHashMap<>();
+  private final ConcurrentMap<String, Optional<JsonSchema>> itemSchemas = new ConcurrentHashMap<>();
+  private final ConcurrentMap<String, JsonSchema> schemasWithout = new ConcurrentHashMap<>();
+
+  /**
+   * oneOf/anyOf 분기를 고르는 판별 속성
+   *
+   * @param keyword  분기 키워드 (oneOf 또는 anyOf)
+   * @param property 판별 속성명
+   * @param branches 속성 값별 분기 index (키는 {@link #key(JsonNode)}로 정규화한 값)
+   */
+  public record Discriminator(String keyword, String property, Map<JsonNode, Integer> branches) {
+
+    /**
+     * 값에 해당하는 분기 index를 반환합니다. (없으면 null)
+     */
+    public Integer branchOf(JsonNode value) {
+      return branches.get(key(value));
+    }
+
+    /**
+     * 숫자는 표기와 무관하게 같은 키가 되도록 정규화합니다. ({@code 1}, {@code 1.0}, {@code 1e0}은 같은 분기)
+     */
+    static JsonNode key(JsonNode value) {
+      return value.isNumber() ? DecimalNode.valueOf(value.decimalValue().stripTrailingZeros()) : value;
+    }
+  }
+
+  private SchemaIndex(JsonSchema schema) {
+    this.rootNode = schema.getSchemaNode();
+    this.factory = schema.getValidationContext().getJsonSchemaFactory();
+    this.config = schema.getValidationContext().getConfig();
+    this.discriminator = analyzeDiscriminator();
+  }
+
+  public static SchemaIndex of(JsonSchema schema) {
+    return CACHE.computeIfAbsent(schema, SchemaIndex::new);
+  }
+
+  /**
+   * 루트 oneOf/anyOf의 판별 속성을 반환합니다. (없으면 null)
+   */
+  public Discriminator getDiscriminator() {
+    return discriminator;
+  }
+
+  /**
+   * 선택된 분기만 적용한 루트 스키마를 반환합니다.
+   * 루트의 다른 키워드와 정의($ref 대상)는 그대로 유지됩니다.
+   */
+  public JsonSchema branchSchema(int branch) {
+    return branchSchemas.computeIfAbsent(branch, i -> {
+      ObjectNode node = ((ObjectNode) rootNode).deepCopy();
+      JsonNode branchNode = node.remove(discriminator.keyword()).get(i);
+      ArrayNode allOf = node.get("allOf") instanceof ArrayNode existing ? existing : node.putArray("allOf");
+      allOf.add(branchNode);
+      return factory.getSchema(node, config);
+    });
+  }
+
+  /**
+   * 경로에 해당하는 하위 스키마를 반환합니다. (찾을 수 없으면 null)
+   * <p>
+   * {@code properties}와 {@code items}를 따라 내려가며 로컬 $ref를 추적합니다.
+   * 하위 스키마는 루트의 정의(definitions/$defs)를 함께 담아 컴파일하고 경로별로 캐시합니다.
+   * </p>
+   *
+   * @param branch   선택된 루트 분기 (-1이면 루트에서 시작)
+   * @param segments 필드명 또는 배열 요소를 뜻하는 {@code []}
+   */
+  public JsonSchema subSchema(int branch, List<String> segments) {
+    return subSchemas.computeIfAbsent(pathKey(branch, segments),
+        k -> Optional.ofNullable(compileSubSchema(branch, segments))).orElse(null);
+  }
+
+  /**
+   * 경로의 문자열 값이 가질 수 있는 후보를 반환합니다.
+   * 스키마가 문자열 {@code const} 또는 문자열로만 된 {@code enum}이 아니면 null을 반환합니다.
+   *
+   * @param branch   선택된 루트 분기 (-1이면 루트에서 시작)
+   * @param segments 필드명 또는 배열 요소를 뜻하는 {@code []}
+   */
+  public List<String> enumCandidates(int branch, List<String> segments) {
+    return enumCandidates.computeIfAbsent(pathKey(branch, segments),
+        k -> Optional.ofNullable(collectEnumCandidates(nodeAt(branch, segments)))).orElse(null);
+  }
+
+  /**
+   * 경로의 스키마가 {@code "contentEncoding": "base64"}인지 확인합니다.
+   *
+   * @param branch   선택된 루트 분기 (-1이면 루트에서 시작)
+   * @param segments 필드명 또는 배열 요소를 뜻하는 {@code []}
+   */
+  public boolean isBase64(int branch, List<String> segments) {
+    return base64Fields.computeIfAbsent(pathKey(branch, segments), k -> {
+      JsonNode node = nodeAt(branch, segments);
+      return node != null && "base64".equalsIgnoreCase(node.path("contentEncoding").asText());
+    });
+  }
+
+  /**
+   * 경로의 문자열 값에 스트리밍 중 확인할 수 있는 제약을 반환합니다.
+   * {@code pattern}, {@code format}, {@code minLength}, {@code maxLength}가 모두 없으면 null을 반환합니다.
+   *
+   * @param branch   선택된 루트 분기 (-1이면 루트에서 시작)
+   * @param segments 필드명 또는 배열 요소를 뜻하는 {@code []}
+   */
+  public StringConstraints stringConstraints(int branch, List<String> segments) {
+    return stringConstraints.computeIfAbsent(pathKey(branch, segments),
+        k -> Optional.ofNullable(collectStringConstraints(nodeAt(branch, segments)))).orElse(null);
+  }
+
+  /**
+   * 루트 스키마에서 배열 필드의 요소를 따로 검증할 수 있으면 {@code items} 하위 스키마를 반환합니다.
+   * <p>
+   * 루트에서 배열까지의 경로가 {@code properties}와 로컬 $ref로만 이어지고, 요소 검증에 영향을 주는
+   * 조합 키워드가 없으며, {@code items}가 단일 스키마인 경우에만 해당합니다. 그 외에는 null을 반환합니다.
+   * </p>
+   *
+   * @param arrayPath 배열 필드까지의 필드명 (배열 요소 {@code []}를 거치지 않는 경로)
+   */
+  public JsonSchema itemSchema(List<String> arrayPath) {
+    return itemSchemas.computeIfAbsent(pathKey(-1, arrayPath), k -> {
+      JsonNode node = rootNode;
+      for (String segment : arrayPath) {
+        if (!isSubtreeNeutral(node)) {
+          return Optional.empty();
+        }
+        node = resolve(node.path("properties").get(segment));
+      }
+      if (!isSubtreeNeutral(node) || !(node.get("items") instanceof ObjectNode)) {
+        return Optional.empty();
+      }
+      List<String> itemPath = new ArrayList<>(arrayPath);
+      itemPath.add("[]");
+      return Optional.ofNullable(compileSubSchema(-1, itemPath));
+    }).orElse(null);
+  }
+
+  /**
+   * 루트 필드의 하위 스키마를 반환합니다.
+   * 루트에 하위 값 검증에 영향을 주는 조합 키워드가 없고 필드가 {@code properties}에 선언된 경우에만 해당하며,
+   * 그 외에는 null을 반환합니다.
+   */
+  public JsonSchema memberSchema(String field) {
+    if (!isSubtreeNeutral(rootNode) || !rootNode.path("properties").has(field)) {
+      return null;
+    }
+    return subSchema(-1, List.of(field));
+  }
+
+  /**
+   * 지정한 루트 필드의 하위 스키마와 배열 필드의 {@code items}를 뺀 루트 스키마를 반환합니다.
+   * 필드를 {@link #memberSchema(String)}로, 요소를 {@link #itemSchema(List)}로 따로 검증한 뒤
+   * 나머지 제약(required, minItems 등)을 검증할 때 사용합니다.
+   *
+   * @param members    {@link #memberSchema(String)}가 null이 아니었던 루트 필드
+   * @param arrayPaths {@link #itemSchema(List)}가 null이 아니었던 배열 경로
+   */
+  public JsonSchema schemaWithout(Collection<String> members, Collection<List<String>> arrayPaths) {
+    List<String> keys = new ArrayList<>();
+    members.stream().map(member -> "m" + member).sorted().forEach(keys::add);
+    arrayPaths.stream().map(path -> "i" + pathKey(-1, path)).sorted().forEach(keys::add);
+    return schemasWithout.computeIfAbsent(String.join("\u0001", keys), k -> {
+      ObjectNode copy = ((ObjectNode) rootNode).deepCopy();
+      for (String member : members) {
+        // 필드가 있다는 사실만 남기고 값 제약은 뺌
+        ((ObjectNode) copy.get("properties")).putObject(member);
+      }
+      for (List<String> path : arrayPaths) {
+        ObjectNode node = copy;
+        for (String segment : path) {
+          ObjectNode properties = (ObjectNode) node.get("properties");
+          // 다른 곳에서 참조하는 정의를 바꾸지 않도록 $ref는 복사본으로 펼침
+          JsonNode resolved = resolve(properties.get(segment)).deepCopy();
+          properties.set(segment, resolved);
+          node = (ObjectNode) resolved;
+        }
+        node.remove("items");
+      }
+      return factory.getSchema(copy, config);
+    });
+  }
+
+  private static boolean isSubtreeNeutral(JsonNode node) {
+    if (!(node instanceof ObjectNode)) {
+      return false;
+    }
+    for (String keyword : SUBTREE_SENSITIVE_KEYWORDS) {
+      if (node.has(keyword)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static StringConstraints collectStringConstraints(JsonNode node) {
+    if (node == null) {
+      return null;
+    }
+    List<StringAutomaton> automata = new ArrayList<>();
+    if (node.get("pattern") instanceof JsonNode pattern && pattern.isTextual()) {
+      StringAutomaton automaton = StringAutomaton.forPattern(pattern.asText());
+      if (automaton != null) {
+        automata.add(automaton);
+      }
+    }
+    if (node.get("format") instanceof JsonNode format && format.isTextual()) {
+      StringAutomaton automaton = StringAutomaton.forFormat(format.asText());
+      if (automaton != null) {
+        automata.add(automaton);
+      }
+    }
+    int minLength = node.path("minLength").canConvertToInt() ? node.path("minLength").asInt() : 0;
+    int maxLength = node.path("maxLength").canConvertToInt() ? node.path("maxLength").asInt() : Integer.MAX_VALUE;
+    StringConstraints constraints = new StringConstraints(automata, minLength, maxLength);
+    return constraints.isEmpty() ? null : constraints;
+  }
+
+  private static List<String> collectEnumCandidates(JsonNode node) {
+    if (node == null) {
+      return null;
+    }
+    if (node.has("const")) {
+      return node.get("const").isTextual() ? List.of(node.get("const").asText()) : null;
+    }
+    if (!(node.get("enum") instanceof ArrayNode values) || values.isEmpty()) {
+      return null;
+    }
+    List<String> candidates = new ArrayList<>(values.size());
+    for (JsonNode value : values) {
+      if (!value.isTextual()) {
+        return null;
+      }
+      candidates.add(value.asText());
+    }
+    return List.copyOf(candidates);
+  }
+
+  private static String pathKey(int branch, List<String> segments) {
+    return branch + "/" + String.join("\u0000", segments);
+  }
+
+  private JsonNode nodeAt(int branch, List<String> segments) {
+    JsonNode node = branch >= 0 ? resolve(rootNode.get(discriminator.keyword()).get(branch)) : rootNode;
+    for (String segment : segments) {
+      if (node == null) {
+        return null;
+      }
+      node = resolve(segment.equals("[]") ? node.get("items") : node.path("properties").get(segment));
+    }
+    return node;
+  }
+
+  private JsonSchema compileSubSchema(int branch, List<String> segments) {
+    if (!(nodeAt(branch, segments) instanceof ObjectNode objectNode)) {
+      return null;
+    }
+    ObjectNode standalone = objectNode.deepCopy();
+    for (String definitions : new String[] { "definitions", "$defs" }) {
+      if (rootNode.has(definitions) && !standalone.has(definitions)) {
+        standalone.set(definitions, rootNode.get(definitions));
+      }
+    }
+    return factory.getSchema(standalone, config);
+  }
+
+  /**
+   * 로컬 $ref를 따라가 실제 스키마 노드를 반환합니다.
+   */
+  public JsonNode resolve(JsonNode node) {
+    JsonNode current = node;
+    for (int i = 0; i < MAX_REF_HOPS && current != null; i++) {
+      JsonNode ref = current.get("$ref");
+      if (ref == null || !ref.isTextual() || !ref.asText().startsWith("#")) {
+        return current;
+      }
+      JsonNode target = rootNode.at(ref.asText().substring(1));
+      current = target.isMissingNode() ? null : target;
+    }
+    return current;
+  }
+
+  private Discriminator analyzeDiscriminator() {
+    String keyword = rootNode.has("oneOf") ? "oneOf" : rootNode.has("anyOf") ? "anyOf" : null;
+    if (keyword == null || !(rootNode.get(keyword) instanceof ArrayNode union) || union.size() < 2) {
+      return null;
+    }
+
+    JsonNode first = resolve(union.get(0));
+    if (first == null || !first.path("properties").isObject()) {
+      return null;
+    }
+    for (Map.Entry<String, JsonNode> candidate : first.get("properties").properties()) {
+      Map<JsonNode, Integer> branches = mapBranches(union, candidate.getKey());
+      if (branches != null) {
+        return new Discriminator(keyword, candidate.getKey(), branches);
+      }
+    }
+    return null;
+  }
+
+  private Map<JsonNode, Integer> mapBranches(ArrayNode union, String property) {
+    Map<JsonNode, Integer> branches = new LinkedHashMap<>();
+    for (int i = 0; i < union.size(); i++) {
+      JsonNode branch = resolve(union.get(i));
+      JsonNode propertySchema = branch == null ? null : resolve(branch.path("properties").get(property));
+      if (propertySchema == null) {
+        return null;
+      }
+      if (propertySchema.has("const")) {
+        if (branches.putIfAbsent(Discriminator.key(propertySchema.get("const")), i) != null) {
+          return null;
+        }
+      } else if (propertySchema.get("enum") instanceof ArrayNode values && !values.isEmpty()) {
+        for (JsonNode value : values) {
+          if (branches.putIfAbsent(Discriminator.key(value), i) != null) {
+            return null;
+          }
+        }
+      } else {
+        return null;
+      }
+    }
+    return branches;
+  }
+}
@@ -0,0 +1,677 @@
+package me.hanju.adapter.internal;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
+/**
+ * 문자열 제약({@code pattern}, {@code format})을 code point 단위로 진행하는 결정적 유한 오토마톤입니다.
+ * <p>
+ * 정규식을 NFA로 만든 뒤 부분집합 구성으로 미리 DFA 전이표를 만들어 두므로, 인스턴스는 불변이고
+ * 여러 어댑터가 공유할 수 있습니다. 상태가 {@link #DEAD}가 되면 이후 어떤 문자가 와도 일치할 수 없습니다.
+ * </p>
+ * <p>
+ * {@code pattern}은 스키마 검증기와 같은 {@link Pattern#matcher(CharSequence) find()} 의미를 따릅니다.
+ * 역참조, 전후방 탐색, 단어 경계 등 유한 오토마톤으로 표현할 수 없는 구문은 지원하지 않습니다.
+ * </p>
+ */
+public final class StringAutomaton {
+
+  public static final int DEAD = 0;
+
+  private static final int MAX_STATES = 2048;
+  private static final int MAX_REPEAT = 256;
+  private static final int MAX_CODE_POINT = Character.MAX_CODE_POINT;
+
+  private static final Map<String, String> FORMATS = Map.of(
+      "date", "^\\d{4}-(0[1-9]|1[0-2])-(0[1-9]|[12]\\d|3[01])$",
+      "time", "^" + timePattern() + "$",
+      "date-time", "^\\d{4}-(0[1-9]|1[0-2])-(0[1-9]|[12]\\d|3[01])[Tt ]" + timePattern() + "$",
+      "uuid", "^[0-9a-fA-F]{8}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{12}$",
+      "ipv4", "^(\\d{1,3}\\.){3}\\d{1,3}$",
+      // 따옴표로 감싼 local part 등을 허용해야 하므로 '@' 존재만 확인
+      "email", "^[\\s\\S]+@[\\s\\S]+$");
+
+  private final String description;
+  private final int[] bounds;
+  private final int[] asciiClass;
+  private final int classCount;
+  private final int[] table;
+  private final boolean[] accepting;
+
+  private StringAutomaton(String description, int[] bounds, int[] table, boolean[] accepting) {
+    this.description = description;
+    this.bounds = bounds;
+    this.classCount = bounds.length;
+    this.table = table;
+    this.accepting = accepting;
+    this.asciiClass = new int[128];
+    for (int c = 0; c < 128; c++) {
+      asciiClass[c] = classOf(c);
+    }
+  }
+
+  /**
+   * {@code pattern} 키워드의 정규식을 컴파일합니다.
+   *
+   * @return 오토마톤 (지원하지 않는 구문이거나 상태가 너무 많으면 null)
+   */
+  public static StringAutomaton forPattern(String regex) {
+    try {
+      Pattern.compile(regex);
+    } catch (PatternSyntaxException e) {
+      return null;
+    }
+    return compile(regex, "pattern " + regex);
+  }
+
+  /**
+   * {@code format} 키워드의 필요 조건을 나타내는 오토마톤을 반환합니다.
+   * <p>
+   * 날짜의 실제 존재 여부처럼 문자 구조로 판단할 수 없는 조건은 검사하지 않으므로,
+   * 거부된 값은 항상 형식에 맞지 않지만 통과한 값이 항상 맞는 것은 아닙니다.
+   * </p>
+   *
+   * @return 오토마톤 (지원하지 않는 형식이면 null)
+   */
+  public static StringAutomaton forFormat(String format) {
+    String regex = FORMATS.get(format);
+    return regex == null ? null : compile(regex, "format " + format);
+  }
+
+  private static String timePattern() {
+    return "([01]\\d|2[0-3]):[0-5]\\d:([0-5]\\d|60)(\\.\\d+)?([Zz]|[+-]([01]\\d|2[0-3]):[0-5]\\d)";
+  }
+
+  public String description() {
+    return description;
+  }
+
+  public int start() {
+    return 1;
+  }
+
+  /**
+   * code point 하나만큼 진행한 상태를 반환합니다.
+   */
+  public int step(int state, int codePoint) {
+    int cls = codePoint < 128 ? asciiClass[codePoint] : classOf(codePoint);
+    return table[state * classCount + cls];
+  }
+
+  public boolean isAccepting(int state) {
+    return accepting[state];
+  }
+
+  private int classOf(int codePoint) {
+    int i = Arrays.binarySearch(bounds, codePoint);
+    return i >= 0 ? i : -i - 2;
+  }
+
+  // ===== 정규식 → AST =====
+
+  private sealed interface Node permits Chars, Seq, Alt, Repeat {
+  }
+
+  private record Chars(CharSet set) implements Node {
+  }
+
+  private record Seq(List<Node> items) implements Node {
+  }
+
+  private record Alt(List<Node> options) implements Node {
+  }
+
+  private record Repeat(Node node, int min, int max) implements Node {
+  }
+
+  /** 지원하지 않는 구문 */
+  private static final class Unsupported extends RuntimeException {
+    private Unsupported() {
+      super(null, null, false, false);
+    }
+  }
+
+  private static StringAutomaton compile(String regex, String description) {
+    int[] cps = regex.codePoints().toArray();
+    int from = 0;
+    int to = cps.length;
+    boolean anchoredStart = to > 0 && cps[0] == '^';
+    if (anchoredStart) {
+      from = 1;
+    }
+    boolean anchoredEnd = to > from && cps[to - 1] == '$' && !isEscaped(cps, to - 1, from);
+    if (anchoredEnd) {
+      to--;
+    }
+
+    Node body;
+    try {
+      RegexParser parser = new RegexParser(cps, from, to);
+      body = parser.parseAlt();
+      if (parser.pos != to) {
+        return null;
+      }
+    } catch (Unsupported e) {
+      return null;
+    }
+    if ((anchoredStart || anchoredEnd) && body instanceof Alt) {
+      // ^a|b 는 ^(a|b)와 다름
+      return null;
+    }
+
+    List<Node> items = new ArrayList<>();
+    Node any = new Repeat(new Chars(CharSet.range(0, MAX_CODE_POINT)), 0, -1);
+    if (!anchoredStart) {
+      items.add(any);
+    }
+    items.add(body);
+    if (anchoredEnd) {
+      // '$'는 마지막 줄바꿈 앞에서도 일치
+      items.add(new Repeat(new Alt(List.of(
+          new Seq(List.of(new Chars(CharSet.single('\r')), new Chars(CharSet.single('\n')))),
+          new Chars(CharSet.of('\n', '\r', '\u0085', '\u2028', '\u2029')))), 0, 1));
+    } else {
+      items.add(any);
+    }
+    return determinize(new Seq(items), description);
+  }
+
+  private static boolean isEscaped(int[] cps, int index, int from) {
+    int backslashes = 0;
+    for (int i = index - 1; i >= from && cps[i] == '\\'; i--) {
+      backslashes++;
+    }
+    return backslashes % 2 == 1;
+  }
+
+  private static final class RegexParser {
+    private final int[] cps;
+    private final int end;
+    private int pos;
+
+    private RegexParser(int[] cps, int from, int end) {
+      this.cps = cps;
+      this.pos = from;
+      this.end = end;
+    }
+
+    private Node parseAlt() {
+      List<Node> options = new ArrayList<>();
+      options.add(parseSeq());
+      while (pos < end && cps[pos] == '|') {
+        pos++;
+        options.add(parseSeq());
+      }
+      return options.size() == 1 ? options.get(0) : new Alt(options);
+    }
+
+    private Node parseSeq() {
+      List<Node> items = new ArrayList<>();
+      while (pos < end && cps[pos] != '|' && cps[pos] != ')') {
+        items.add(parseQuantified(parseAtom()));
+      }
+      return items.size() == 1 ? items.get(0) : new Seq(items);
+    }
+
+    private Node parseQuantified(Node atom) {
+      if (pos >= end) {
+        return atom;
+      }
+      int min;
+      int max;
+      switch (cps[pos]) {
+        case '*' -> {
+          min = 0;
+          max = -1;
+          pos++;
+        }
+        case '+' -> {
+          min = 1;
+          max = -1;
+          pos++;
+        }
+        case '?' -> {
+          min = 0;
+          max = 1;
+          pos++;
+        }
+        case '{' -> {
+          pos++;
+          min = parseNumber();
+          max = min;
+          if (pos < end && cps[pos] == ',') {
+            pos++;
+            max = pos < end && cps[pos] == '}' ? -1 : parseNumber();
+          }
+          expect('}');
+          if (min > MAX_REPEAT || max > MAX_REPEAT) {
+            throw new Unsupported();
+          }
+        }
+        default -> {
+          return atom;
+        }
+      }
+      if (pos < end && cps[pos] == '?') {
+        // 게으른 수량자는 일치 여부에 영향 없음
+        pos++;
+      } else if (pos < end && cps[pos] == '+') {
+        // 소유 수량자는 되추적을 막아 의미가 달라짐
+        throw new Unsupported();
+      }
+      return parseQuantified(new Repeat(atom, min, max));
+    }
+
+    private int parseNumber() {
+      int start = pos;
+      int value = 0;
+      while (pos < end && cps[pos] >= '0' && cps[pos] <= '9') {
+        value = Math.min(value * 10 + (cps[pos++] - '0'), MAX_REPEAT + 1);
+      }
+      if (pos == start) {
+        throw new Unsupported();
+      }
+      return value;
+    }
+
+    private void expect(int c) {
+      if (pos >= end || cps[pos] != c) {
+        throw new Unsupported();
+      }
+      pos++;
+    }
+
+    private Node parseAtom() {
+      int c = cps[pos++];
+      switch (c) {
+        case '(' -> {
+          if (pos < end && cps[pos] == '?') {
+            if (pos + 1 < end && cps[pos + 1] == ':') {
+              pos += 2;
+            } else {
+              throw new Unsupported();
+            }
+          }
+          Node inner = parseAlt();
+          expect(')');
+          return inner;
+        }
+        case '[' -> {
+          return new Chars(parseClass());
+        }
+        case '.' -> {
+          return new Chars(CharSet.of('\n', '\r', '\u0085', '\u2028', '\u2029').complement());
+        }
+        case '\\' -> {
+          return new Chars(parseEscape(false));
+        }
+        case '^', '$', '*', '+', '?', '{' -> throw new Unsupported();
+        default -> {
+          return new Chars(CharSet.single(c));
+        }
+      }
+    }
+
+    private CharSet parseClass() {
+      boolean negated = pos < end && cps[pos] == '^';
+      if (negated) {
+        pos++;
+      }
+      CharSet set = CharSet.empty();
+      boolean first = true;
+      while (pos < end && (cps[pos] != ']' || first)) {
+        first = false;
+        int c = cps[pos++];
+        if (c == '[' || (c == '&' && pos < end && cps[pos] == '&')) {
+          // 중첩 클래스와 교집합은 Java 전용 구문
+          throw new Unsupported();
+        }
+        CharSet item;
+        int low;
+        if (c == '\\') {
+          item = parseEscape(true);
+          low = item.singleValue();
+        } else {
+          item = CharSet.single(c);
+          low = c;
+        }
+        if (low >= 0 && pos + 1 < end && cps[pos] == '-' && cps[pos + 1] != ']') {
+          pos++;
+          int high = cps[pos++];
+          if (high == '\\') {
+            high = parseEscape(true).singleValue();
+          }
+          if (high < low) {
+            throw new Unsupported();
+          }
+          item = CharSet.range(low, high);
+        }
+        set = set.union(item);
+      }
+      expect(']');
+      return negated ? set.complement() : set;
+    }
+
+    private CharSet parseEscape(boolean inClass) {
+      if (pos >= end) {
+        throw new Unsupported();
+      }
+      int c = cps[pos++];
+      return switch (c) {
+        case 'd' -> CharSet.range('0', '9');
+        case 'D' -> CharSet.range('0', '9').complement();
+        case 'w' -> word();
+        case 'W' -> word().complement();
+        case 's' -> space();
+        case 'S' -> space().complement();
+        case 't' -> CharSet.single('\t');
+        case 'n' -> CharSet.single('\n');
+        case 'r' -> CharSet.single('\r');
+        case 'f' -> CharSet.single('\f');
+        case 'e' -> CharSet.single(0x1B);
+        case 'a' -> CharSet.single(0x07);
+        case '0' -> CharSet.single(parseHex(0, 8, 3));
+        case 'x' -> CharSet.single(parseHex(2, 16, 2));
+        case 'u' -> CharSet.single(parseHex(4, 16, 4));
+        default -> {
+          if (Character.isLetterOrDigit(c)) {
+            // 역참조, 단어 경계, 유니코드 속성 등
+            throw new Unsupported();
+          }
+          yield CharSet.single(c);
+        }
+      };
+    }
+
+    private int parseHex(int minDigits, int radix, int maxDigits) {
+      int value = 0;
+      int digits = 0;
+      while (digits < maxDigits && pos < end && Character.digit(cps[pos], radix) >= 0) {
+        value = value * radix + Character.digit(cps[pos++], radix);
+        digits++;
+      }
+      if (digits < minDigits) {
+        throw new Unsupported();
+      }
+      return value;
+    }
+
+    private static CharSet word() {
+      return CharSet.range('a', 'z').union(CharSet.range('A', 'Z')).union(CharSet.range('0', '9'))
+          .union(CharSet.single('_'));
+    }
+
+    private static CharSet space() {
+      return CharSet.of(' ', '\t', '\n', '\u000B', '\f', '\r');
+    }
+  }
+
+  // ===== AST → NFA → DFA =====
+
+  private static final class Nfa {
+    private final List<int[]> epsilons = new ArrayList<>();
+    private final List<CharSet> edgeSets = new ArrayList<>();
+    private final List<Integer> edgeTargets = new ArrayList<>();
+
+    private int newState() {
+      epsilons.add(new int[0]);
+      edgeSets.add(null);
+      edgeTargets.add(-1);
+      if (epsilons.size() > MAX_STATES * 8) {
+        throw new Unsupported();
+      }
+      return epsilons.size() - 1;
+    }
+
+    private void epsilon(int from, int to) {
+      int[] old = epsilons.get(from);
+      int[] next = Arrays.copyOf(old, old.length + 1);
+      next[old.length] = to;
+      epsilons.set(from, next);
+    }
+
+    /**
+     * 노드를 start에서 시작하는 조각으로 만들고 끝 상태를 반환합니다.
+     */
+    private int build(Node node, int start) {
+      return switch (node) {
+        case Chars chars -> {
+          int out = newState();
+          edgeSets.set(start, chars.set());
+          edgeTargets.set(start, out);
+          yield out;
+        }
+        case Seq seq -> {
+          int current = start;
+          for (Node item : seq.items()) {
+            int next = newState();
+            epsilon(current, next);
+            current = build(item, next);
+          }
+          yield current;
+        }
+        case Alt alt -> {
+          int out = newState();
+          for (Node option : alt.options()) {
+            int branch = newState();
+            epsilon(start, branch);
+            epsilon(build(option, branch), out);
+          }
+          yield out;
+        }
+        case Repeat repeat -> {
+          int current = start;
+          for (int i = 0; i < repeat.min(); i++) {
+            int next = newState();
+            epsilon(current, next);
+            current = build(repeat.node(), next);
+          }
+          if (repeat.max() < 0) {
+            int loop = newState();
+            epsilon(current, loop);
+            int body = newState();
+            epsilon(loop, body);
+            epsilon(build(repeat.node(), body), loop);
+            current = loop;
+          } else {
+            int out = newState();
+            epsilon(current, out);
+            for (int i = repeat.min(); i < repeat.max(); i++) {
+              int next = newState();
+              epsilon(current, next);
+              current = build(repeat.node(), next);
+              epsilon(current, out);
+            }
+            current = out;
+          }
+          yield current;
+        }
+      };
+    }
+
+    private BitSet closure(BitSet states) {
+      BitSet result = (BitSet) states.clone();
+      Deque<Integer> stack = new ArrayDeque<>();
+      states.stream().forEach(stack::push);
+      while (!stack.isEmpty()) {
+        for (int next : epsilons.get(stack.pop())) {
+          if (!result.get(next)) {
+            result.set(next);
+            stack.push(next);
+          }
+        }
+      }
+      return result;
+    }
+  }
+
+  private static StringAutomaton determinize(Node root, String description) {
+    Nfa nfa = new Nfa();
+    int accept;
+    int start;
+    try {
+      start = nfa.newState();
+      accept = nfa.build(root, start);
+    } catch (Unsupported e) {
+      return null;
+    }
+
+    // 모든 문자 집합의 경계로 알파벳을 구간으로 나눔 (구간 안의 문자는 전이가 같음)
+    TreeSet<Integer> boundarySet = new TreeSet<>();
+    boundarySet.add(0);
+    for (CharSet set : nfa.edgeSets) {
+      if (set != null) {
+        set.addBoundaries(boundarySet);
+      }
+    }
+    boundarySet.remove(MAX_CODE_POINT + 1);
+    int[] bounds = boundarySet.stream().mapToInt(Integer::intValue).toArray();
+
+    Map<BitSet, Integer> ids = new HashMap<>();
+    List<BitSet> states = new ArrayList<>();
+    BitSet dead = new BitSet();
+    ids.put(dead, DEAD);
+    states.add(dead);
+    BitSet initial = new BitSet();
+    initial.set(start);
+    initial = nfa.closure(initial);
+    ids.put(initial, 1);
+    states.add(initial);
+
+    List<int[]> rows = new ArrayList<>();
+    for (int s = 0; s < states.size(); s++) {
+      BitSet current = states.get(s);
+      int[] row = new int[bounds.length];
+      for (int cls = 0; cls < bounds.length; cls++) {
+        int representative = bounds[cls];
+        BitSet next = new BitSet();
+        for (int n = current.nextSetBit(0); n >= 0; n = current.nextSetBit(n + 1)) {
+          CharSet set = nfa.edgeSets.get(n);
+          if (set != null && set.contains(representative)) {
+            next.set(nfa.edgeTargets.get(n));
+          }
+        }
+        next = nfa.closure(next);
+        Integer id = ids.get(next);
+        if (id == null) {
+          if (states.size() >= MAX_STATES) {
+            return null;
+          }
+          id = states.size();
+          ids.put(next, id);
+          states.add(next);
+        }
+        row[cls] = id;
+      }
+      rows.add(row);
+    }
+
+    int[] table = new int[states.size() * bounds.length];
+    boolean[] accepting = new boolean[states.size()];
+    for (int s = 0; s < states.size(); s++) {
+      System.arraycopy(rows.get(s), 0, table, s * bounds.length, bounds.length);
+      accepting[s] = states.get(s).get(accept);
+    }
+    return new StringAutomaton(description, bounds, table, accepting);
+  }
+
+  /**
+   * 정렬되고 겹치지 않는 code point 구간 집합 ({@code [lo0, hi0, lo1, hi1, ...]})
+   */
+  private record CharSet(int[] ranges) {
+
+    static CharSet empty() {
+      return new CharSet(new int[0]);
+    }
+
+    static CharSet single(int c) {
+      return range(c, c);
+    }
+
+    static CharSet range(int low, int high) {
+      return new CharSet(new int[] { low, high });
+    }
+
+    static CharSet of(int... chars) {
+      CharSet set = empty();
+      for (int c : chars) {
+        set = set.union(single(c));
+      }
+      return set;
+    }
+
+    /**
+     * 한 문자로만 된 집합이면 그 문자를 반환합니다. (아니면 -1)
+     */
+    int singleValue() {
+      return ranges.length == 2 && ranges[0] == ranges[1] ? ranges[0] : -1;
+    }
+
+    boolean contains(int c) {
+      for (int i = 0; i < ranges.length; i += 2) {
+        if (c < ranges[i]) {
+          return false;
+        }
+        if (c <= ranges[i + 1]) {
+          return true;
+        }
+      }
+      return false;
+    }
+
+    CharSet union(CharSet other) {
+      List<int[]> all = new ArrayList<>();
+      for (int i = 0; i < ranges.length; i += 2) {
+        all.add(new int[] { ranges[i], ranges[i + 1] });
+      }
+      for (int i = 0; i < other.ranges.length; i += 2) {
+        all.add(new int[] { other.ranges[i], other.ranges[i + 1] });
+      }
+      all.sort((a, b) -> Integer.compare(a[0], b[0]));
+      List<Integer> merged = new ArrayList<>();
+      for (int[] r : all) {
+        int last = merged.size() - 1;
+        if (last > 0 && r[0] <= merged.get(last) + 1) {
+          merged.set(last, Math.max(merged.get(last), r[1]));
+        } else {
+          merged.add(r[0]);
+          merged.add(r[1]);
+        }
+      }
+      return new CharSet(merged.stream().mapToInt(Integer::intValue).toArray());
+    }
+
+    CharSet complement() {
+      List<Integer> result = new ArrayList<>();
+      int next = 0;
+      for (int i = 0; i < ranges.length; i += 2) {
+        if (ranges[i] > next) {
+          result.add(next);
+          result.add(ranges[i] - 1);
+        }
+        next = ranges[i + 1] + 1;
+      }
+      if (next <= MAX_CODE_POINT) {
+        result.add(next);
+        result.add(MAX_CODE_POINT);
+      }
+      return new CharSet(result.stream().mapToInt(Integer::intValue).toArray());
+    }
+
+    void addBoundaries(TreeSet<Integer> boundaries) {
+      for (int i = 0; i < ranges.length; i += 2) {
+        boundaries.add(ranges[i]);
+        boundaries.add(ranges[i + 1] + 1);
+      }
+    }
+  }
+}
@@ -0,0 +1,123 @@
+package me.hanju.adapter.internal;
+
+import java.util.List;
+
+/**
+ * 문자열 스키마의 {@code pattern}, {@code format}, {@code minLength}, {@code maxLength} 제약입니다.
+ * <p>
+ * 길이는 스키마 검증기와 같이 code point 단위로 셉니다. 오토마톤으로 옮길 수 없는 패턴은 빠지므로
+ * 스트리밍 중 통과한 값도 flush 시 전체 검증에서 거부될 수 있습니다.
+ * </p>
+ */
+public final class StringConstraints {
+
+  private final List<StringAutomaton> automata;
+  private final int minLength;
+  private final int maxLength;
+
+  public StringConstraints(List<StringAutomaton> automata, int minLength, int maxLength) {
+    this.automata = List.copyOf(automata);
+    this.minLength = minLength;
+    this.maxLength = maxLength;
+  }
+
+  public boolean isEmpty() {
+    return automata.isEmpty() && minLength <= 0 && maxLength == Integer.MAX_VALUE;
+  }
+
+  public Matcher newMatcher() {
+    return new Matcher();
+  }
+
+  /**
+   * 한 문자열 값에 대한 진행 상태
+   */
+  public final class Matcher {
+
+    private final int[] states;
+    private int length = 0;
+    private char pendingHigh = 0;
+
+    private Matcher() {
+      states = new int[automata.size()];
+      for (int i = 0; i < states.length; i++) {
+        states[i] = automata.get(i).start();
+      }
+    }
+
+    /**
+     * 디코딩된 문자열 증분을 추가합니다.
+     *
+     * @return 위반 메시지 (어떤 뒷부분이 와도 제약을 만족할 수 없게 되었을 때, 그 외에는 null)
+     */
+    public String append(CharSequence increment) {
+      for (int i = 0; i < increment.length(); i++) {
+        char c = increment.charAt(i);
+        int codePoint;
+        if (pendingHigh != 0) {
+          if (Character.isLowSurrogate(c)) {
+            codePoint = Character.toCodePoint(pendingHigh, c);
+            pendingHigh = 0;
+          } else {
+            String violation = step(pendingHigh);
+            pendingHigh = 0;
+            if (violation != null) {
+              return violation;
+            }
+            i--;
+            continue;
+          }
+        } else if (Character.isHighSurrogate(c)) {
+          // 짝이 다음 증분으로 올 수 있음
+          pendingHigh = c;
+          continue;
+        } else {
+          codePoint = c;
+        }
+        String violation = step(codePoint);
+        if (violation != null) {
+          return violation;
+        }
+      }
+      return null;
+    }
+
+    /**
+     * 문자열이 끝났을 때 남은 제약을 확인합니다.
+     *
+     * @return 위반 메시지 (없으면 null)
+     */
+    public String complete() {
+      if (pendingHigh != 0) {
+        String violation = step(pendingHigh);
+        pendingHigh = 0;
+        if (violation != null) {
+          return violation;
+        }
+      }
+      if (length < minLength) {
+        return "String is shorter than " + minLength + " characters";
+      }
+      for (int i = 0; i < states.length; i++) {
+        if (!automata.get(i).isAccepting(states[i])) {
+          return "Value does not match " + automata.get(i).description();
+        }
+      }
+      return null;
+    }
+
+    private String step(int codePoint) {
+      if (++length > maxLength) {
+        return "String is longer than " + maxLength + " characters";
+      }
+      for (int i = 0; i < states.length; i++) {
+        StringAutomaton automaton = automata.get(i);
+        states[i] = automaton.step(states[i], codePoint);
+        if (states[i] == StringAutomaton.DEAD) {
+          return "Value does not match " + automaton.description();
+        }
+      }
+      return null;
+    }
+  }
+}
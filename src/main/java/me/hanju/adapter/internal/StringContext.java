@@ -1,5 +1,8 @@
 package me.hanju.adapter.internal;
 
+import me.hanju.adapter.exception.StreamingLimitExceededException;
+import me.hanju.adapter.exception.StreamingLimitExceededException.Limit;
+
 /**
  * JSON 문자열 값의 증분 스트리밍 상태를 관리합니다.
  * 이스케이프 시퀀스를 디코딩하고 토큰 경계를 넘는 처리를 관리합니다.
@@ -7,6 +10,7 @@ package me.hanju.adapter.internal;
 public class StringContext {
 
   private final StringBuilder rawBuffer;
+  private final int maxStringLength;
 
   private boolean inStringValue = false;
   private int stringValueStartPos = -1;
@@ -15,7 +19,15 @@ public class StringContext {
   private int totalEmittedStringLength = 0;
 
   public StringContext(StringBuilder rawBuffer) {
+    this(rawBuffer, Integer.MAX_VALUE);
+  }
+
+  /**
+   * @param maxStringLength 단일 문자열 값의 최대 길이 (초과 시 즉시 예외)
+   */
+  public StringContext(StringBuilder rawBuffer, int maxStringLength) {
     this.rawBuffer = rawBuffer;
+    this.maxStringLength = maxStringLength;
   }
 
   public boolean isInStringValue() {
@@ -42,6 +54,10 @@ public class StringContext {
           continue;
         }
         if (c == '"') {
+          if (isClosedAfter(buf, i + 1)) {
+            // 다음 필드의 ':'가 아직 오지 않아 이전 필드의 완성된 값을 가리키는 경우
+            return -1;
+          }
           inStringValue = true;
           stringValueStartPos = i + 1;
           lastEmittedStringPos = stringValueStartPos;
@@ -55,6 +71,18 @@ public class StringContext {
     return -1;
   }
 
+  private static boolean isClosedAfter(String buf, int from) {
+    for (int i = from; i < buf.length(); i++) {
+      char c = buf.charAt(i);
+      if (c == '\\') {
+        i++;
+      } else if (c == '"') {
+        return true;
+      }
+    }
+    return false;
+  }
+
   /**
    * 버퍼에서 문자열 증분을 추출합니다.
    *
@@ -66,7 +94,8 @@ public class StringContext {
       return null;
     }
 
-    int startPos = Math.max(fromPos, lastEmittedStringPos);
+    // 토큰 경계에 걸친 이스케이프는 이전 토큰에 남겨 둔 위치부터 이어서 디코딩
+    int startPos = pendingEscape ? lastEmittedStringPos : Math.max(fromPos, lastEmittedStringPos);
     StringBuilder increment = new StringBuilder();
     int i = startPos;
 
@@ -129,6 +158,9 @@ public class StringContext {
 
     if (increment.length() > 0) {
       totalEmittedStringLength += increment.length();
+      if (totalEmittedStringLength > maxStringLength) {
+        throw new StreamingLimitExceededException(Limit.STRING_LENGTH, maxStringLength, null);
+      }
       return increment.toString();
     }
     return null;
@@ -140,12 +172,15 @@ public class StringContext {
    * @param fullValue Jackson이 제공한 전체 문자열 값
    * @return emit할 남은 문자열 (없으면 null)
    */
-  public String completeString(String fullValue) {
+  public String completeString(CharSequence fullValue) {
+    if (fullValue.length() > maxStringLength) {
+      throw new StreamingLimitExceededException(Limit.STRING_LENGTH, maxStringLength, null);
+    }
     String remaining = null;
 
     if (inStringValue) {
       if (totalEmittedStringLength < fullValue.length()) {
-        remaining = fullValue.substring(totalEmittedStringLength);
+        remaining = fullValue.subSequence(totalEmittedStringLength, fullValue.length()).toString();
         if (remaining.isEmpty()) {
           remaining = null;
         }
@@ -153,7 +188,7 @@ public class StringContext {
         remaining = "";
       }
     } else {
-      remaining = fullValue;
+      remaining = fullValue.toString();
     }
 
     reset();
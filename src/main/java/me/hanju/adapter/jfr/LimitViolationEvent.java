@@ -0,0 +1,27 @@
+package me.hanju.adapter.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * 스트림 자원 한도 초과
+ */
+@Name("me.hanju.adapter.LimitViolation")
+@Label("Limit Violation")
+@Category("JSON Streaming Adapter")
+@Description("A stream exceeded one of its configured resource limits")
+@Enabled(false)
+public final class LimitViolationEvent extends jdk.jfr.Event {
+
+  @Label("Limit")
+  public String limit;
+
+  @Label("Max Value")
+  public long maxValue;
+
+  @Label("Path")
+  public String path;
+}
@@ -0,0 +1,34 @@
+package me.hanju.adapter.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+/**
+ * 임계 시간보다 오래 걸린 {@code feedToken()} 호출
+ */
+@Name("me.hanju.adapter.SlowFeed")
+@Label("Slow Feed")
+@Category("JSON Streaming Adapter")
+@Description("feedToken call that took longer than the threshold")
+@Enabled(false)
+@Threshold("1 ms")
+@StackTrace(false)
+public final class SlowFeedEvent extends jdk.jfr.Event {
+
+  @Label("Token Bytes")
+  @DataAmount
+  public long tokenBytes;
+
+  @Label("Deltas")
+  public int deltas;
+
+  @Label("Path")
+  @Description("Parsing position after the call")
+  public String path;
+}
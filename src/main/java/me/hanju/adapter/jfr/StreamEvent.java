@@ -0,0 +1,39 @@
+package me.hanju.adapter.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * 어댑터 생성부터 {@code flush()}까지의 스트림 하나 ({@code flush()} 없이 닫으면 {@code close()}까지)
+ */
+@Name("me.hanju.adapter.Stream")
+@Label("JSON Stream")
+@Category("JSON Streaming Adapter")
+@Description("Lifetime of one streaming adapter, from construction to flush, or to close without flush")
+@Enabled(false)
+@StackTrace(false)
+public final class StreamEvent extends jdk.jfr.Event {
+
+  @Label("Input Bytes")
+  @DataAmount
+  public long inputBytes;
+
+  @Label("Feed Calls")
+  public long feedCalls;
+
+  @Label("Deltas")
+  public long deltas;
+
+  @Label("Buffer High-Water Mark")
+  @Description("Largest raw input buffer size in characters")
+  public long bufferHighWaterMark;
+
+  @Label("Completed")
+  @Description("Whether the root object was complete at flush; false when closed without flush")
+  public boolean completed;
+}
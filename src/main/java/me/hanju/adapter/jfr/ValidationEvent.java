@@ -0,0 +1,26 @@
+package me.hanju.adapter.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * 완성된 문서의 스키마 검증
+ */
+@Name("me.hanju.adapter.Validation")
+@Label("Schema Validation")
+@Category("JSON Streaming Adapter")
+@Description("JSON Schema validation of the completed document")
+@Enabled(false)
+@StackTrace(false)
+public final class ValidationEvent extends jdk.jfr.Event {
+
+  @Label("Errors")
+  public int errors;
+
+  @Label("Asynchronous")
+  public boolean async;
+}
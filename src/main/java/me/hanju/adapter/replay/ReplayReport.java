@@ -0,0 +1,52 @@
+package me.hanju.adapter.replay;
+
+import java.util.List;
+
+/**
+ * 일괄 재생 결과
+ *
+ * @param results    입력 순서대로 정렬된 transcript별 결과
+ * @param wallNanos  전체 재생에 걸린 벽시계 시간
+ */
+public record ReplayReport(List<TranscriptResult> results, long wallNanos) {
+
+  public int size() {
+    return results.size();
+  }
+
+  public long validCount() {
+    return results.stream().filter(TranscriptResult::isValid).count();
+  }
+
+  /**
+   * 완성되었지만 스키마 검증에 실패한 transcript 수
+   */
+  public long invalidCount() {
+    return results.stream().filter(r -> r.failure() == null && r.completed() && !r.errors().isEmpty()).count();
+  }
+
+  /**
+   * 루트 객체가 완성되지 않은 채 끝난 transcript 수
+   */
+  public long incompleteCount() {
+    return results.stream().filter(r -> r.failure() == null && !r.completed()).count();
+  }
+
+  /**
+   * 파싱/한도 등으로 실패한 transcript 수
+   */
+  public long failedCount() {
+    return results.stream().filter(r -> r.failure() != null).count();
+  }
+
+  public long totalDeltas() {
+    return results.stream().mapToLong(TranscriptResult::deltaCount).sum();
+  }
+
+  /**
+   * transcript별 재생 시간의 합 (병렬 실행이므로 벽시계 시간보다 큼)
+   */
+  public long cpuNanos() {
+    return results.stream().mapToLong(TranscriptResult::nanos).sum();
+  }
+}
@@ -0,0 +1,241 @@
+package me.hanju.adapter.replay;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.IntFunction;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.networknt.schema.JsonSchema;
+
+import me.hanju.adapter.JsonStreamingAdapter;
+import me.hanju.adapter.StreamingOptions;
+import me.hanju.adapter.ValidationResult;
+import me.hanju.adapter.exception.JsonStreamingException;
+
+/**
+ * 기록된 토큰 transcript를 병렬로 재생합니다.
+ * <p>
+ * 회귀 테스트/오프라인 평가용입니다. transcript마다 같은 컴파일된 스키마로 어댑터를 새로 만들어
+ * 모든 토큰을 피드하고 {@code flush()}한 결과를 모읍니다. 작업은 fork-join 풀에서 분할 실행되며,
+ * 결과는 입력 순서를 유지합니다.
+ * </p>
+ * <p>
+ * NDJSON 입력은 한 줄에 토큰 문자열 배열 하나({@code ["{\"a\":", "1}"]})이며,
+ * 파일은 메모리 매핑해 줄 단위로 잘라 각 작업에서 파싱합니다.
+ * </p>
+ */
+public class TranscriptReplayer {
+
+  private static final TypeReference<List<String>> TOKENS_TYPE = new TypeReference<>() {
+  };
+  private static final int MAX_WINDOW = 1 << 30;
+
+  private final JsonSchema schema;
+  private final StreamingOptions options;
+  private final ForkJoinPool pool;
+  private final ObjectMapper objectMapper = new ObjectMapper();
+  private boolean collectDeltas = false;
+
+  public TranscriptReplayer(JsonSchema schema) {
+    this(schema, StreamingOptions.defaults(), ForkJoinPool.commonPool());
+  }
+
+  /**
+   * @param schema  모든 transcript가 공유하는 컴파일된 스키마
+   * @param options 어댑터 옵션 (검증 Executor만 무시되고 작업 스레드에서 검증. 리스너는 작업 스레드에서 호출됨)
+   * @param pool    재생을 실행할 풀
+   */
+  public TranscriptReplayer(JsonSchema schema, StreamingOptions options, ForkJoinPool pool) {
+    if (schema == null) {
+      throw new IllegalArgumentException("Schema cannot be null");
+    }
+    if (options == null || pool == null) {
+      throw new IllegalArgumentException("Options and pool cannot be null");
+    }
+    this.schema = schema;
+    // 작업 스레드에서 flush 결과를 바로 집계하도록 검증 Executor만 뺌
+    this.options = options.copy().validationExecutor(null);
+    this.pool = pool;
+  }
+
+  /**
+   * 결과에 델타 목록 전체를 보관할지 지정합니다. (기본: 개수만 기록)
+   */
+  public TranscriptReplayer collectDeltas(boolean collectDeltas) {
+    this.collectDeltas = collectDeltas;
+    return this;
+  }
+
+  /**
+   * 메모리상의 transcript를 재생합니다.
+   */
+  public ReplayReport replay(List<List<String>> transcripts) {
+    if (transcripts == null) {
+      throw new IllegalArgumentException("Transcripts cannot be null");
+    }
+    return run(transcripts.size(), transcripts::get);
+  }
+
+  /**
+   * NDJSON 파일의 transcript를 재생합니다. 빈 줄은 건너뜁니다.
+   * 줄 하나가 JSON 문자열 배열이 아니면 해당 transcript만 실패로 기록됩니다.
+   */
+  public ReplayReport replay(Path ndjson) throws IOException {
+    List<ByteBuffer> lines = mapLines(ndjson);
+    return run(lines.size(), i -> parseLine(lines.get(i)));
+  }
+
+  private ReplayReport run(int count, IntFunction<List<String>> source) {
+    long start = System.nanoTime();
+    TranscriptResult[] results = new TranscriptResult[count];
+    pool.invoke(new ReplayTask(source, results, 0, count));
+    return new ReplayReport(Arrays.asList(results), System.nanoTime() - start);
+  }
+
+  private TranscriptResult replayOne(int index, IntFunction<List<String>> source) {
+    long start = System.nanoTime();
+    List<String> tokens;
+    JsonStreamingAdapter adapter;
+    try {
+      tokens = source.apply(index);
+      adapter = new JsonStreamingAdapter(schema, options);
+    } catch (RuntimeException e) {
+      return new TranscriptResult(index, null, false, Set.of(), 0, Collections.emptyList(),
+          System.nanoTime() - start, e);
+    }
+    // 옵션의 메모리 예산 등 어댑터가 잡은 자원은 transcript마다 반환
+    try (adapter) {
+      return replay(index, adapter, tokens, start);
+    }
+  }
+
+  private TranscriptResult replay(int index, JsonStreamingAdapter adapter, List<String> tokens, long start) {
+    List<Map<String, Object>> deltas = collectDeltas ? new ArrayList<>() : Collections.emptyList();
+    long deltaCount = 0;
+    try {
+      for (String token : tokens) {
+        List<Map<String, Object>> step = adapter.feedToken(token);
+        deltaCount += step.size();
+        if (collectDeltas) {
+          deltas.addAll(step);
+        }
+      }
+      adapter.flush();
+    } catch (RuntimeException e) {
+      // 동기 검증 실패는 flush()에서 예외로 오지만 검증 결과가 이미 완료되어 있음
+      ValidationResult validated = adapter.getValidationResult().getNow(null);
+      if (validated == null || !validated.completed()) {
+        return new TranscriptResult(index, adapter.getResultNode(), false, Set.of(),
+            deltaCount, deltas, System.nanoTime() - start, e);
+      }
+    }
+    ValidationResult validated = adapter.getValidationResult().join();
+    return new TranscriptResult(index, adapter.getResultNode(), validated.completed(), validated.messages(),
+        deltaCount, deltas, System.nanoTime() - start, null);
+  }
+
+  private List<String> parseLine(ByteBuffer line) {
+    byte[] bytes = new byte[line.remaining()];
+    line.duplicate().get(bytes);
+    try {
+      List<String> tokens = objectMapper.readValue(bytes, TOKENS_TYPE);
+      if (tokens == null || tokens.contains(null)) {
+        throw new JsonStreamingException("Transcript line must be an array of strings");
+      }
+      return tokens;
+    } catch (IOException e) {
+      throw new JsonStreamingException("Invalid transcript line", e);
+    }
+  }
+
+  /**
+   * 파일을 최대 1GiB 창 단위로 매핑하고 줄 경계마다 슬라이스를 만듭니다.
+   * 매핑된 버퍼는 채널을 닫은 뒤에도 유효합니다.
+   */
+  private static List<ByteBuffer> mapLines(Path file) throws IOException {
+    List<ByteBuffer> lines = new ArrayList<>();
+    try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+      long size = channel.size();
+      long position = 0;
+      while (position < size) {
+        int length = (int) Math.min(MAX_WINDOW, size - position);
+        MappedByteBuffer window = channel.map(FileChannel.MapMode.READ_ONLY, position, length);
+        int lineStart = 0;
+        for (int i = 0; i < length; i++) {
+          if (window.get(i) == '\n') {
+            addLine(lines, window, lineStart, i);
+            lineStart = i + 1;
+          }
+        }
+        if (position + length == size) {
+          addLine(lines, window, lineStart, length);
+          position = size;
+        } else if (lineStart == 0) {
+          throw new JsonStreamingException("Transcript line exceeds " + MAX_WINDOW + " bytes");
+        } else {
+          // 창 끝에 걸친 줄은 다음 창에서 처음부터 다시 읽음
+          position += lineStart;
+        }
+      }
+    }
+    return lines;
+  }
+
+  private static void addLine(List<ByteBuffer> lines, ByteBuffer window, int start, int end) {
+    while (end > start && isWhitespace(window.get(end - 1))) {
+      end--;
+    }
+    while (start < end && isWhitespace(window.get(start))) {
+      start++;
+    }
+    if (start < end) {
+      lines.add(window.slice(start, end - start));
+    }
+  }
+
+  private static boolean isWhitespace(byte b) {
+    return b == ' ' || b == '\t' || b == '\r' || b == '\n';
+  }
+
+  private class ReplayTask extends RecursiveAction {
+
+    private static final int SEQUENTIAL_THRESHOLD = 4;
+
+    private final IntFunction<List<String>> source;
+    private final TranscriptResult[] results;
+    private final int from;
+    private final int to;
+
+    ReplayTask(IntFunction<List<String>> source, TranscriptResult[] results, int from, int to) {
+      this.source = source;
+      this.results = results;
+      this.from = from;
+      this.to = to;
+    }
+
+    @Override
+    protected void compute() {
+      if (to - from <= SEQUENTIAL_THRESHOLD) {
+        for (int i = from; i < to; i++) {
+          results[i] = replayOne(i, source);
+        }
+        return;
+      }
+      int mid = (from + to) >>> 1;
+      invokeAll(new ReplayTask(source, results, from, mid), new ReplayTask(source, results, mid, to));
+    }
+  }
+}
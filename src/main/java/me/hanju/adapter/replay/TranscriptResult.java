@@ -0,0 +1,38 @@
+package me.hanju.adapter.replay;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.networknt.schema.ValidationMessage;
+
+/**
+ * 기록된 토큰 transcript 하나의 재생 결과
+ *
+ * @param index      입력 순서 (NDJSON이면 빈 줄을 제외한 줄 순서)
+ * @param result     누적된 루트 객체 (시작 전 실패했으면 null)
+ * @param completed  루트 객체가 완성되어 검증이 수행되었는지 여부
+ * @param errors     스키마 검증 오류
+ * @param deltaCount 전체 델타 수
+ * @param deltas     수집된 델타 (수집하지 않으면 빈 리스트)
+ * @param nanos      재생에 걸린 시간
+ * @param failure    파싱/한도 등 검증 외 실패 (없으면 null)
+ */
+public record TranscriptResult(
+    int index,
+    JsonNode result,
+    boolean completed,
+    Set<ValidationMessage> errors,
+    long deltaCount,
+    List<Map<String, Object>> deltas,
+    long nanos,
+    Throwable failure) {
+
+  /**
+   * 완성되었고 검증 오류와 실패가 없는지 여부
+   */
+  public boolean isValid() {
+    return failure == null && completed && errors.isEmpty();
+  }
+}
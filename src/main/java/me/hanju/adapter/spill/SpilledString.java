@@ -0,0 +1,179 @@
+package me.hanju.adapter.spill;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.type.WritableTypeId;
+import com.fasterxml.jackson.databind.JsonSerializable;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.jsontype.TypeSerializer;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+
+/**
+ * 힙 밖으로 내보낸 문자열 값
+ * <p>
+ * 임시 파일에 UTF-16으로 기록한 뒤 읽기 전용으로 매핑한 {@link CharSequence}입니다.
+ * 파일은 매핑 직후 삭제 예약되므로 별도로 정리할 필요가 없고, 매핑은 이 객체가 수거될 때 해제됩니다.
+ * {@link #toString()}은 전체를 힙으로 읽어 들이므로, 큰 값은 {@link #openChannel()}이나
+ * {@link #openReader()}로 순차 처리해야 합니다.
+ * </p>
+ * <p>
+ * 값이 완성된 뒤에 만들어지므로, 스트리밍 중의 최대 힙 사용량이 아니라 완성 이후의 보유량만 줄입니다.
+ * </p>
+ */
+public final class SpilledString implements CharSequence, JsonSerializable {
+
+  private static final int CHUNK_CHARS = 32 * 1024;
+
+  private final CharBuffer chars;
+
+  private SpilledString(CharBuffer chars) {
+    this.chars = chars;
+  }
+
+  /**
+   * 문자열을 디렉터리의 임시 파일로 내보냅니다.
+   *
+   * @param value     내보낼 문자 (호출이 끝나면 더 이상 참조하지 않음)
+   * @param directory 임시 파일 디렉터리 (null이면 시스템 임시 디렉터리)
+   */
+  public static SpilledString write(CharSequence value, Path directory) throws IOException {
+    Path file = directory == null
+        ? Files.createTempFile("json-spill-", ".tmp")
+        : Files.createTempFile(directory, "json-spill-", ".tmp");
+    try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE,
+        StandardOpenOption.DELETE_ON_CLOSE)) {
+      CharBuffer source = CharBuffer.wrap(value);
+      ByteBuffer chunk = ByteBuffer.allocate(CHUNK_CHARS * 2);
+      while (source.hasRemaining()) {
+        int n = Math.min(CHUNK_CHARS, source.remaining());
+        CharBuffer part = source.duplicate();
+        part.limit(part.position() + n);
+        chunk.clear();
+        chunk.asCharBuffer().put(part);
+        chunk.limit(n * 2);
+        while (chunk.hasRemaining()) {
+          channel.write(chunk);
+        }
+        source.position(source.position() + n);
+      }
+      return new SpilledString(channel.map(FileChannel.MapMode.READ_ONLY, 0, value.length() * 2L).asCharBuffer());
+    }
+  }
+
+  @Override
+  public int length() {
+    return chars.limit();
+  }
+
+  @Override
+  public char charAt(int index) {
+    return chars.get(index);
+  }
+
+  @Override
+  public CharSequence subSequence(int start, int end) {
+    return chars.subSequence(start, end);
+  }
+
+  /**
+   * 전체 값을 힙의 문자열로 읽어 들입니다.
+   */
+  @Override
+  public String toString() {
+    return chars.duplicate().toString();
+  }
+
+  /**
+   * 값을 UTF-8 바이트로 순차 읽는 채널을 엽니다.
+   */
+  public ReadableByteChannel openChannel() {
+    CharBuffer source = chars.duplicate();
+    CharsetEncoder encoder = StandardCharsets.UTF_8.newEncoder();
+    return new ReadableByteChannel() {
+      private boolean open = true;
+
+      @Override
+      public int read(ByteBuffer dst) throws IOException {
+        if (!open) {
+          throw new ClosedChannelException();
+        }
+        if (!source.hasRemaining()) {
+          return -1;
+        }
+        int start = dst.position();
+        encoder.encode(source, dst, true);
+        return dst.position() - start;
+      }
+
+      @Override
+      public boolean isOpen() {
+        return open;
+      }
+
+      @Override
+      public void close() {
+        open = false;
+      }
+    };
+  }
+
+  /**
+   * 값을 문자 단위로 순차 읽는 Reader를 엽니다.
+   */
+  public Reader openReader() {
+    CharBuffer source = chars.duplicate();
+    return new Reader() {
+      @Override
+      public int read(char[] buffer, int offset, int length) {
+        if (!source.hasRemaining()) {
+          return -1;
+        }
+        int n = Math.min(length, source.remaining());
+        source.get(buffer, offset, n);
+        return n;
+      }
+
+      @Override
+      public void close() {
+      }
+    };
+  }
+
+  /**
+   * 다른 문자열과 내용이 같은지 비교합니다.
+   */
+  public boolean contentEquals(CharSequence other) {
+    return CharSequence.compare(chars.duplicate(), other) == 0;
+  }
+
+  @Override
+  public void serialize(JsonGenerator gen, SerializerProvider serializers) throws IOException {
+    if (gen instanceof TokenBuffer) {
+      // 트리/Map 변환용 버퍼는 Reader 입력을 지원하지 않음
+      gen.writeString(toString());
+    } else {
+      gen.writeString(openReader(), length());
+    }
+  }
+
+  @Override
+  public void serializeWithType(JsonGenerator gen, SerializerProvider serializers, TypeSerializer typeSer)
+      throws IOException {
+    WritableTypeId typeId = typeSer.writeTypePrefix(gen, typeSer.typeId(this, JsonToken.VALUE_STRING));
+    serialize(gen, serializers);
+    typeSer.writeTypeSuffix(gen, typeId);
+  }
+}
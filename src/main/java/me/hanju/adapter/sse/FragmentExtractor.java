@@ -0,0 +1,65 @@
+package me.hanju.adapter.sse;
+
+/**
+ * SSE 이벤트의 data 페이로드에서 어댑터로 전달할 JSON 조각 문자열을 추출합니다.
+ */
+@FunctionalInterface
+public interface FragmentExtractor {
+
+  /**
+   * @param data 이벤트의 data 필드 (여러 줄이면 개행으로 연결됨)
+   * @return 추출된 조각 (이 이벤트에 조각이 없으면 null)
+   */
+  String extract(String data);
+
+  /**
+   * 지정한 경로의 문자열 값을 추출합니다.
+   * 경로 요소는 필드명(String) 또는 배열 index(Integer)이며, 트리를 만들지 않고 필요한 부분만 스캔합니다.
+   * data가 올바른 JSON이 아니면 {@link me.hanju.adapter.exception.JsonStreamingException}을 던집니다.
+   */
+  static FragmentExtractor path(Object... path) {
+    return new PathFragmentExtractor(path);
+  }
+
+  /**
+   * OpenAI Chat Completions: {@code choices[0].delta.content}
+   */
+  static FragmentExtractor openAiContent() {
+    return path("choices", 0, "delta", "content");
+  }
+
+  /**
+   * OpenAI Chat Completions tool call: {@code "index"}가 0인 tool call의 {@code function.arguments}
+   *
+   * @see #openAiToolArguments(int)
+   */
+  static FragmentExtractor openAiToolArguments() {
+    return openAiToolArguments(0);
+  }
+
+  /**
+   * OpenAI Chat Completions tool call: {@code choices[0].delta.tool_calls[]} 중 {@code "index"} 필드가
+   * 일치하는 요소의 {@code function.arguments}
+   * <p>
+   * 병렬 tool call은 배열 위치가 아니라 {@code "index"}로 구분되므로, 호출마다 별도의 추출기를 사용합니다.
+   * </p>
+   */
+  static FragmentExtractor openAiToolArguments(int index) {
+    return path("choices", 0, "delta", "tool_calls",
+        new PathFragmentExtractor.ElementMatch("index", index), "function", "arguments");
+  }
+
+  /**
+   * Anthropic Messages tool use: {@code delta.partial_json}
+   */
+  static FragmentExtractor anthropicPartialJson() {
+    return path("delta", "partial_json");
+  }
+
+  /**
+   * Anthropic Messages text: {@code delta.text}
+   */
+  static FragmentExtractor anthropicText() {
+    return path("delta", "text");
+  }
+}
@@ -0,0 +1,155 @@
+package me.hanju.adapter.sse;
+
+import java.io.IOException;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import me.hanju.adapter.exception.JsonStreamingException;
+
+/**
+ * Jackson 스트리밍 파서로 경로를 따라가며 일치하지 않는 하위 값은 건너뜁니다.
+ * 대상 값을 찾으면 나머지 입력은 읽지 않습니다.
+ */
+class PathFragmentExtractor implements FragmentExtractor {
+
+  private static final JsonFactory FACTORY = new JsonFactory();
+
+  /**
+   * 배열에서 위치 대신 필드 값으로 요소를 고르는 경로 요소입니다.
+   * 필드는 요소 안에서 경로의 다음 필드보다 뒤에 나와도 됩니다.
+   *
+   * @param field 요소 객체의 정수 필드명
+   * @param value 일치해야 하는 값
+   */
+  record ElementMatch(String field, int value) {
+  }
+
+  private final Object[] path;
+
+  PathFragmentExtractor(Object[] path) {
+    for (int i = 0; i < path.length; i++) {
+      Object segment = path[i];
+      if (segment instanceof ElementMatch) {
+        if (i + 1 == path.length || !(path[i + 1] instanceof String)) {
+          throw new IllegalArgumentException("Element match must be followed by a field name");
+        }
+      } else if (!(segment instanceof String) && !(segment instanceof Integer)) {
+        throw new IllegalArgumentException("Path segment must be a field name or an array index: " + segment);
+      }
+    }
+    this.path = path.clone();
+  }
+
+  @Override
+  public String extract(String data) {
+    try (JsonParser parser = FACTORY.createParser(data)) {
+      return parser.nextToken() == null ? null : resolve(parser, 0, false);
+    } catch (IOException e) {
+      throw new JsonStreamingException("Malformed SSE data: " + e.getMessage(), e);
+    }
+  }
+
+  /**
+   * 현재 값에서 {@code path[from]}부터 따라간 문자열을 반환합니다.
+   * 찾지 못했거나 {@code drain}이면 현재 값의 끝까지 읽고, 그렇지 않으면 찾은 자리에서 멈춥니다.
+   */
+  private String resolve(JsonParser parser, int from, boolean drain) throws IOException {
+    if (from == path.length) {
+      String value = parser.currentToken() == JsonToken.VALUE_STRING ? parser.getText() : null;
+      parser.skipChildren();
+      return value;
+    }
+    Object segment = path[from];
+    if (segment instanceof String name) {
+      return resolveField(parser, name, from, drain);
+    }
+    if (segment instanceof Integer index) {
+      return resolveElement(parser, index, from, drain);
+    }
+    return resolveMatch(parser, (ElementMatch) segment, from, drain);
+  }
+
+  private String resolveField(JsonParser parser, String name, int from, boolean drain) throws IOException {
+    if (parser.currentToken() != JsonToken.START_OBJECT) {
+      parser.skipChildren();
+      return null;
+    }
+    while (parser.nextToken() == JsonToken.FIELD_NAME) {
+      String current = parser.currentName();
+      parser.nextToken();
+      if (name.equals(current)) {
+        return finish(parser, resolve(parser, from + 1, drain), drain);
+      }
+      parser.skipChildren();
+    }
+    return null;
+  }
+
+  private String resolveElement(JsonParser parser, int index, int from, boolean drain) throws IOException {
+    if (parser.currentToken() != JsonToken.START_ARRAY) {
+      parser.skipChildren();
+      return null;
+    }
+    JsonToken token;
+    for (int i = 0; (token = parser.nextToken()) != null && token != JsonToken.END_ARRAY; i++) {
+      if (i == index) {
+        return finish(parser, resolve(parser, from + 1, drain), drain);
+      }
+      parser.skipChildren();
+    }
+    return null;
+  }
+
+  /**
+   * 일치 필드가 대상 필드 뒤에 나올 수 있으므로, 요소 안의 대상 값은 일단 끝까지 읽어 보관한 뒤
+   * 요소가 닫혔을 때 일치 여부로 반환합니다.
+   */
+  private String resolveMatch(JsonParser parser, ElementMatch match, int from, boolean drain) throws IOException {
+    if (parser.currentToken() != JsonToken.START_ARRAY) {
+      parser.skipChildren();
+      return null;
+    }
+    String target = (String) path[from + 1];
+    JsonToken token;
+    while ((token = parser.nextToken()) != null && token != JsonToken.END_ARRAY) {
+      if (token != JsonToken.START_OBJECT) {
+        parser.skipChildren();
+        continue;
+      }
+      boolean matched = false;
+      String value = null;
+      while (parser.nextToken() == JsonToken.FIELD_NAME) {
+        String current = parser.currentName();
+        JsonToken valueToken = parser.nextToken();
+        if (match.field().equals(current)) {
+          matched = valueToken == JsonToken.VALUE_NUMBER_INT
+              && parser.getNumberType() == JsonParser.NumberType.INT
+              && parser.getIntValue() == match.value();
+        } else if (target.equals(current)) {
+          value = resolve(parser, from + 2, true);
+        } else {
+          parser.skipChildren();
+        }
+      }
+      if (matched) {
+        return finish(parser, value, drain);
+      }
+    }
+    return null;
+  }
+
+  /**
+   * 하위 경로의 결과를 반환하기 전에, 찾지 못했거나 {@code drain}이면 현재 컨테이너의 나머지를 건너뜁니다.
+   */
+  private static String finish(JsonParser parser, String value, boolean drain) throws IOException {
+    if (value == null || drain) {
+      JsonToken token;
+      while ((token = parser.nextToken()) != null && !token.isStructEnd()) {
+        parser.skipChildren();
+      }
+    }
+    return value;
+  }
+}
@@ -0,0 +1,140 @@
+package me.hanju.adapter.sse;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import me.hanju.adapter.JsonStreamingAdapter;
+
+/**
+ * 공급자 SSE 스트림에서 내부 JSON 조각을 꺼내 {@link JsonStreamingAdapter}로 전달합니다.
+ * <p>
+ * 네트워크에서 읽은 청크를 그대로 넣으면 줄/이벤트 경계를 재구성하고,
+ * 이벤트마다 {@link FragmentExtractor}로 조각만 추출해 피드합니다.
+ * {@code data: [DONE]} 이후의 입력은 무시합니다. 스레드 안전하지 않습니다.
+ * </p>
+ */
+public class SseStreamingFeeder {
+
+  private static final String DONE = "[DONE]";
+
+  private final JsonStreamingAdapter adapter;
+  private final FragmentExtractor extractor;
+
+  private final StringBuilder line = new StringBuilder();
+  private final StringBuilder data = new StringBuilder();
+  private boolean hasData = false;
+  private boolean pendingCarriageReturn = false;
+  private boolean done = false;
+
+  public SseStreamingFeeder(JsonStreamingAdapter adapter, FragmentExtractor extractor) {
+    if (adapter == null || extractor == null) {
+      throw new IllegalArgumentException("Adapter and extractor cannot be null");
+    }
+    this.adapter = adapter;
+    this.extractor = extractor;
+  }
+
+  /**
+   * SSE 원본 청크를 처리합니다.
+   *
+   * @param chunk 네트워크에서 읽은 텍스트 (줄/이벤트 경계와 무관)
+   * @return 이 청크에서 완성된 이벤트들로부터 생성된 델타
+   */
+  public List<Map<String, Object>> feed(String chunk) {
+    if (chunk == null || chunk.isEmpty() || done) {
+      return Collections.emptyList();
+    }
+
+    List<Map<String, Object>> deltas = null;
+    for (int i = 0; i < chunk.length() && !done; i++) {
+      char c = chunk.charAt(i);
+      if (pendingCarriageReturn) {
+        pendingCarriageReturn = false;
+        if (c == '\n') {
+          continue;
+        }
+      }
+      if (c == '\r' || c == '\n') {
+        pendingCarriageReturn = c == '\r';
+        deltas = append(deltas, processLine());
+      } else {
+        line.append(c);
+      }
+    }
+    return deltas == null ? Collections.emptyList() : deltas;
+  }
+
+  /**
+   * 남은 이벤트를 처리한 뒤 어댑터를 종료합니다.
+   *
+   * @return 마지막 이벤트에서 생성된 델타
+   */
+  public List<Map<String, Object>> flush() {
+    List<Map<String, Object>> deltas = Collections.emptyList();
+    if (!done) {
+      if (!line.isEmpty()) {
+        processLine();
+      }
+      deltas = dispatch();
+    }
+    adapter.flush();
+    return deltas;
+  }
+
+  /**
+   * {@code [DONE]} 이벤트를 받았는지 확인합니다.
+   */
+  public boolean isDone() {
+    return done;
+  }
+
+  public JsonStreamingAdapter getAdapter() {
+    return adapter;
+  }
+
+  private List<Map<String, Object>> processLine() {
+    if (line.isEmpty()) {
+      return dispatch();
+    }
+    if (line.length() >= 5 && line.charAt(0) == 'd' && line.indexOf("data:") == 0) {
+      int start = line.length() > 5 && line.charAt(5) == ' ' ? 6 : 5;
+      if (hasData) {
+        data.append('\n');
+      }
+      data.append(line, start, line.length());
+      hasData = true;
+    }
+    // event:, id:, retry:, 주석(:) 줄은 조각 추출에 사용하지 않음
+    line.setLength(0);
+    return Collections.emptyList();
+  }
+
+  private List<Map<String, Object>> dispatch() {
+    if (!hasData) {
+      return Collections.emptyList();
+    }
+    String payload = data.toString();
+    data.setLength(0);
+    hasData = false;
+
+    if (DONE.equals(payload)) {
+      done = true;
+      return Collections.emptyList();
+    }
+    String fragment = extractor.extract(payload);
+    return fragment == null ? Collections.emptyList() : adapter.feedToken(fragment);
+  }
+
+  private static List<Map<String, Object>> append(List<Map<String, Object>> target, List<Map<String, Object>> more) {
+    if (more.isEmpty()) {
+      return target;
+    }
+    if (target == null) {
+      target = new ArrayList<>();
+    }
+    target.addAll(more);
+    return target;
+  }
+}
@@ -0,0 +1,311 @@
+package me.hanju.adapter.transform;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.async.ByteArrayFeeder;
+import com.fasterxml.jackson.core.io.JsonStringEncoder;
+
+import me.hanju.adapter.exception.JsonStreamingException;
+
+/**
+ * 스트리밍 JSON 변환기
+ * <p>
+ * 토큰 단위 입력을 파싱하면서 {@link TransformRules}에 따라 멤버를 제거/대체/이름 변경한 출력을
+ * 즉시 반환합니다. 값을 Map이나 트리로 만들지 않고, 규칙에 해당하지 않는 입력 바이트는
+ * 공백까지 그대로 통과시킵니다.
+ * </p>
+ * <p>
+ * 버퍼링은 아직 완성되지 않은 필드명(제거/이름 변경 여부를 판단해야 함)과 그 앞의 구분자로 한정됩니다.
+ * 통과하는 값은 완성을 기다리지 않고 입력이 들어오는 대로 내보내며,
+ * 제거/대체되는 값은 들어오는 대로 버립니다. 스레드 안전하지 않습니다.
+ * </p>
+ * <p>
+ * {@link me.hanju.adapter.JsonStreamingAdapter}를 거치지 않고 같은 종류의 Jackson 비차단 파서를 직접 씁니다.
+ * 어댑터는 체크포인트/재연결/오류 복구를 위해 원본 입력 전체와 누적 트리를 보관하고 값마다 노드와 델타를 만들지만,
+ * 변환에 필요한 것은 토큰의 바이트 끝 위치와 이미 내보낸 위치뿐이므로 어댑터를 거치면 버퍼링이 입력 크기에 비례하게 됩니다.
+ * 경로 표기({@code $.items[0].token})는 어댑터와 같으므로, 같은 토큰을 어댑터와 변환기에 함께 피드해도 규칙 경로와
+ * 델타/한도 예외의 경로가 일치합니다.
+ * </p>
+ */
+public class JsonStreamTransformer {
+
+  private final TransformRules rules;
+  private final JsonParser parser;
+  private final ByteArrayFeeder feeder;
+  private final ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+  // 아직 내보내거나 버리지 않은 입력 (buffer[0]의 절대 offset = bufferBase)
+  private byte[] buffer = new byte[256];
+  private int bufferLength = 0;
+  private long bufferBase = 0;
+  private long emittedOffset = 0;
+
+  // 현재 경로: 컨테이너마다 세그먼트 하나 (필드명 또는 [n])
+  private String[] segments = new String[16];
+  private boolean[] arrays = new boolean[16];
+  private int[] indexes = new int[16];
+  private int[] keptMembers = new int[16];
+  private int depth = 0;
+
+  private boolean passThroughValue = false;
+  private boolean stripComma = false;
+
+  // 제거/대체 중인 값
+  private boolean skippingValue = false;
+  private int skipNesting = 0;
+  private boolean stripCommaAfterSkip = false;
+
+  public JsonStreamTransformer(TransformRules rules) {
+    if (rules == null) {
+      throw new IllegalArgumentException("Rules cannot be null");
+    }
+    this.rules = rules;
+    try {
+      this.parser = new JsonFactory().createNonBlockingByteArrayParser();
+      this.feeder = (ByteArrayFeeder) parser.getNonBlockingInputFeeder();
+    } catch (IOException e) {
+      throw new JsonStreamingException("Failed to initialize JSON parser", e);
+    }
+  }
+
+  /**
+   * 토큰을 변환합니다.
+   *
+   * @return 이번 호출로 확정된 출력 (없으면 빈 문자열)
+   */
+  public String feed(String token) {
+    if (token == null || token.isEmpty()) {
+      return "";
+    }
+    byte[] bytes = token.getBytes(StandardCharsets.UTF_8);
+    append(bytes);
+    try {
+      feeder.feedInput(bytes, 0, bytes.length);
+      processTokens();
+    } catch (IOException e) {
+      throw new JsonStreamingException("Failed to transform token", e);
+    }
+
+    long bufferEnd = bufferBase + bufferLength;
+    if (skippingValue) {
+      // 남은 입력은 모두 제거 중인 값(또는 그 앞 콜론)에 속함
+      emittedOffset = Math.max(emittedOffset, bufferEnd);
+    } else if (passThroughValue || depth > 0 && arrays[depth - 1]) {
+      // 진행 중인 값은 규칙 대상이 아니므로 미리 내보냄
+      emitUntil(bufferEnd);
+    }
+    compact();
+    return drainOutput();
+  }
+
+  /**
+   * 입력 종료를 알리고 남은 출력을 반환합니다.
+   */
+  public String flush() {
+    try {
+      feeder.endOfInput();
+      processTokens();
+    } catch (IOException e) {
+      throw new JsonStreamingException("Failed to transform token", e);
+    }
+    if (!skippingValue) {
+      emitUntil(bufferBase + bufferLength);
+    }
+    compact();
+    return drainOutput();
+  }
+
+  private void processTokens() throws IOException {
+    JsonToken token;
+    while ((token = parser.nextToken()) != null && token != JsonToken.NOT_AVAILABLE) {
+      long end = parser.currentLocation().getByteOffset();
+      if (skippingValue) {
+        skipToken(token, end);
+      } else {
+        handleToken(token, end);
+      }
+    }
+  }
+
+  private void handleToken(JsonToken token, long end) throws IOException {
+    passThroughValue = false;
+    switch (token) {
+      case FIELD_NAME -> handleFieldName(parser.currentName(), end);
+      case START_OBJECT, START_ARRAY -> {
+        emitUntil(end);
+        push(token == JsonToken.START_ARRAY);
+      }
+      case END_OBJECT, END_ARRAY -> {
+        emitUntil(end);
+        stripComma = false;
+        depth--;
+        completeValue();
+      }
+      default -> {
+        emitUntil(end);
+        completeValue();
+      }
+    }
+  }
+
+  private void handleFieldName(String name, long end) {
+    int top = depth - 1;
+    segments[top] = name;
+    TransformRules.Rule rule = rules.match(segments, depth);
+    if (rule == null) {
+      emitUntil(end);
+      keptMembers[top]++;
+      passThroughValue = true;
+      return;
+    }
+    switch (rule.action()) {
+      case DROP -> {
+        discardUntil(end);
+        stripCommaAfterSkip = keptMembers[top] == 0;
+        startSkip();
+      }
+      case REPLACE -> {
+        emitUntil(end);
+        out.write(':');
+        out.writeBytes(rule.replacement());
+        keptMembers[top]++;
+        stripCommaAfterSkip = false;
+        startSkip();
+      }
+      case RENAME -> {
+        emitSeparators(end);
+        out.write('"');
+        byte[] quoted = JsonStringEncoder.getInstance().quoteAsUTF8(rule.newName());
+        out.writeBytes(quoted);
+        out.write('"');
+        emittedOffset = end;
+        keptMembers[top]++;
+        passThroughValue = true;
+      }
+    }
+  }
+
+  private void startSkip() {
+    skippingValue = true;
+    skipNesting = 0;
+  }
+
+  private void skipToken(JsonToken token, long end) {
+    discardUntil(end);
+    if (token == JsonToken.START_OBJECT || token == JsonToken.START_ARRAY) {
+      skipNesting++;
+    } else if (token == JsonToken.END_OBJECT || token == JsonToken.END_ARRAY) {
+      skipNesting--;
+    }
+    if (skipNesting == 0) {
+      skippingValue = false;
+      if (stripCommaAfterSkip) {
+        stripComma = true;
+      }
+    }
+  }
+
+  private void completeValue() {
+    if (depth > 0 && arrays[depth - 1]) {
+      indexes[depth - 1]++;
+      segments[depth - 1] = "[" + indexes[depth - 1] + "]";
+    }
+  }
+
+  private void push(boolean array) {
+    if (depth == segments.length) {
+      int size = depth * 2;
+      segments = Arrays.copyOf(segments, size);
+      arrays = Arrays.copyOf(arrays, size);
+      indexes = Arrays.copyOf(indexes, size);
+      keptMembers = Arrays.copyOf(keptMembers, size);
+    }
+    arrays[depth] = array;
+    indexes[depth] = 0;
+    keptMembers[depth] = 0;
+    segments[depth] = array ? "[0]" : null;
+    depth++;
+    stripComma = false;
+  }
+
+  /**
+   * 필드명 토큰 앞의 구분자(공백/쉼표)만 내보내고 원래 필드명은 버립니다.
+   */
+  private void emitSeparators(long end) {
+    long quote = emittedOffset;
+    while (quote < end && byteAt(quote) != '"') {
+      quote++;
+    }
+    emitUntil(quote);
+    emittedOffset = end;
+  }
+
+  private void emitUntil(long offset) {
+    long from = emittedOffset;
+    if (offset <= from) {
+      return;
+    }
+    int start = (int) (from - bufferBase);
+    int end = (int) (offset - bufferBase);
+    if (stripComma) {
+      for (int i = start; i < end; i++) {
+        if (buffer[i] == ',') {
+          out.write(buffer, start, i - start);
+          start = i + 1;
+          stripComma = false;
+          break;
+        }
+      }
+    }
+    out.write(buffer, start, end - start);
+    emittedOffset = offset;
+  }
+
+  private void discardUntil(long offset) {
+    emittedOffset = Math.max(emittedOffset, offset);
+  }
+
+  private byte byteAt(long offset) {
+    return buffer[(int) (offset - bufferBase)];
+  }
+
+  private void append(byte[] bytes) {
+    if (bufferLength + bytes.length > buffer.length) {
+      buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, bufferLength + bytes.length));
+    }
+    System.arraycopy(bytes, 0, buffer, bufferLength, bytes.length);
+    bufferLength += bytes.length;
+  }
+
+  private void compact() {
+    int consumed = (int) (emittedOffset - bufferBase);
+    if (consumed == 0) {
+      return;
+    }
+    System.arraycopy(buffer, consumed, buffer, 0, bufferLength - consumed);
+    bufferLength -= consumed;
+    bufferBase = emittedOffset;
+  }
+
+  private String drainOutput() {
+    if (out.size() == 0) {
+      return "";
+    }
+    String result = out.toString(StandardCharsets.UTF_8);
+    out.reset();
+    return result;
+  }
+
+  /**
+   * 출력되지 않고 대기 중인 입력 크기 (바이트)
+   */
+  public int getPendingBytes() {
+    return bufferLength;
+  }
+}
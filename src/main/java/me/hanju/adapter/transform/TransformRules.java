@@ -0,0 +1,152 @@
+package me.hanju.adapter.transform;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * {@link JsonStreamTransformer}가 적용할 경로별 변환 규칙
+ * <p>
+ * 경로는 {@code $.user.email}, {@code $.items[*].secret}, {@code $.*.token} 형식입니다.
+ * {@code *}는 임의의 필드명, {@code [*]}는 임의의 배열 index와 일치합니다.
+ * 규칙은 객체 멤버에만 적용되므로 경로의 마지막 세그먼트는 필드명이어야 합니다.
+ * 한 멤버에 여러 규칙이 일치하면 먼저 등록한 규칙이 적용됩니다.
+ * </p>
+ */
+public class TransformRules {
+
+  private static final String REDACTED = "\"[REDACTED]\"";
+
+  private final List<Rule> rules = new ArrayList<>();
+
+  public static TransformRules create() {
+    return new TransformRules();
+  }
+
+  /**
+   * 멤버를 키와 함께 제거합니다.
+   */
+  public TransformRules drop(String path) {
+    rules.add(new Rule(Action.DROP, parse(path), null, null));
+    return this;
+  }
+
+  /**
+   * 값을 {@code "[REDACTED]"}로 대체합니다.
+   */
+  public TransformRules redact(String path) {
+    return replace(path, REDACTED);
+  }
+
+  /**
+   * 값을 주어진 JSON 텍스트로 대체합니다.
+   *
+   * @param json 대체할 JSON 값 (예: {@code "\"***\""}, {@code "null"})
+   */
+  public TransformRules replace(String path, String json) {
+    if (json == null) {
+      throw new IllegalArgumentException("Replacement cannot be null");
+    }
+    try {
+      new ObjectMapper().readTree(json);
+    } catch (JsonProcessingException e) {
+      throw new IllegalArgumentException("Replacement is not valid JSON: " + json, e);
+    }
+    rules.add(new Rule(Action.REPLACE, parse(path), json.strip().getBytes(StandardCharsets.UTF_8), null));
+    return this;
+  }
+
+  /**
+   * 키 이름을 바꿉니다. 값은 그대로 통과합니다.
+   */
+  public TransformRules rename(String path, String newName) {
+    if (newName == null) {
+      throw new IllegalArgumentException("New name cannot be null");
+    }
+    rules.add(new Rule(Action.RENAME, parse(path), null, newName));
+    return this;
+  }
+
+  boolean isEmpty() {
+    return rules.isEmpty();
+  }
+
+  /**
+   * 멤버 경로에 일치하는 첫 규칙을 반환합니다.
+   *
+   * @param path  루트부터의 세그먼트 (필드명 또는 {@code [n]})
+   * @param depth 유효한 세그먼트 수
+   */
+  Rule match(String[] path, int depth) {
+    for (Rule rule : rules) {
+      if (rule.matches(path, depth)) {
+        return rule;
+      }
+    }
+    return null;
+  }
+
+  private static String[] parse(String path) {
+    if (path == null || !path.startsWith("$")) {
+      throw new IllegalArgumentException("Path must start with '$': " + path);
+    }
+    List<String> segments = new ArrayList<>();
+    int i = 1;
+    while (i < path.length()) {
+      char c = path.charAt(i);
+      if (c == '.') {
+        int end = i + 1;
+        while (end < path.length() && path.charAt(end) != '.' && path.charAt(end) != '[') {
+          end++;
+        }
+        if (end == i + 1) {
+          throw new IllegalArgumentException("Empty field name in path: " + path);
+        }
+        segments.add(path.substring(i + 1, end));
+        i = end;
+      } else if (c == '[') {
+        int end = path.indexOf(']', i);
+        if (end < 0) {
+          throw new IllegalArgumentException("Unclosed index in path: " + path);
+        }
+        String index = path.substring(i + 1, end);
+        if (!index.equals("*") && !index.chars().allMatch(Character::isDigit) || index.isEmpty()) {
+          throw new IllegalArgumentException("Invalid index in path: " + path);
+        }
+        segments.add(path.substring(i, end + 1));
+        i = end + 1;
+      } else {
+        throw new IllegalArgumentException("Unexpected character in path: " + path);
+      }
+    }
+    if (segments.isEmpty() || segments.get(segments.size() - 1).startsWith("[")) {
+      throw new IllegalArgumentException("Path must end with a field name: " + path);
+    }
+    return segments.toArray(String[]::new);
+  }
+
+  enum Action {
+    DROP, REPLACE, RENAME
+  }
+
+  record Rule(Action action, String[] segments, byte[] replacement, String newName) {
+
+    boolean matches(String[] path, int depth) {
+      if (segments.length != depth) {
+        return false;
+      }
+      for (int i = 0; i < depth; i++) {
+        String expected = segments[i];
+        String actual = path[i];
+        boolean index = actual.startsWith("[");
+        if (expected.equals("[*]") ? !index : expected.equals("*") ? index : !expected.equals(actual)) {
+          return false;
+        }
+      }
+      return true;
+    }
+  }
+}
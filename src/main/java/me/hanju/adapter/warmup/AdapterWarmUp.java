@@ -0,0 +1,212 @@
+package me.hanju.adapter.warmup;
+
+import java.lang.management.CompilationMXBean;
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletionException;
+
+import com.networknt.schema.JsonSchema;
+
+import me.hanju.adapter.JsonStreamingAdapter;
+import me.hanju.adapter.StreamingOptions;
+import me.hanju.adapter.exception.JsonStreamingException;
+
+/**
+ * 서비스 시작 시 스트리밍 경로를 미리 JIT 컴파일시킵니다.
+ * <p>
+ * 스키마 모양의 합성 문서(이스케이프/비BMP 문자가 섞인 문자열, 중첩 객체, 배열, 숫자)를 무작위 크기의 토큰으로 잘라
+ * 새 어댑터에 피드하고 {@code flush()}하는 과정을 반복합니다. 스키마 인덱스와 검증기도 이 과정에서 준비됩니다.
+ * </p>
+ * <p>
+ * 일정 문서 수를 넘긴 뒤 한 라운드 동안 JVM 전체의 JIT 컴파일 시간이 늘지 않는 상태가 이어지면 끝냅니다.
+ * 컴파일 시간을 측정할 수 없는 JVM에서는 최소 문서 수만큼 실행합니다.
+ * </p>
+ * <p>
+ * 합성 문서가 서비스에 영향을 주지 않도록, 기본적으로 옵션의 리스너는 아무것도 하지 않는 리스너로 바꾸고
+ * (경로는 그대로 실행되도록) 내보내기 정책, 공유 {@link me.hanju.adapter.GranularityController}와
+ * {@link me.hanju.adapter.MemoryBudget}은 빼고 실행합니다. 그대로 쓰려면 {@link #keepSideEffects(boolean)}를 지정합니다.
+ * </p>
+ *
+ * <pre>{@code
+ * WarmUpReport report = AdapterWarmUp.warmUp(schema, options);
+ * readiness.markReady(); // report.converged(), report.elapsed() 기록
+ * }</pre>
+ */
+public final class AdapterWarmUp {
+
+  private static final int VARIANTS = 8;
+  private static final int SPLITS = 4;
+  private static final int ROUND_SIZE = 250;
+  private static final int STABLE_ROUNDS = 3;
+
+  private final JsonSchema schema;
+  private final StreamingOptions options;
+  private long minDocuments = 2_000;
+  private long maxDocuments = 100_000;
+  private Duration timeout = Duration.ofSeconds(30);
+  private boolean keepSideEffects = false;
+
+  private AdapterWarmUp(JsonSchema schema, StreamingOptions options) {
+    if (schema == null) {
+      throw new IllegalArgumentException("Schema cannot be null");
+    }
+    if (options == null) {
+      throw new IllegalArgumentException("Options cannot be null");
+    }
+    this.schema = schema;
+    this.options = options;
+  }
+
+  /**
+   * 기본 설정으로 워밍업합니다.
+   */
+  public static WarmUpReport warmUp(JsonSchema schema, StreamingOptions options) {
+    return of(schema, options).run();
+  }
+
+  public static AdapterWarmUp of(JsonSchema schema, StreamingOptions options) {
+    return new AdapterWarmUp(schema, options);
+  }
+
+  /**
+   * 컴파일 시간과 무관하게 최소한 피드할 문서 수 (기본: 2,000)
+   */
+  public AdapterWarmUp minDocuments(long minDocuments) {
+    if (minDocuments < 0) {
+      throw new IllegalArgumentException("Min documents must not be negative");
+    }
+    this.minDocuments = minDocuments;
+    return this;
+  }
+
+  /**
+   * 피드할 최대 문서 수 (기본: 100,000)
+   */
+  public AdapterWarmUp maxDocuments(long maxDocuments) {
+    if (maxDocuments <= 0) {
+      throw new IllegalArgumentException("Max documents must be positive");
+    }
+    this.maxDocuments = maxDocuments;
+    return this;
+  }
+
+  /**
+   * 워밍업에 쓸 최대 시간 (기본: 30초)
+   */
+  public AdapterWarmUp timeout(Duration timeout) {
+    if (timeout == null || timeout.isNegative() || timeout.isZero()) {
+      throw new IllegalArgumentException("Timeout must be positive");
+    }
+    this.timeout = timeout;
+    return this;
+  }
+
+  /**
+   * 옵션의 리스너, 내보내기 정책, 공유 컨트롤러와 메모리 예산을 워밍업에도 그대로 사용할지 지정합니다. (기본: false)
+   * 켜면 합성 문서에 대해서도 리스너가 호출되고 임시 파일과 예산 예약이 생깁니다.
+   */
+  public AdapterWarmUp keepSideEffects(boolean keepSideEffects) {
+    this.keepSideEffects = keepSideEffects;
+    return this;
+  }
+
+  public WarmUpReport run() {
+    long start = System.nanoTime();
+    StreamingOptions warmUpOptions = keepSideEffects ? options : isolated(options);
+    long deadline = start + timeout.toNanos();
+    List<List<String>> streams = prepareStreams();
+
+    CompilationMXBean jit = ManagementFactory.getCompilationMXBean();
+    boolean monitored = jit != null && jit.isCompilationTimeMonitoringSupported();
+    long compilationStart = monitored ? jit.getTotalCompilationTime() : 0;
+    long lastCompilation = compilationStart;
+    int stableRounds = 0;
+
+    long documents = 0;
+    long tokens = 0;
+    long failures = 0;
+    boolean converged = false;
+    while (documents < maxDocuments && System.nanoTime() < deadline) {
+      long roundEnd = Math.min(maxDocuments, documents + ROUND_SIZE);
+      for (; documents < roundEnd; documents++) {
+        List<String> stream = streams.get((int) (documents % streams.size()));
+        tokens += stream.size();
+        if (!feed(stream, warmUpOptions)) {
+          failures++;
+        }
+      }
+      if (documents < minDocuments) {
+        continue;
+      }
+      if (!monitored) {
+        converged = true;
+        break;
+      }
+      long compilation = jit.getTotalCompilationTime();
+      stableRounds = compilation == lastCompilation ? stableRounds + 1 : 0;
+      lastCompilation = compilation;
+      if (stableRounds >= STABLE_ROUNDS) {
+        converged = true;
+        break;
+      }
+    }
+    return new WarmUpReport(documents, tokens, failures, System.nanoTime() - start,
+        monitored ? jit.getTotalCompilationTime() - compilationStart : -1, converged);
+  }
+
+  /**
+   * 변형 문서마다 여러 가지로 자른 토큰 목록을 미리 만들어, 반복 중에는 어댑터 경로만 실행되게 합니다.
+   */
+  private List<List<String>> prepareStreams() {
+    SampleDocuments samples = new SampleDocuments(schema);
+    List<List<String>> streams = new ArrayList<>();
+    for (int variant = 0; variant < VARIANTS; variant++) {
+      String document = samples.document(variant);
+      for (int split = 0; split < SPLITS; split++) {
+        streams.add(SampleDocuments.tokenize(document, variant * 31L + split));
+      }
+    }
+    return streams;
+  }
+
+  /**
+   * 파싱/검증 경로를 정하는 설정은 유지하고, 밖으로 결과를 내보내거나 공유 상태를 바꾸는 설정만 뺀 사본
+   */
+  private static StreamingOptions isolated(StreamingOptions options) {
+    StreamingOptions copy = options.copy()
+        .spill(null)
+        .adaptiveGranularity(null)
+        .memoryBudget(null);
+    if (options.getCompletionListener() != null) {
+      copy.completionListener(event -> {
+      });
+    }
+    if (options.getEnumResolutionListener() != null) {
+      copy.enumResolutionListener((path, value) -> {
+      });
+    }
+    if (options.getBinaryContentListener() != null) {
+      copy.binaryContentListener((path, chunk) -> {
+      });
+    }
+    if (options.getErrorRecoveryListener() != null) {
+      copy.errorRecovery((path, offset, message) -> {
+      });
+    }
+    return copy;
+  }
+
+  private boolean feed(List<String> stream, StreamingOptions warmUpOptions) {
+    try (JsonStreamingAdapter adapter = new JsonStreamingAdapter(schema, warmUpOptions)) {
+      for (String token : stream) {
+        adapter.feedToken(token);
+      }
+      adapter.flush();
+      return adapter.getValidationResult().join().isValid();
+    } catch (JsonStreamingException | CompletionException e) {
+      return false;
+    }
+  }
+}
@@ -0,0 +1,241 @@
+package me.hanju.adapter.warmup;
+
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.json.JsonWriteFeature;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.networknt.schema.JsonSchema;
+
+import me.hanju.adapter.exception.JsonStreamingException;
+import me.hanju.adapter.internal.SchemaIndex;
+
+/**
+ * 스키마 모양을 따르는 합성 문서와 토큰 분할을 만듭니다.
+ * <p>
+ * 값은 타입/enum/const/format/길이/범위 제약을 따르도록 고르지만 {@code pattern}은 재현하지 않으므로
+ * 일부 문서는 검증에 실패할 수 있습니다. (워밍업에는 실패 경로도 포함되어야 하므로 문제되지 않음)
+ * </p>
+ */
+final class SampleDocuments {
+
+  private static final int MAX_DEPTH = 6;
+  private static final int MAX_ITEMS = 6;
+  private static final int MAX_CHUNK = 12;
+  private static final int[] TEXT_CODE_POINTS = "say \"hi\" \\ path/to\nnext\tline é 한글 😀 ".codePoints().toArray();
+  private static final Map<String, String> FORMAT_SAMPLES = Map.of(
+      "date", "2024-02-29",
+      "time", "13:45:30Z",
+      "date-time", "2024-02-29T13:45:30.250+09:00",
+      "uuid", "3f2b9c4e-8d1a-4b7e-9c3d-5a6f7e8d9c0b",
+      "ipv4", "192.168.10.254",
+      "email", "stream.user@example.com");
+
+  private static final ObjectMapper MAPPER = new ObjectMapper();
+  private static final ObjectWriter ESCAPING_WRITER = MAPPER.writer()
+      .with(JsonWriteFeature.ESCAPE_NON_ASCII);
+
+  private final JsonNode rootNode;
+  private final SchemaIndex schemaIndex;
+  private final JsonNodeFactory nodeFactory = JsonNodeFactory.instance;
+
+  SampleDocuments(JsonSchema schema) {
+    this.rootNode = schema.getSchemaNode();
+    this.schemaIndex = SchemaIndex.of(schema);
+  }
+
+  /**
+   * 변형 번호마다 다른 분기/enum 값/배열 길이를 고른 문서를 만듭니다.
+   * 홀수 변형은 비ASCII 문자를 유니코드 이스케이프로 씁니다.
+   */
+  String document(int variant) {
+    JsonNode value = generate(rootNode, variant, 0);
+    ObjectNode root = value instanceof ObjectNode object ? object : nodeFactory.objectNode();
+    try {
+      return variant % 2 == 0 ? MAPPER.writeValueAsString(root) : ESCAPING_WRITER.writeValueAsString(root);
+    } catch (JsonProcessingException e) {
+      throw new JsonStreamingException("Failed to write warm-up document", e);
+    }
+  }
+
+  /**
+   * 문서를 1~{@value #MAX_CHUNK}자 토큰으로 자릅니다. 유니코드 이스케이프 등이 토큰 경계에 걸치는 경우도 생깁니다.
+   */
+  static List<String> tokenize(String document, long seed) {
+    SplittableRandom random = new SplittableRandom(seed);
+    List<String> tokens = new ArrayList<>();
+    int position = 0;
+    while (position < document.length()) {
+      int end = Math.min(document.length(), position + 1 + random.nextInt(MAX_CHUNK));
+      if (end < document.length() && Character.isHighSurrogate(document.charAt(end - 1))) {
+        // 토큰은 UTF-8로 인코딩되어 피드되므로 서로게이트 쌍은 나누지 않음
+        end++;
+      }
+      tokens.add(document.substring(position, end));
+      position = end;
+    }
+    return tokens;
+  }
+
+  private JsonNode generate(JsonNode schemaNode, int variant, int depth) {
+    JsonNode node = schemaIndex.resolve(schemaNode);
+    if (node == null || !node.isObject()) {
+      return nodeFactory.textNode(text(variant, 0, Integer.MAX_VALUE));
+    }
+    if (node.has("const")) {
+      return node.get("const");
+    }
+    if (node.get("enum") instanceof ArrayNode values && !values.isEmpty()) {
+      return values.get(variant % values.size());
+    }
+    JsonNode branch = chooseBranch(node, variant);
+    if (branch != null) {
+      JsonNode generated = generate(branch, variant, depth);
+      if (generated instanceof ObjectNode object && node.has("properties")) {
+        // 분기 밖에 선언된 공통 속성도 채움
+        ObjectNode merged = generateObject(node, variant, depth);
+        merged.setAll(object);
+        return merged;
+      }
+      return generated;
+    }
+
+    switch (typeOf(node)) {
+      case "object":
+        return depth < MAX_DEPTH ? generateObject(node, variant, depth) : nodeFactory.objectNode();
+      case "array":
+        return depth < MAX_DEPTH ? generateArray(node, variant, depth) : nodeFactory.arrayNode();
+      case "integer":
+        return nodeFactory.numberNode((long) clamp(node, variant * 37L - 5));
+      case "number":
+        return nodeFactory.numberNode(clamp(node, variant * 12.5 - 0.125));
+      case "boolean":
+        return nodeFactory.booleanNode(variant % 2 == 0);
+      case "null":
+        return nodeFactory.nullNode();
+      default:
+        return nodeFactory.textNode(string(node, variant));
+    }
+  }
+
+  private JsonNode chooseBranch(JsonNode node, int variant) {
+    for (String keyword : new String[] { "oneOf", "anyOf" }) {
+      if (node.get(keyword) instanceof ArrayNode branches && !branches.isEmpty()) {
+        return branches.get(variant % branches.size());
+      }
+    }
+    return null;
+  }
+
+  private ObjectNode generateObject(JsonNode node, int variant, int depth) {
+    ObjectNode object = nodeFactory.objectNode();
+    addProperties(object, node, variant, depth);
+    if (node.get("allOf") instanceof ArrayNode parts) {
+      for (JsonNode part : parts) {
+        JsonNode resolved = schemaIndex.resolve(part);
+        if (resolved != null) {
+          addProperties(object, resolved, variant, depth);
+        }
+      }
+    }
+    return object;
+  }
+
+  private void addProperties(ObjectNode object, JsonNode node, int variant, int depth) {
+    JsonNode properties = node.get("properties");
+    if (properties == null) {
+      return;
+    }
+    Iterator<Map.Entry<String, JsonNode>> fields = properties.fields();
+    while (fields.hasNext()) {
+      Map.Entry<String, JsonNode> field = fields.next();
+      object.set(field.getKey(), generate(field.getValue(), variant, depth + 1));
+    }
+  }
+
+  private ArrayNode generateArray(JsonNode node, int variant, int depth) {
+    int minItems = node.path("minItems").asInt(0);
+    int maxItems = node.path("maxItems").asInt(MAX_ITEMS);
+    int count = Math.max(minItems, Math.min(maxItems, 2 + variant % (MAX_ITEMS - 1)));
+    JsonNode items = node.get("items");
+    ArrayNode array = nodeFactory.arrayNode();
+    for (int i = 0; i < count; i++) {
+      JsonNode itemSchema = items instanceof ArrayNode tuple
+          ? (tuple.isEmpty() ? null : tuple.get(Math.min(i, tuple.size() - 1)))
+          : items;
+      array.add(itemSchema == null ? nodeFactory.numberNode(i) : generate(itemSchema, variant + i, depth + 1));
+    }
+    return array;
+  }
+
+  private String string(JsonNode node, int variant) {
+    if ("base64".equalsIgnoreCase(node.path("contentEncoding").asText())) {
+      byte[] bytes = new byte[48 + variant * 7];
+      new SplittableRandom(variant).nextBytes(bytes);
+      return Base64.getEncoder().encodeToString(bytes);
+    }
+    String format = FORMAT_SAMPLES.get(node.path("format").asText());
+    if (format != null) {
+      return format;
+    }
+    return text(variant, node.path("minLength").asInt(0), node.path("maxLength").asInt(Integer.MAX_VALUE));
+  }
+
+  /**
+   * 이스케이프가 필요한 문자와 비BMP 문자를 섞은 텍스트 (길이는 code point 단위)
+   */
+  private static String text(int variant, int minLength, int maxLength) {
+    int target = Math.max(minLength, Math.min(maxLength, 8 + (variant % 4) * TEXT_CODE_POINTS.length));
+    StringBuilder builder = new StringBuilder();
+    for (int i = 0; i < target; i++) {
+      builder.appendCodePoint(TEXT_CODE_POINTS[i % TEXT_CODE_POINTS.length]);
+    }
+    return builder.toString();
+  }
+
+  private static String typeOf(JsonNode node) {
+    JsonNode type = node.get("type");
+    if (type instanceof ArrayNode types) {
+      for (JsonNode candidate : types) {
+        if (!"null".equals(candidate.asText())) {
+          return candidate.asText();
+        }
+      }
+      return "null";
+    }
+    if (type != null) {
+      return type.asText();
+    }
+    if (node.has("properties")) {
+      return "object";
+    }
+    return node.has("items") ? "array" : "string";
+  }
+
+  private static double clamp(JsonNode node, double value) {
+    double result = value;
+    if (node.has("minimum")) {
+      result = Math.max(result, node.get("minimum").asDouble());
+    }
+    if (node.has("exclusiveMinimum") && node.get("exclusiveMinimum").isNumber()) {
+      result = Math.max(result, node.get("exclusiveMinimum").asDouble() + 1);
+    }
+    if (node.has("maximum")) {
+      result = Math.min(result, node.get("maximum").asDouble());
+    }
+    if (node.has("exclusiveMaximum") && node.get("exclusiveMaximum").isNumber()) {
+      result = Math.min(result, node.get("exclusiveMaximum").asDouble() - 1);
+    }
+    return result;
+  }
+}
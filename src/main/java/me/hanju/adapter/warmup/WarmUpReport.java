@@ -0,0 +1,21 @@
+package me.hanju.adapter.warmup;
+
+import java.time.Duration;
+
+/**
+ * 워밍업 결과
+ *
+ * @param documents         피드한 합성 문서 수
+ * @param tokens            피드한 토큰 수
+ * @param failures          파싱/검증에 실패한 문서 수 (스키마가 {@code pattern}을 쓰면 0이 아닐 수 있음)
+ * @param elapsedNanos      워밍업에 걸린 벽시계 시간
+ * @param compilationMillis 워밍업 동안 늘어난 JIT 컴파일 시간 (측정할 수 없으면 -1)
+ * @param converged         컴파일 시간이 더 늘지 않아 종료했는지 여부 (한도/시간 초과로 끝났으면 false)
+ */
+public record WarmUpReport(long documents, long tokens, long failures, long elapsedNanos, long compilationMillis,
+    boolean converged) {
+
+  public Duration elapsed() {
+    return Duration.ofNanos(elapsedNanos);
+  }
+}
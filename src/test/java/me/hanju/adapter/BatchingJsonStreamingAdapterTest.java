@@ -0,0 +1,98 @@
+package me.hanju.adapter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import me.hanju.adapter.exception.JsonStreamingException;
+
+class BatchingJsonStreamingAdapterTest {
+
+  private static final String SCHEMA = """
+      {
+        "type": "object",
+        "properties": {
+          "content": { "type": "string" }
+        },
+        "required": ["content"]
+      }
+      """;
+
+  private final AtomicLong clock = new AtomicLong();
+
+  private BatchingJsonStreamingAdapter create(int threshold, Duration maxLatency) {
+    return new BatchingJsonStreamingAdapter(new JsonStreamingAdapter(SCHEMA), threshold, maxLatency, clock::get);
+  }
+
+  @Test
+  @DisplayName("임계값 미만이면 파싱을 미룸")
+  void defersUntilThreshold() {
+    BatchingJsonStreamingAdapter adapter = create(16, Duration.ofSeconds(1));
+
+    assertThat(adapter.feedToken("{\"content\":\"He")).isEmpty();
+    assertThat(adapter.getPendingBytes()).isEqualTo(14);
+
+    List<Map<String, Object>> deltas = adapter.feedToken("llo");
+    assertThat(deltas).hasSize(1);
+    assertThat(deltas.get(0).get("content")).isEqualTo("Hello");
+    assertThat(adapter.getPendingBytes()).isZero();
+  }
+
+  @Test
+  @DisplayName("tick 호출 시 대기 입력 파싱")
+  void tickDrainsPendingInput() {
+    BatchingJsonStreamingAdapter adapter = create(1024, Duration.ofSeconds(1));
+
+    adapter.feedToken("{\"content\":");
+    adapter.feedToken("\"Hi");
+
+    List<Map<String, Object>> deltas = adapter.tick();
+    assertThat(deltas).hasSize(1);
+    assertThat(deltas.get(0).get("content")).isEqualTo("Hi");
+    assertThat(adapter.tick()).isEmpty();
+  }
+
+  @Test
+  @DisplayName("최대 지연 경과 시 다음 피드에서 파싱")
+  void drainsWhenDeadlineElapsed() {
+    BatchingJsonStreamingAdapter adapter = create(1024, Duration.ofMillis(10));
+
+    assertThat(adapter.feedToken("{\"content\":\"A")).isEmpty();
+    assertThat(adapter.isDue()).isFalse();
+
+    clock.addAndGet(Duration.ofMillis(10).toNanos());
+    assertThat(adapter.isDue()).isTrue();
+
+    List<Map<String, Object>> deltas = adapter.feedToken("B");
+    assertThat(deltas).hasSize(1);
+    assertThat(deltas.get(0).get("content")).isEqualTo("AB");
+  }
+
+  @Test
+  @DisplayName("멀티바이트 문자는 UTF-8 바이트 수로 계산")
+  void countsUtf8Bytes() {
+    BatchingJsonStreamingAdapter adapter = create(1024, Duration.ofSeconds(1));
+
+    adapter.feedToken("한글");
+
+    assertThat(adapter.getPendingBytes()).isEqualTo(6);
+  }
+
+  @Test
+  @DisplayName("flush는 대기 입력을 처리한 뒤 스키마 검증")
+  void flushDrainsAndValidates() {
+    BatchingJsonStreamingAdapter adapter = create(1024, Duration.ofSeconds(1));
+
+    adapter.feedToken("{\"wrong\":\"value\"}");
+
+    assertThatThrownBy(adapter::flush)
+        .isInstanceOf(JsonStreamingException.class);
+  }
+}
@@ -0,0 +1,107 @@
+package me.hanju.adapter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class JsonPreambleFilterTest {
+
+  private static final String SCHEMA = """
+      {
+        "type": "object",
+        "properties": {
+          "content": { "type": "string" }
+        },
+        "required": ["content"]
+      }
+      """;
+
+  @Test
+  @DisplayName("코드 펜스와 뒤쪽 코멘트 제거")
+  void stripsCodeFence() {
+    JsonPreambleFilter filter = new JsonPreambleFilter();
+
+    String out = filter.filter("```json\n{\"content\":\"Hi\"}\n```\nHope this helps!");
+
+    assertThat(out).isEqualTo("{\"content\":\"Hi\"}");
+    assertThat(filter.isComplete()).isTrue();
+  }
+
+  @Test
+  @DisplayName("설명 문장 속 중괄호는 루트로 인정하지 않음")
+  void skipsProseBraces() {
+    JsonPreambleFilter filter = new JsonPreambleFilter();
+
+    String out = filter.filter("Sure, here is {your} result: {\"content\":\"x\"}");
+
+    assertThat(out).isEqualTo("{\"content\":\"x\"}");
+  }
+
+  @Test
+  @DisplayName("설명 문장 속 빈 객체는 보류하고 뒤의 루트 객체를 사용")
+  void skipsEmptyObjectInProse() {
+    JsonPreambleFilter filter = new JsonPreambleFilter();
+
+    String out = filter.filter("Use {} for empty objects. Here it is: {\"name\":\"x\"}");
+
+    assertThat(out).isEqualTo("{\"name\":\"x\"}");
+    assertThat(filter.isComplete()).isTrue();
+    assertThat(filter.flush()).isEmpty();
+  }
+
+  @Test
+  @DisplayName("빈 객체뿐이면 입력 종료 시 반환")
+  void emitsEmptyRootOnFlush() {
+    JsonPreambleFilter filter = new JsonPreambleFilter();
+
+    assertThat(filter.filter("```json\n{ }")).isEmpty();
+    assertThat(filter.filter("\n```")).isEmpty();
+    assertThat(filter.isComplete()).isFalse();
+
+    assertThat(filter.flush()).isEqualTo("{ }");
+    assertThat(filter.isComplete()).isTrue();
+  }
+
+  @Test
+  @DisplayName("문자열 내부의 중괄호는 깊이에 반영하지 않음")
+  void ignoresBracesInsideStrings() {
+    JsonPreambleFilter filter = new JsonPreambleFilter();
+
+    String out = filter.filter("{\"content\":\"a } \\\" {\"} trailing }");
+
+    assertThat(out).isEqualTo("{\"content\":\"a } \\\" {\"}");
+  }
+
+  @Test
+  @DisplayName("토큰 경계에 걸친 시작 후보 처리")
+  void candidateAcrossTokens() {
+    JsonPreambleFilter filter = new JsonPreambleFilter();
+
+    assertThat(filter.filter("Result: {")).isEmpty();
+    assertThat(filter.isStarted()).isFalse();
+    assertThat(filter.filter(" \"con")).isEqualTo("{ \"con");
+    assertThat(filter.isStarted()).isTrue();
+  }
+
+  @Test
+  @DisplayName("어댑터와 연결하여 스트리밍")
+  void feedsAdapterInOnePass() {
+    JsonPreambleFilter filter = new JsonPreambleFilter();
+    JsonStreamingAdapter adapter = new JsonStreamingAdapter(SCHEMA);
+
+    List<Map<String, Object>> deltas = new ArrayList<>();
+    for (String token : new String[] { "Here you go:\n```", "json\n{\"content\":\"Hel", "lo\"}\n``", "`" }) {
+      deltas.addAll(adapter.feedToken(filter.filter(token)));
+    }
+    adapter.flush();
+
+    assertThat(deltas).hasSize(2);
+    assertThat(deltas.get(0).get("content")).isEqualTo("Hel");
+    assertThat(deltas.get(1).get("content")).isEqualTo("lo");
+  }
+}
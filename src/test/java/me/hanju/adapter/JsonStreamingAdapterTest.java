@@ -2,16 +2,46 @@ package me.hanju.adapter;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
-
+import static org.assertj.core.api.Assertions.tuple;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.fasterxml.jackson.core.StreamReadConstraints;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.POJONode;
+import com.networknt.schema.JsonSchema;
+import com.networknt.schema.JsonSchemaFactory;
+import com.networknt.schema.SpecVersion;
+import com.networknt.schema.ValidationMessage;
 
 import me.hanju.adapter.exception.JsonStreamingException;
+import me.hanju.adapter.exception.SchemaViolationException;
+import me.hanju.adapter.exception.StreamingLimitExceededException;
+import me.hanju.adapter.spill.SpilledString;
 
 class JsonStreamingAdapterTest {
 
@@ -132,6 +162,20 @@ class JsonStreamingAdapterTest {
       assertThat(deltas2).hasSize(1);
       assertThat(deltas2.get(0).get("content")).isEqualTo("\nWorld");
     }
+
+    @Test
+    @DisplayName("토큰 경계에서 유니코드 이스케이프 분리 처리")
+    void handlesUnicodeEscapeSplitAcrossTokens() {
+      JsonStreamingAdapter adapter = new JsonStreamingAdapter(SIMPLE_SCHEMA);
+
+      List<Map<String, Object>> deltas1 = adapter.feedToken("{\"content\":\"A\\uAE0");
+      assertThat(deltas1).hasSize(1);
+      assertThat(deltas1.get(0).get("content")).isEqualTo("A");
+
+      List<Map<String, Object>> deltas2 = adapter.feedToken("0B\"}");
+      assertThat(deltas2).hasSize(1);
+      assertThat(deltas2.get(0).get("content")).isEqualTo("\uAE00B");
+    }
   }
 
   @Nested
@@ -337,6 +381,26 @@ class JsonStreamingAdapterTest {
           .isInstanceOf(JsonStreamingException.class);
     }
 
+    @Test
+    @DisplayName("중첩 객체가 있는 문서도 검증")
+    void nestedDocumentIsValidated() {
+      String schema = """
+          {
+            "type": "object",
+            "properties": {
+              "user": { "type": "object", "properties": { "age": { "type": "integer" } } }
+            },
+            "required": ["content"]
+          }
+          """;
+      JsonStreamingAdapter adapter = new JsonStreamingAdapter(schema);
+
+      adapter.feedToken("{\"user\":{\"age\":3}}");
+
+      assertThatThrownBy(() -> adapter.flush())
+          .isInstanceOf(JsonStreamingException.class);
+    }
+
     @Test
     @DisplayName("불완전한 JSON은 검증하지 않음")
     void incompleteJsonSkipsValidation() {
@@ -423,6 +487,17 @@ class JsonStreamingAdapterTest {
       assertThat(deltas).isEmpty();
     }
 
+    @Test
+    @DisplayName("필드명 뒤 ':' 전에 끊겨도 이전 값을 새 문자열로 오인하지 않음")
+    void fieldNameSplitBeforeColon() {
+      JsonStreamingAdapter adapter = new JsonStreamingAdapter(SIMPLE_SCHEMA);
+
+      List<Map<String, Object>> deltas = new ArrayList<>(adapter.feedToken("{\"a\": \"x\", \"b\""));
+      deltas.addAll(adapter.feedToken(": null}"));
+
+      assertThat(deltas).containsExactly(Map.of("a", "x"), Collections.singletonMap("b", null));
+    }
+
     @Test
     @DisplayName("null 스키마로 생성 시 예외")
     void nullSchemaThrows() {
@@ -578,4 +653,1593 @@ class JsonStreamingAdapterTest {
       assertThat(deltas).isEmpty();
     }
   }
+
+  @Nested
+  @DisplayName("체크포인트")
+  class Checkpoint {
+
+    private static final String CHECKPOINT_SCHEMA = """
+        {
+          "type": "object",
+          "properties": {
+            "title": { "type": "string" },
+            "meta": {
+              "type": "object",
+              "properties": {
+                "score": { "type": "number" },
+                "ok": { "type": "boolean" }
+              }
+            },
+            "items": {
+              "type": "array",
+              "items": {
+                "type": "object",
+                "properties": {
+                  "value": { "type": "string" }
+                }
+              }
+            }
+          },
+          "required": ["title", "meta", "items"]
+        }
+        """;
+
+    private static final String[] TOKENS = {
+        "{\"title\": \"Hi ", "\\\"there", "\\\" \\u00e9\", ", "\"meta\": {", "\"score\": 1.",
+        "5, \"ok\": tr", "ue}, \"items\": [", "{\"value\": \"A\"}, ", "{\"value\": \"B", "\"}]}"
+    };
+
+    @Test
+    @DisplayName("모든 토큰 경계에서 체크포인트 후 복원해도 동일한 델타")
+    void resumesAtEveryTokenBoundary() {
+      JsonSchema schema = JsonSchemaFactory.getInstance(SpecVersion.VersionFlag.V7).getSchema(CHECKPOINT_SCHEMA);
+
+      List<Map<String, Object>> expected = new ArrayList<>();
+      JsonStreamingAdapter reference = new JsonStreamingAdapter(schema);
+      for (String token : TOKENS) {
+        expected.addAll(reference.feedToken(token));
+      }
+
+      for (int cut = 0; cut <= TOKENS.length; cut++) {
+        JsonStreamingAdapter first = new JsonStreamingAdapter(schema);
+        List<Map<String, Object>> actual = new ArrayList<>();
+        for (int i = 0; i < cut; i++) {
+          actual.addAll(first.feedToken(TOKENS[i]));
+        }
+
+        JsonStreamingAdapter resumed = JsonStreamingAdapter.restore(schema, first.checkpoint());
+        for (int i = cut; i < TOKENS.length; i++) {
+          actual.addAll(resumed.feedToken(TOKENS[i]));
+        }
+        resumed.flush();
+
+        assertThat(actual).as("cut at %d", cut).isEqualTo(expected);
+      }
+    }
+
+    @Test
+    @DisplayName("체크포인트는 이미 완성된 토큰의 원본 입력을 포함하지 않음")
+    void checkpointKeepsOnlyTail() {
+      JsonSchema schema = JsonSchemaFactory.getInstance(SpecVersion.VersionFlag.V7).getSchema(CHECKPOINT_SCHEMA);
+      JsonStreamingAdapter adapter = new JsonStreamingAdapter(schema);
+      adapter.feedToken("{\"title\":\"" + "x".repeat(1000) + "\", \"meta\": {\"score\": 2");
+
+      JsonStreamingAdapter resumed = JsonStreamingAdapter.restore(schema, adapter.checkpoint());
+
+      assertThat(resumed.getCurrentBuffer()).isEqualTo(": 2");
+    }
+
+    @Test
+    @DisplayName("음수 index도 명시적 index로 복원")
+    void restoresNegativeExplicitIndex() {
+      JsonSchema schema = JsonSchemaFactory.getInstance(SpecVersion.VersionFlag.V7).getSchema(Arrays.ARRAY_SCHEMA);
+      String head = "{\"items\":[{\"index\":-1,\"value\":\"A";
+      String rest = "B\"}]}";
+
+      JsonStreamingAdapter reference = new JsonStreamingAdapter(schema);
+      reference.feedToken(head);
+      List<Map<String, Object>> expected = reference.feedToken(rest);
+
+      JsonStreamingAdapter first = new JsonStreamingAdapter(schema);
+      first.feedToken(head);
+      JsonStreamingAdapter resumed = JsonStreamingAdapter.restore(schema, first.checkpoint());
+
+      assertThat(resumed.feedToken(rest)).isEqualTo(expected);
+    }
+
+    @Test
+    @DisplayName("잘못된 체크포인트는 예외")
+    void rejectsCorruptedCheckpoint() {
+      JsonSchema schema = JsonSchemaFactory.getInstance(SpecVersion.VersionFlag.V7).getSchema(SIMPLE_SCHEMA);
+
+      assertThatThrownBy(() -> JsonStreamingAdapter.restore(schema, new byte[] { 1, 2, 3 }))
+          .isInstanceOf(JsonStreamingException.class);
+    }
+  }
+
+  @Nested
+  @DisplayName("비동기 스키마 검증")
+  class AsyncValidation {
+
+    private final Queue<Runnable> tasks = new ArrayDeque<>();
+    private final Executor queuedExecutor = tasks::add;
+
+    private void runAll() {
+      Runnable task;
+      while ((task = tasks.poll()) != null) {
+        task.run();
+      }
+    }
+
+    @Test
+    @DisplayName("완성된 루트 필드는 스트리밍 중에 Executor로 전달")
+    void convertsCompletedFieldsWhileStreaming() {
+      JsonStreamingAdapter adapter = new JsonStreamingAdapter(REQUIRED_SCHEMA,
+          StreamingOptions.defaults().validationExecutor(queuedExecutor));
+
+      adapter.feedToken("{\"content\":\"Hel");
+      assertThat(tasks).isEmpty();
+
+      adapter.feedToken("lo\"}");
+      assertThat(tasks).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("미리 검증한 필드 결과와 나머지 제약의 결과를 합쳐 전체 검증과 같은 위반을 보고")
+    void mergesMemberResultsWithRemainingConstraints() throws Exception {
+      String schema = """
+          {
+            "type": "object",
+            "properties": {
+              "content": { "type": "string", "maxLength": 3 },
+              "meta": { "type": "object", "properties": { "n": { "type": "integer" } } },
+              "tags": { "type": "array", "items": { "type": "string" }, "minItems": 2 }
+            },
+            "required": ["content", "id"]
+          }
+          """;
+      String input = "{\"content\":\"Hello\",\"meta\":{\"n\":\"x\"},\"tags\":[\"a\"]}";
+      JsonStreamingAdapter adapter = new JsonStreamingAdapter(schema,
+          StreamingOptions.defaults().validationExecutor(queuedExecutor));
+
+      adapter.feedToken(input);
+      assertThat(tasks).hasSize(3);
+      runAll();
+      adapter.flush();
+      runAll();
+
+      JsonStreamingAdapter sync = new JsonStreamingAdapter(schema);
+      sync.feedToken(input);
+      assertThatThrownBy(sync::flush).isInstanceOf(JsonStreamingException.class);
+      assertThat(adapter.getValidationResult().get().messages())
+          .extracting(m -> m.getType() + " " + m.getInstanceLocation())
+          .containsExactlyInAnyOrderElementsOf(sync.getValidationResult().get().messages().stream()
+              .map(m -> m.getType() + " " + m.getInstanceLocation())
+              .toList());
+    }
+
+    @Test
+    @DisplayName("flush는 검증을 기다리지 않고 결과는 Future로 전달")
+    void flushDoesNotBlock() throws Exception {
+      JsonStreamingAdapter adapter = new JsonStreamingAdapter(REQUIRED_SCHEMA,
+          StreamingOptions.defaults().validationExecutor(queuedExecutor));
+
+      adapter.feedToken("{\"content\":\"Hello\"}");
+      adapter.flush();
+      assertThat(adapter.getValidationResult()).isNotDone();
+
+      runAll();
+      ValidationResult result = adapter.getValidationResult().get();
+      assertThat(result.completed()).isTrue();
+      assertThat(result.isValid()).isTrue();
+    }
+
+    @Test
+    @DisplayName("비동기 모드의 검증 실패는 결과 메시지로 전달")
+    void reportsErrorsInResult() throws Exception {
+      JsonStreamingAdapter adapter = new JsonStreamingAdapter(REQUIRED_SCHEMA,
+          StreamingOptions.defaults().validationExecutor(queuedExecutor));
+
+      adapter.feedToken("{\"wrong\":\"value\"}");
+      adapter.flush();
+      runAll();
+
+      ValidationResult result = adapter.getValidationResult().get();
+      assertThat(result.isValid()).isFalse();
+      assertThat(result.messages()).isNotEmpty();
+    }
+
+    @Test
+    @DisplayName("배열 요소는 순서대로 트리에 추가")
+    void appendsArrayElementsInOrder() throws Exception {
+      String schema = """
+          {
+            "type": "object",
+            "properties": {
+              "items": {
+                "type": "array",
+                "items": { "type": "object", "properties": { "value": { "type": "string" } } },
+                "minItems": 2
+              }
+            }
+          }
+          """;
+      JsonStreamingAdapter adapter = new JsonStreamingAdapter(schema,
+          StreamingOptions.defaults().validationExecutor(queuedExecutor));
+
+      adapter.feedToken("{\"items\":[{\"value\":\"A\"},");
+      adapter.feedToken("{\"value\":\"B\"}]}");
+      adapter.flush();
+      runAll();
+
+      assertThat(adapter.getValidationResult().get().isValid()).isTrue();
+    }
+
+    @Test
+    @DisplayName("동기 모드에서도 결과 Future가 완료됨")
+    void syncModeCompletesFuture() throws Exception {
+      JsonStreamingAdapter adapter = new JsonStreamingAdapter(REQUIRED_SCHEMA);
+
+      adapter.feedToken("{\"content\":\"Hello\"}");
+      adapter.flush();
+
+      assertThat(adapter.getValidationResult().get().isValid()).isTrue();
+    }
+  }
+
+  @Nested
+  @DisplayName("자원 한도")
+  class ResourceLimits {
+
+    private JsonStreamingAdapter create(StreamingLimits limits) {
+      return new JsonStreamingAdapter(SIMPLE_SCHEMA, StreamingOptions.defaults().limits(limits));
+    }
+
+    @Test
+    @DisplayName("중첩 깊이 초과")
+    void exceedsDepth() {
+      JsonStreamingAdapter adapter = create(StreamingLimits.unlimited().maxDepth(2));
+
+      adapter.feedToken("{\"a\":{");
+
+      assertThatThrownBy(() -> adapter.feedToken("\"b\":{"))
+          .isInstanceOfSatisfying(StreamingLimitExceededException.class, e -> {
+            assertThat(e.getLimit()).isEqualTo(StreamingLimitExceededException.Limit.DEPTH);
+            assertThat(e.getMaxValue()).isEqualTo(2);
+            assertThat(e.getPath()).isEqualTo("$.a.b");
+          });
+    }
+
+    @Test
+    @DisplayName("스트리밍 중 문자열 길이 초과")
+    void exceedsStringLengthWhileStreaming() {
+      JsonStreamingAdapter adapter = create(StreamingLimits.unlimited().maxStringLength(5));
+
+      adapter.feedToken("{\"content\":\"abc");
+
+      assertThatThrownBy(() -> adapter.feedToken("def"))
+          .isInstanceOfSatisfying(StreamingLimitExceededException.class, e -> {
+            assertThat(e.getLimit()).isEqualTo(StreamingLimitExceededException.Limit.STRING_LENGTH);
+            assertThat(e.getPath()).isEqualTo("$.content");
+          });
+    }
+
+    @Test
+    @DisplayName("한 번에 들어온 문자열도 길이 검사")
+    void exceedsStringLengthAtOnce() {
+      JsonStreamingAdapter adapter = create(StreamingLimits.unlimited().maxStringLength(5));
+
+      assertThatThrownBy(() -> adapter.feedToken("{\"content\":\"abcdef\"}"))
+          .isInstanceOf(StreamingLimitExceededException.class);
+    }
+
+    @Test
+    @DisplayName("배열의 스칼라 문자열도 길이 검사하고, 필드명은 문자열 한도와 무관")
+    void exceedsStringLengthInArrayItems() {
+      assertThatThrownBy(() -> create(StreamingLimits.unlimited().maxStringLength(5))
+          .feedToken("{\"tags\":[\"ok\",\"abcdefgh\"]}"))
+          .isInstanceOfSatisfying(StreamingLimitExceededException.class, e -> {
+            assertThat(e.getLimit()).isEqualTo(StreamingLimitExceededException.Limit.STRING_LENGTH);
+            assertThat(e.getMaxValue()).isEqualTo(5);
+          });
+
+      JsonStreamingAdapter adapter = create(StreamingLimits.unlimited().maxStringLength(5));
+      adapter.feedToken("{\"description\":\"ok\"}");
+      assertThat(adapter.getResultNode().get("description").asText()).isEqualTo("ok");
+    }
+
+    @Test
+    @DisplayName("한도를 지정하지 않으면 Jackson 기본 깊이 한도를 유지")
+    void keepsDefaultDepthConstraint() {
+      JsonStreamingAdapter adapter = create(StreamingLimits.unlimited());
+
+      assertThatThrownBy(() -> adapter.feedToken("{\"a\":".repeat(3000)))
+          .isInstanceOfSatisfying(StreamingLimitExceededException.class, e -> {
+            assertThat(e.getLimit()).isEqualTo(StreamingLimitExceededException.Limit.DEPTH);
+            assertThat(e.getMaxValue()).isEqualTo(StreamReadConstraints.defaults().getMaxNestingDepth());
+          });
+    }
+
+    @Test
+    @DisplayName("배열 중첩 깊이 초과")
+    void exceedsDepthWithArray() {
+      JsonStreamingAdapter adapter = create(StreamingLimits.unlimited().maxDepth(2));
+
+      assertThatThrownBy(() -> adapter.feedToken("{\"a\":{\"b\":[1]}}"))
+          .isInstanceOfSatisfying(StreamingLimitExceededException.class, e -> {
+            assertThat(e.getLimit()).isEqualTo(StreamingLimitExceededException.Limit.DEPTH);
+            assertThat(e.getPath()).isEqualTo("$.a.b");
+          });
+    }
+
+    @Test
+    @DisplayName("입력 버퍼 크기 초과")
+    void exceedsBufferSize() {
+      JsonStreamingAdapter adapter = create(StreamingLimits.unlimited().maxBufferSize(16));
+
+      adapter.feedToken("{\"content\":\"");
+
+      assertThatThrownBy(() -> adapter.feedToken("0123456789"))
+          .isInstanceOfSatisfying(StreamingLimitExceededException.class,
+              e -> assertThat(e.getLimit()).isEqualTo(StreamingLimitExceededException.Limit.BUFFER_SIZE));
+      assertThat(adapter.getCurrentBuffer()).isEqualTo("{\"content\":\"");
+    }
+
+    @Test
+    @DisplayName("배열 길이 초과")
+    void exceedsArrayLength() {
+      JsonStreamingAdapter adapter = create(StreamingLimits.unlimited().maxArrayLength(2));
+
+      assertThatThrownBy(() -> adapter.feedToken("{\"items\":[{\"v\":1},{\"v\":2},{\"v\":3}]}"))
+          .isInstanceOfSatisfying(StreamingLimitExceededException.class, e -> {
+            assertThat(e.getLimit()).isEqualTo(StreamingLimitExceededException.Limit.ARRAY_LENGTH);
+            assertThat(e.getPath()).startsWith("$.items");
+          });
+    }
+
+    @Test
+    @DisplayName("스칼라 배열 길이 초과")
+    void exceedsScalarArrayLength() {
+      JsonStreamingAdapter adapter = create(StreamingLimits.unlimited().maxArrayLength(2));
+
+      assertThatThrownBy(() -> adapter.feedToken("{\"tags\":[1,2,3]}"))
+          .isInstanceOf(StreamingLimitExceededException.class);
+    }
+
+    @Test
+    @DisplayName("호출당 델타 수 초과")
+    void exceedsDeltasPerCall() {
+      JsonStreamingAdapter adapter = create(StreamingLimits.unlimited().maxDeltasPerCall(2));
+
+      assertThat(adapter.feedToken("{\"a\":1,\"b\":2,")).hasSize(2);
+
+      assertThatThrownBy(() -> adapter.feedToken("\"c\":3,\"d\":4,\"e\":5}"))
+          .isInstanceOfSatisfying(StreamingLimitExceededException.class,
+              e -> assertThat(e.getLimit()).isEqualTo(StreamingLimitExceededException.Limit.DELTAS_PER_CALL));
+    }
+
+    @Test
+    @DisplayName("한도 예외는 JsonStreamingException의 하위 타입")
+    void limitExceptionIsStreamingException() {
+      JsonStreamingAdapter adapter = create(StreamingLimits.unlimited().maxDepth(1));
+
+      assertThatThrownBy(() -> adapter.feedToken("{\"a\":{}}"))
+          .isInstanceOf(JsonStreamingException.class);
+    }
+  }
+
+  @Nested
+  @DisplayName("누적 결과")
+  class AccumulatedResult {
+
+    @Test
+    @DisplayName("파서 이벤트로 구성된 트리와 Map 뷰")
+    void exposesTreeAndMapView() {
+      JsonStreamingAdapter adapter = new JsonStreamingAdapter(SIMPLE_SCHEMA);
+
+      adapter.feedToken("{\"content\":\"Hi\",\"user\":{\"age\":3,\"ok\":true},");
+      adapter.feedToken("\"items\":[{\"v\":1.5},{\"v\":null}]}");
+
+      assertThat(adapter.getResultNode().toString())
+          .isEqualTo("{\"content\":\"Hi\",\"user\":{\"age\":3,\"ok\":true},\"items\":[{\"v\":1.5},{\"v\":null}]}");
+
+      Map<String, Object> map = adapter.getResultAsMap();
+      assertThat(map.get("content")).isEqualTo("Hi");
+      assertThat(map.get("user")).isEqualTo(Map.of("age", 3, "ok", true));
+      assertThat((List<?>) map.get("items")).hasSize(2);
+    }
+
+    @Test
+    @DisplayName("시작 전에는 null")
+    void nullBeforeStart() {
+      JsonStreamingAdapter adapter = new JsonStreamingAdapter(SIMPLE_SCHEMA);
+
+      assertThat(adapter.getResultNode()).isNull();
+      assertThat(adapter.getResultAsMap()).isNull();
+    }
+  }
+
+  @Nested
+  @DisplayName("판별 속성 분기 선택")
+  class DiscriminatorRouting {
+
+    private static final String TOOL_SCHEMA = """
+        {
+          "type": "object",
+          "oneOf": [
+            { "$ref": "#/definitions/search" },
+            {
+              "properties": {
+                "name": { "const": "calc" },
+                "arguments": {
+                  "type": "object",
+                  "properties": { "expr": { "type": "string" } },
+                  "required": ["expr"]
+                }
+              },
+              "required": ["name", "arguments"]
+            }
+          ],
+          "definitions": {
+            "search": {
+              "properties": {
+                "name": { "enum": ["search", "web_search"] },
+                "arguments": {
+                  "type": "object",
+                  "properties": { "query": { "type": "string" } },
+                  "required": ["query"]
+                }
+              },
+              "required": ["name", "arguments"]
+            }
+          }
+        }
+        """;
+
+    @Test
+    @DisplayName("판별 속성 값이 완성되면 분기 선택")
+    void selectsBranchWhenValueCompletes() {
+      JsonStreamingAdapter adapter = new JsonStreamingAdapter(TOOL_SCHEMA);
+
+      adapter.feedToken("{\"name\":\"ca");
+      assertThat(adapter.getSelectedBranch()).isEqualTo(-1);
+
+      adapter.feedToken("lc\",");
+      assertThat(adapter.getSelectedBranch()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("enum 값과 $ref 분기도 인식")
+    void resolvesRefAndEnumBranches() {
+      JsonStreamingAdapter adapter = new JsonStreamingAdapter(TOOL_SCHEMA);
+
+      adapter.feedToken("{\"name\":\"web_search\",\"arguments\":{\"query\":\"q\"}}");
+      adapter.flush();
+
+      assertThat(adapter.getSelectedBranch()).isZero();
+    }
+
+    @Test
+    @DisplayName("알 수 없는 값은 즉시 실패")
+    void failsFastOnUnknownValue() {
+      JsonStreamingAdapter adapter = new JsonStreamingAdapter(TOOL_SCHEMA);
+
+      assertThatThrownBy(() -> adapter.feedToken("{\"name\":\"delete_all\","))
+          .isInstanceOfSatisfying(SchemaViolationException.class,
+              e -> assertThat(e.getPath()).isEqualTo("$.name"));
+    }
+
+    @Test
+    @DisplayName("숫자 판별 값은 표기와 무관하게 같은 분기")
+    void matchesNumericValuesRegardlessOfNotation() {
+      String schema = """
+          {
+            "type": "object",
+            "oneOf": [
+              { "properties": { "version": { "const": 1 }, "a": { "type": "string" } } },
+              { "properties": { "version": { "enum": [2.5, 10] }, "b": { "type": "string" } } }
+            ]
+          }
+          """;
+
+      for (String version : List.of("1", "1.0", "1e0", "0.10e1")) {
+        JsonStreamingAdapter adapter = new JsonStreamingAdapter(schema);
+        adapter.feedToken("{\"version\":" + version + ",");
+        assertThat(adapter.getSelectedBranch()).as(version).isZero();
+      }
+      for (String version : List.of("2.50", "10", "10.0", "1E1")) {
+        JsonStreamingAdapter adapter = new JsonStreamingAdapter(schema);
+        adapter.feedToken("{\"version\":" + version + ",");
+        assertThat(adapter.getSelectedBranch()).as(version).isEqualTo(1);
+      }
+    }
+
+    @Test
+    @DisplayName("선택된 분기에 대해서만 검증")
+    void validatesOnlySelectedBranch() throws Exception {
+      JsonStreamingAdapter adapter = new JsonStreamingAdapter(TOOL_SCHEMA);
+
+      adapter.feedToken("{\"name\":\"calc\",\"arguments\":{\"query\":\"q\"}}");
+
+      assertThatThrownBy(adapter::flush).isInstanceOf(JsonStreamingException.class);
+      ValidationResult result = adapter.getValidationResult().get();
+      assertThat(result.messages())
+          .extracting(ValidationMessage::getMessage)
+          .anySatisfy(message -> assertThat(message).contains("expr"))
+          .noneSatisfy(message -> assertThat(message).contains("query"));
+    }
+  }
+
+  @Nested
+  @DisplayName("완성 이벤트")
+  class CompletionEvents {
+
+    private static final String ORDER_SCHEMA = """
+        {
+          "type": "object",
+          "properties": {
+            "query": { "type": "string", "minLength": 3 },
+            "meta": {
+              "type": "object",
+              "properties": { "lang": { "type": "string" } },
+              "required": ["lang"]
+            },
+            "tags": { "type": "array", "items": { "type": "string" } },
+            "items": {
+              "type": "array",
+              "items": { "$ref": "#/definitions/item" }
+            }
+          },
+          "definitions": {
+            "item": {
+              "type": "object",
+              "properties": { "value": { "type": "integer" } },
+              "required": ["value"]
+            }
+          }
+        }
+        """;
+
+    @Test
+    @DisplayName("값, 객체, 배열 완성 순서대로 경로와 함께 전달")
+    void firesInCompletionOrder() {
+      List<CompletionEvent> events = new ArrayList<>();
+      JsonStreamingAdapter adapter = new JsonStreamingAdapter(ORDER_SCHEMA,
+          StreamingOptions.defaults().completionListener(events::add));
+
+      adapter.feedToken("{\"query\": \"weath");
+      assertThat(events).isEmpty();
+
+      adapter.feedToken("er\", \"meta\": {\"lang\": \"ko\"}, \"tags\": [\"a\", \"b\"], ");
+      assertThat(events).extracting(CompletionEvent::path)
+          .containsExactly("$.query", "$.meta.lang", "$.meta", "$.tags[0]", "$.tags[1]", "$.tags");
+      assertThat(events.get(0).value().asText()).isEqualTo("weather");
+      assertThat(events.get(5).value()).hasSize(2);
+
+      events.clear();
+      adapter.feedToken("\"items\": [{\"value\": 1}, {\"value\": 2}]}");
+      adapter.flush();
+
+      assertThat(events).extracting(CompletionEvent::kind, CompletionEvent::path).containsExactly(
+          tuple(CompletionEvent.Kind.VALUE, "$.items[0].value"),
+          tuple(CompletionEvent.Kind.OBJECT, "$.items[0]"),
+          tuple(CompletionEvent.Kind.VALUE, "$.items[1].value"),
+          tuple(CompletionEvent.Kind.OBJECT, "$.items[1]"),
+          tuple(CompletionEvent.Kind.ARRAY, "$.items"),
+          tuple(CompletionEvent.Kind.OBJECT, "$"));
+      assertThat(events).allMatch(CompletionEvent::isValid);
+    }
+
+    @Test
+    @DisplayName("하위 스키마 검증 결과를 이벤트에 포함")
+    void validatesAgainstSubSchema() {
+      List<CompletionEvent> events = new ArrayList<>();
+      JsonStreamingAdapter adapter = new JsonStreamingAdapter(ORDER_SCHEMA,
+          StreamingOptions.defaults().completionListener(events::add).validateCompletions(true));
+
+      adapter.feedToken("{\"query\": \"ab\", \"meta\": {}, \"items\": [{\"value\": \"x\"}]");
+
+      assertThat(events).filteredOn(e -> !e.isValid())
+          .extracting(CompletionEvent::path)
+          .containsExactly("$.query", "$.meta", "$.items[0].value", "$.items[0]", "$.items");
+    }
+  }
+
+  @Nested
+  @DisplayName("enum 접두어 확정")
+  class EnumResolution {
+
+    private static final String ACTION_SCHEMA = """
+        {
+          "type": "object",
+          "properties": {
+            "action": { "enum": ["search", "send_email", "send_sms"] },
+            "mode": { "const": "fast" },
+            "note": { "type": "string" }
+          }
+        }
+        """;
+
+    @Test
+    @DisplayName("접두어가 유일해지는 즉시 확정")
+    void resolvesAsSoonAsPrefixIsUnique() {
+      List<String> resolved = new ArrayList<>();
+      JsonStreamingAdapter adapter = new JsonStreamingAdapter(ACTION_SCHEMA,
+          StreamingOptions.defaults().enumResolutionListener((path, value) -> resolved.add(path + "=" + value)));
+
+      adapter.feedToken("{\"note\": \"s\", \"action\": \"se");
+      assertThat(resolved).isEmpty();
+
+      adapter.feedToken("nd_e");
+      assertThat(resolved).containsExactly("$.action=send_email");
+
+      adapter.feedToken("mail\", \"mode\": \"fast\"}");
+      adapter.flush();
+      assertThat(resolved).containsExactly("$.action=send_email", "$.mode=fast");
+    }
+
+    @Test
+    @DisplayName("일치하는 후보가 없으면 즉시 실패")
+    void failsFastWhenNoCandidateMatches() {
+      JsonStreamingAdapter adapter = new JsonStreamingAdapter(ACTION_SCHEMA,
+          StreamingOptions.defaults().enumResolutionListener((path, value) -> {
+          }));
+
+      adapter.feedToken("{\"action\": \"sen");
+      assertThatThrownBy(() -> adapter.feedToken("t"))
+          .isInstanceOfSatisfying(SchemaViolationException.class,
+              e -> assertThat(e.getPath()).isEqualTo("$.action"));
+    }
+
+    @Test
+    @DisplayName("후보의 접두어에서 끝난 값도 거부")
+    void rejectsValueEndingOnPrefix() {
+      JsonStreamingAdapter adapter = new JsonStreamingAdapter(ACTION_SCHEMA,
+          StreamingOptions.defaults().enumResolutionListener((path, value) -> {
+          }));
+
+      assertThatThrownBy(() -> adapter.feedToken("{\"action\": \"send\"}"))
+          .isInstanceOf(SchemaViolationException.class);
+    }
+
+    @Test
+    @DisplayName("확정된 값 중간의 체크포인트에서 복원해도 다시 알리지 않음")
+    void doesNotResolveAgainAfterRestore() {
+      List<String> resolved = new ArrayList<>();
+      StreamingOptions options = StreamingOptions.defaults()
+          .enumResolutionListener((path, value) -> resolved.add(path + "=" + value));
+      JsonStreamingAdapter adapter = new JsonStreamingAdapter(ACTION_SCHEMA, options);
+
+      adapter.feedToken("{\"action\": \"send_e");
+      assertThat(resolved).containsExactly("$.action=send_email");
+
+      JsonStreamingAdapter restored = JsonStreamingAdapter.restore(
+          JsonSchemaFactory.getInstance(SpecVersion.VersionFlag.V7).getSchema(ACTION_SCHEMA), options,
+          adapter.checkpoint());
+      restored.feedToken("mail\"}");
+      restored.flush();
+
+      assertThat(resolved).containsExactly("$.action=send_email");
+      assertThat(restored.getResultNode().get("action").asText()).isEqualTo("send_email");
+    }
+  }
+
+  @Nested
+  @DisplayName("큰 문자열 내보내기")
+  class Spill {
+
+    private static final String DOCUMENT_SCHEMA = """
+        {
+          "type": "object",
+          "properties": {
+            "title": { "type": "string" },
+            "document": { "type": "string", "maxLength": 20000 },
+            "images": {
+              "type": "array",
+              "items": {
+                "type": "object",
+                "properties": { "data": { "type": "string" } }
+              }
+            }
+          }
+        }
+        """;
+
+    @TempDir
+    Path spillDir;
+
+    @Test
+    @DisplayName("임계값 이상인 값은 매핑된 임시 파일로 누적")
+    void spillsValuesOverThreshold() throws Exception {
+      String document = "가나다 line\n".repeat(1500);
+      String escaped = document.replace("\n", "\\n");
+      JsonStreamingAdapter adapter = new JsonStreamingAdapter(DOCUMENT_SCHEMA,
+          StreamingOptions.defaults().spill(SpillPolicy.create().threshold(1000).directory(spillDir)));
+
+      StringBuilder streamed = new StringBuilder();
+      String input = "{\"title\": \"t\", \"document\": \"" + escaped + "\"}";
+      for (int i = 0; i < input.length(); i += 500) {
+        for (Map<String, Object> delta : adapter.feedToken(input.substring(i, Math.min(input.length(), i + 500)))) {
+          if (delta.get("document") instanceof String increment) {
+            streamed.append(increment);
+          }
+        }
+      }
+      adapter.flush();
+
+      assertThat(streamed.toString()).isEqualTo(document);
+      assertThat(adapter.getResultNode().get("title").isTextual()).isTrue();
+      POJONode node = (POJONode) adapter.getResultNode().get("document");
+      SpilledString spilled = (SpilledString) node.getPojo();
+      assertThat(spilled.length()).isEqualTo(document.length());
+      assertThat(spilled.contentEquals(document)).isTrue();
+      assertThat(readAll(spilled.openChannel())).isEqualTo(document.getBytes(StandardCharsets.UTF_8));
+      assertThat(adapter.getResultAsMap().get("document")).isEqualTo(document);
+      assertThat(adapter.getValidationResult().get().isValid()).isTrue();
+      try (var files = Files.list(spillDir)) {
+        assertThat(files).isEmpty();
+      }
+    }
+
+    @Test
+    @DisplayName("내보낸 값도 스키마 검증 대상")
+    void validatesSpilledValues() {
+      JsonStreamingAdapter adapter = new JsonStreamingAdapter(DOCUMENT_SCHEMA,
+          StreamingOptions.defaults().spill(SpillPolicy.create().threshold(10)));
+
+      adapter.feedToken("{\"document\": \"" + "x".repeat(20001) + "\"}");
+
+      assertThatThrownBy(adapter::flush).isInstanceOf(JsonStreamingException.class);
+    }
+
+    @Test
+    @DisplayName("비동기 검증은 내보낸 값을 펼친 사본을 검증하고 누적 트리는 바꾸지 않음")
+    void validatesSpilledValuesOnCopy() throws Exception {
+      List<CompletionEvent> events = new ArrayList<>();
+      Queue<Runnable> tasks = new ArrayDeque<>();
+      JsonStreamingAdapter adapter = new JsonStreamingAdapter(DOCUMENT_SCHEMA, StreamingOptions.defaults()
+          .spill(SpillPolicy.create().threshold(10))
+          .completionListener(events::add)
+          .validateCompletions(true)
+          .validationExecutor(tasks::add));
+
+      adapter.feedToken("{\"images\": [{\"data\": \"" + "A".repeat(100) + "\"}], ");
+      adapter.feedToken("\"document\": \"" + "x".repeat(20001) + "\"}");
+      adapter.flush();
+      tasks.forEach(Runnable::run);
+
+      assertThat(adapter.getValidationResult().get().messages())
+          .singleElement()
+          .satisfies(error -> assertThat(error.getInstanceLocation().toString()).isEqualTo("$.document"));
+      assertThat(adapter.getResultNode().get("document").isPojo()).isTrue();
+      assertThat(adapter.getResultNode().get("images").get(0).get("data").isPojo()).isTrue();
+      assertThat(events).filteredOn(e -> e.path().equals("$.document"))
+          .singleElement()
+          .satisfies(e -> assertThat(e.errors()).isNotEmpty());
+      assertThat(events).filteredOn(e -> e.path().equals("$.images[0]"))
+          .singleElement()
+          .satisfies(e -> assertThat(e.errors()).isEmpty());
+    }
+
+    @Test
+    @DisplayName("지정한 경로는 길이와 무관하게 내보냄")
+    void spillsConfiguredFields() {
+      List<CompletionEvent> events = new ArrayList<>();
+      JsonStreamingAdapter adapter = new JsonStreamingAdapter(DOCUMENT_SCHEMA, StreamingOptions.defaults()
+          .spill(SpillPolicy.create().field("$.images[*].data"))
+          .completionListener(events::add));
+
+      adapter.feedToken("{\"title\": \"t\", \"images\": [{\"data\": \"AAAA\"}, {\"data\": \"BBBB\"}]}");
+      adapter.flush();
+
+      assertThat(adapter.getResultNode().get("title").isTextual()).isTrue();
+      assertThat(adapter.getResultNode().get("images").get(1).get("data").isPojo()).isTrue();
+      assertThat(events).filteredOn(e -> e.path().equals("$.images[0].data"))
+          .singleElement()
+          .satisfies(e -> assertThat(((POJONode) e.value()).getPojo().toString()).isEqualTo("AAAA"));
+    }
+
+    private static byte[] readAll(ReadableByteChannel channel) throws Exception {
+      ByteArrayOutputStream out = new ByteArrayOutputStream();
+      ByteBuffer buffer = ByteBuffer.allocate(777);
+      while (channel.read(buffer) >= 0) {
+        buffer.flip();
+        out.write(buffer.array(), 0, buffer.limit());
+        buffer.clear();
+      }
+      return out.toByteArray();
+    }
+  }
+
+  @Nested
+  @DisplayName("base64 증분 디코딩")
+  class Base64Content {
+
+    private static final String IMAGE_SCHEMA = """
+        {
+          "type": "object",
+          "properties": {
+            "caption": { "type": "string" },
+            "image": { "type": "string", "contentEncoding": "base64" }
+          }
+        }
+        """;
+
+    @Test
+    @DisplayName("토큰 경계에 걸친 4문자 묶음을 이어서 디코딩")
+    void decodesAcrossTokenBoundaries() {
+      byte[] payload = new byte[1000];
+      for (int i = 0; i < payload.length; i++) {
+        payload[i] = (byte) (i * 31);
+      }
+      String encoded = Base64.getEncoder().encodeToString(payload);
+      ByteArrayOutputStream sink = new ByteArrayOutputStream();
+      List<Long> completed = new ArrayList<>();
+      JsonStreamingAdapter adapter = new JsonStreamingAdapter(IMAGE_SCHEMA, StreamingOptions.defaults()
+          .binaryContentListener(new BinaryContentListener() {
+            @Override
+            public void onChunk(String path, ByteBuffer chunk) {
+              assertThat(path).isEqualTo("$.image");
+              byte[] bytes = new byte[chunk.remaining()];
+              chunk.get(bytes);
+              sink.writeBytes(bytes);
+            }
+
+            @Override
+            public void onComplete(String path, long totalBytes) {
+              completed.add(totalBytes);
+            }
+          }));
+
+      List<Map<String, Object>> deltas = new ArrayList<>();
+      String input = "{\"caption\": \"cat\", \"image\": \"" + encoded.replace("/", "\\/") + "\"}";
+      for (int i = 0; i < input.length(); i += 7) {
+        deltas.addAll(adapter.feedToken(input.substring(i, Math.min(input.length(), i + 7))));
+        if (i > 200 && i < input.length() - 100) {
+          assertThat(sink.size()).isPositive();
+        }
+      }
+      adapter.flush();
+
+      assertThat(sink.toByteArray()).isEqualTo(payload);
+      assertThat(completed).containsExactly(1000L);
+      assertThat(deltas).allMatch(delta -> !delta.containsKey("image"));
+      assertThat(deltas).anyMatch(delta -> delta.containsKey("caption"));
+    }
+
+    @Test
+    @DisplayName("채널 수신자는 값마다 채널을 열고 닫음")
+    void writesToChannels() {
+      ByteArrayOutputStream out = new ByteArrayOutputStream();
+      JsonStreamingAdapter adapter = new JsonStreamingAdapter(IMAGE_SCHEMA, StreamingOptions.defaults()
+          .binaryContentListener(BinaryContentListener.toChannels(path -> Channels.newChannel(out))));
+
+      adapter.feedToken("{\"image\": \"aGVsbG8=\"}");
+
+      assertThat(out.toString(StandardCharsets.UTF_8)).isEqualTo("hello");
+    }
+
+    @Test
+    @DisplayName("base64 값 중간의 체크포인트에서 복원하면 이미 전달한 바이트를 다시 보내지 않음")
+    void restoresMidValueWithoutDuplicateBytes() {
+      JsonSchema schema = JsonSchemaFactory.getInstance(SpecVersion.VersionFlag.V7).getSchema(IMAGE_SCHEMA);
+      List<String> chunks = new ArrayList<>();
+      List<Long> completed = new ArrayList<>();
+      BinaryContentListener listener = new BinaryContentListener() {
+        @Override
+        public void onChunk(String path, ByteBuffer chunk) {
+          chunks.add(StandardCharsets.UTF_8.decode(chunk).toString());
+        }
+
+        @Override
+        public void onComplete(String path, long totalBytes) {
+          completed.add(totalBytes);
+        }
+      };
+      StreamingOptions options = StreamingOptions.defaults().binaryContentListener(listener);
+      JsonStreamingAdapter adapter = new JsonStreamingAdapter(schema, options);
+      adapter.feedToken("{\"image\":\"aGVsbG8gd2");
+
+      JsonStreamingAdapter restored = JsonStreamingAdapter.restore(schema, options, adapter.checkpoint());
+      restored.feedToken("9ybGQ=\"}");
+
+      assertThat(String.join("", chunks)).isEqualTo("hello world");
+      assertThat(chunks).containsExactly("hello ", "world");
+      assertThat(completed).containsExactly(11L);
+    }
+
+    @Test
+    @DisplayName("base64가 아닌 문자는 즉시 실패")
+    void failsFastOnInvalidCharacters() {
+      JsonStreamingAdapter adapter = new JsonStreamingAdapter(IMAGE_SCHEMA, StreamingOptions.defaults()
+          .binaryContentListener((path, chunk) -> {
+          }));
+
+      adapter.feedToken("{\"image\": \"aGVs");
+      assertThatThrownBy(() -> adapter.feedToken("b*8="))
+          .isInstanceOfSatisfying(SchemaViolationException.class,
+              e -> assertThat(e.getPath()).isEqualTo("$.image"));
+    }
+  }
+
+  @Nested
+  @DisplayName("재연결 재전송")
+  class ReplayBuffer {
+
+    @Test
+    @DisplayName("델타마다 1부터 증가하는 순번과 JSON 인코딩")
+    void numbersDeltasSequentially() {
+      JsonStreamingAdapter adapter = new JsonStreamingAdapter(SIMPLE_SCHEMA);
+
+      List<SequencedDelta> first = adapter.feedTokenSequenced("{\"content\":\"Hel");
+      adapter.feedToken("lo");
+      List<SequencedDelta> third = adapter.feedTokenSequenced(" World\"}");
+
+      assertThat(first).extracting(SequencedDelta::sequence).containsExactly(1L);
+      assertThat(first.get(0).json()).isEqualTo("{\"content\":\"Hel\"}");
+      assertThat(third).extracting(SequencedDelta::sequence).containsExactly(3L);
+      assertThat(adapter.getLastSequence()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("델타 객체로 받아도 재전송 JSON은 Map 델타를 인코딩한 것과 같음")
+    void encodesJournalFromDeltaObjects() throws Exception {
+      String input = "{\"user\":{\"name\":\"a\\\"b\u00e9\",\"tags\":[{\"n\":1,\"x\":1.5,\"ok\":true,\"z\":null}]}}";
+      JsonStreamingAdapter adapter = new JsonStreamingAdapter("{\"type\": \"object\"}",
+          StreamingOptions.defaults().replayBuffer(64));
+      for (int i = 0; i < input.length(); i += 3) {
+        adapter.feedTokenDeltas(input.substring(i, Math.min(input.length(), i + 3)));
+      }
+
+      List<SequencedDelta> entries = adapter.resume(0).deltas();
+
+      ObjectMapper mapper = new ObjectMapper();
+      assertThat(entries).hasSizeGreaterThan(4);
+      for (SequencedDelta entry : entries) {
+        assertThat(entry.json()).isEqualTo(mapper.writeValueAsString(entry.delta()));
+      }
+      assertThat(entries).extracting(SequencedDelta::json)
+          .contains("{\"user\":{\"tags\":[{\"index\":0,\"x\":1.5}]}}");
+    }
+
+    @Test
+    @DisplayName("버퍼에 남은 델타는 마지막 순번 이후부터 재전송")
+    void replaysMissedDeltas() {
+      JsonStreamingAdapter adapter = new JsonStreamingAdapter(SIMPLE_SCHEMA,
+          StreamingOptions.defaults().replayBuffer(4));
+      for (String token : List.of("{\"content\":\"a", "b", "c", "d", "e")) {
+        adapter.feedToken(token);
+      }
+
+      ResumeResult result = adapter.resume(3);
+
+      assertThat(result.isSnapshot()).isFalse();
+      assertThat(result.deltas()).extracting(SequencedDelta::sequence).containsExactly(4L, 5L);
+      assertThat(result.deltas()).extracting(d -> d.delta().get("content")).containsExactly("d", "e");
+      assertThat(adapter.resume(5).deltas()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("너무 뒤처진 클라이언트는 원본 입력 스냅샷으로 전달")
+    void fallsBackToSnapshot() {
+      JsonStreamingAdapter adapter = new JsonStreamingAdapter(SIMPLE_SCHEMA,
+          StreamingOptions.defaults().replayBuffer(2));
+      for (String token : List.of("{\"content\":\"a", "b", "c", "d")) {
+        adapter.feedToken(token);
+      }
+
+      ResumeResult result = adapter.resume(1);
+
+      assertThat(result.isSnapshot()).isTrue();
+      assertThat(result.snapshot()).isEqualTo("{\"content\":\"abcd");
+      assertThat(result.snapshotSequence()).isEqualTo(4);
+      assertThat(adapter.resume(2).isSnapshot()).isFalse();
+    }
+
+    @Test
+    @DisplayName("순번은 체크포인트로 이어지고, 재전송 버퍼가 없으면 resume 불가")
+    void sequenceSurvivesCheckpoint() {
+      JsonSchema schema = JsonSchemaFactory.getInstance(SpecVersion.VersionFlag.V7).getSchema(SIMPLE_SCHEMA);
+      JsonStreamingAdapter adapter = new JsonStreamingAdapter(schema);
+      adapter.feedToken("{\"content\":\"a");
+      adapter.feedToken("b");
+
+      JsonStreamingAdapter resumed = JsonStreamingAdapter.restore(schema,
+          StreamingOptions.defaults().replayBuffer(8), adapter.checkpoint());
+      List<SequencedDelta> next = resumed.feedTokenSequenced("c");
+
+      assertThat(next).extracting(SequencedDelta::sequence).containsExactly(3L);
+      assertThat(resumed.resume(2).deltas()).extracting(SequencedDelta::sequence).containsExactly(3L);
+      assertThatThrownBy(() -> resumed.resume(0)).isInstanceOf(IllegalStateException.class);
+      assertThatThrownBy(() -> adapter.resume(0)).isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    @DisplayName("복원 직후에는 복원 이전 순번을 재전송하지 않음")
+    void doesNotReplayBeforeRestoredSequence() {
+      JsonSchema schema = JsonSchemaFactory.getInstance(SpecVersion.VersionFlag.V7).getSchema(SIMPLE_SCHEMA);
+      JsonStreamingAdapter adapter = new JsonStreamingAdapter(schema);
+      adapter.feedToken("{\"content\":\"a");
+      adapter.feedToken("b");
+
+      JsonStreamingAdapter resumed = JsonStreamingAdapter.restore(schema,
+          StreamingOptions.defaults().replayBuffer(8), adapter.checkpoint());
+
+      assertThat(resumed.resume(2).deltas()).isEmpty();
+      assertThatThrownBy(() -> resumed.resume(1))
+          .isInstanceOf(IllegalStateException.class)
+          .hasMessageContaining("Snapshot is not available");
+    }
+  }
+
+  @Nested
+  @DisplayName("타입 델타")
+  class TypedDeltas {
+
+    private static final String ORDER_SCHEMA = """
+        {
+          "type": "object",
+          "properties": {
+            "user": {
+              "type": "object",
+              "properties": { "name": { "type": "string" }, "vip": { "type": "boolean" } }
+            },
+            "items": {
+              "type": "array",
+              "items": {
+                "type": "object",
+                "properties": { "sku": { "type": "string" }, "qty": { "type": "integer" } }
+              }
+            }
+          }
+        }
+        """;
+
+    private static final String INPUT =
+        "{\"user\": {\"name\": \"Alice\", \"vip\": true}, \"items\": [{\"sku\": \"A-1\", \"qty\": 2}, {\"qty\": 3.5}]}";
+
+    @Test
+    @DisplayName("toMap은 feedToken의 Map 델타와 같다")
+    void toMapMatchesMapDeltas() {
+      JsonStreamingAdapter maps = new JsonStreamingAdapter(ORDER_SCHEMA);
+      JsonStreamingAdapter typed = new JsonStreamingAdapter(ORDER_SCHEMA);
+
+      List<Map<String, Object>> expected = new ArrayList<>();
+      List<Delta> actual = new ArrayList<>();
+      for (int i = 0; i < INPUT.length(); i += 3) {
+        String token = INPUT.substring(i, Math.min(INPUT.length(), i + 3));
+        expected.addAll(maps.feedToken(token));
+        actual.addAll(typed.feedTokenDeltas(token));
+      }
+
+      assertThat(Delta.toMaps(actual)).isEqualTo(expected);
+      assertThat(typed.getLastSequence()).isEqualTo(maps.getLastSequence());
+    }
+
+    @Test
+    @DisplayName("값 종류별 레코드와 공유 경로")
+    void typedRecordsShareOnePath() {
+      JsonStreamingAdapter adapter = new JsonStreamingAdapter(ORDER_SCHEMA);
+
+      List<Delta> deltas = new ArrayList<>();
+      for (int i = 0; i < INPUT.length(); i += 2) {
+        deltas.addAll(adapter.feedTokenDeltas(INPUT.substring(i, Math.min(INPUT.length(), i + 2))));
+      }
+
+      List<Delta> names = deltas.stream().filter(d -> d.field().equals("name")).toList();
+      assertThat(names).hasSizeGreaterThan(1).allMatch(d -> d instanceof Delta.StringIncrement);
+      assertThat(names).allMatch(d -> d.path() == names.get(0).path());
+      assertThat(names.get(0).path()).hasToString("$.user");
+
+      assertThat(deltas).filteredOn(d -> d.field().equals("vip"))
+          .singleElement().isEqualTo(new Delta.BooleanValue(names.get(0).path(), "vip", true));
+      assertThat(deltas).filteredOn(d -> d.field().equals("qty"))
+          .extracting(d -> d.path().toString(), Delta::value)
+          .containsExactly(tuple("$.items[0]", 2), tuple("$.items[1]", 3.5));
+      assertThat(deltas).filteredOn(d -> d.field().equals("qty")).first()
+          .isInstanceOfSatisfying(Delta.IntValue.class, d -> assertThat(d.intValue()).isEqualTo(2));
+    }
+  }
+
+  @Nested
+  @DisplayName("문자열 제약 조기 검사")
+  class EarlyStringValidation {
+
+    private static final String SCHEMA = """
+        {
+          "type": "object",
+          "properties": {
+            "code": { "type": "string", "pattern": "^[A-Z]{3}-\\\\d+$" },
+            "id": { "type": "string", "format": "uuid" },
+            "at": { "type": "string", "format": "date-time" },
+            "title": { "type": "string", "maxLength": 5 },
+            "note": { "type": "string", "pattern": "ok" },
+            "tags": { "type": "array", "items": { "type": "string", "pattern": "^#" } }
+          }
+        }
+        """;
+
+    private JsonStreamingAdapter earlyAdapter() {
+      return new JsonStreamingAdapter(SCHEMA, StreamingOptions.defaults().validateStringsEarly(true));
+    }
+
+    @Test
+    @DisplayName("^로 고정된 패턴은 어긋나는 문자에서 즉시 실패")
+    void failsOnDivergingCharacter() {
+      JsonStreamingAdapter adapter = earlyAdapter();
+      adapter.feedToken("{\"code\": \"AB");
+
+      assertThatThrownBy(() -> adapter.feedToken("c"))
+          .isInstanceOfSatisfying(SchemaViolationException.class,
+              e -> assertThat(e.getPath()).isEqualTo("$.code"))
+          .hasMessageContaining("pattern");
+    }
+
+    @Test
+    @DisplayName("format은 형식 구조에서 벗어나는 즉시 실패")
+    void failsOnMalformedFormatPrefix() {
+      JsonStreamingAdapter uuid = earlyAdapter();
+      uuid.feedToken("{\"id\": \"123e4567-e89b");
+      assertThatThrownBy(() -> uuid.feedToken("-12g3"))
+          .isInstanceOf(SchemaViolationException.class)
+          .hasMessageContaining("format uuid");
+
+      JsonStreamingAdapter dateTime = earlyAdapter();
+      dateTime.feedToken("{\"at\": \"2024-01-05T2");
+      assertThatThrownBy(() -> dateTime.feedToken("5:00:00Z\"}"))
+          .isInstanceOf(SchemaViolationException.class);
+    }
+
+    @Test
+    @DisplayName("maxLength는 스트리밍 중에 초과하는 즉시 실패")
+    void failsWhenTooLong() {
+      JsonStreamingAdapter adapter = earlyAdapter();
+      adapter.feedToken("{\"title\": \"ab\\uD83D");
+      adapter.feedToken("\\uDE00cd");
+
+      assertThatThrownBy(() -> adapter.feedToken("ef"))
+          .isInstanceOf(SchemaViolationException.class)
+          .hasMessageContaining("longer than 5");
+    }
+
+    @Test
+    @DisplayName("고정되지 않은 패턴과 한 번에 완성된 값은 문자열이 끝날 때 판정")
+    void checksRestOnCompletion() {
+      JsonStreamingAdapter adapter = earlyAdapter();
+      adapter.feedToken("{\"code\": \"ABC-12\", \"tags\": [\"#a\"], \"note\": \"n");
+      adapter.feedToken("ot o");
+
+      assertThatThrownBy(() -> adapter.feedToken("k!\", \"tags\": [\"b\"]}"))
+          .isInstanceOfSatisfying(SchemaViolationException.class,
+              e -> assertThat(e.getPath()).isEqualTo("$.tags"));
+
+      JsonStreamingAdapter unanchored = earlyAdapter();
+      unanchored.feedToken("{\"note\": \"n");
+      unanchored.feedToken("o");
+      assertThatThrownBy(() -> unanchored.feedToken("\"}"))
+          .isInstanceOfSatisfying(SchemaViolationException.class,
+              e -> assertThat(e.getPath()).isEqualTo("$.note"));
+    }
+
+    @Test
+    @DisplayName("기본 설정에서는 flush 전까지 검사하지 않음")
+    void disabledByDefault() {
+      JsonStreamingAdapter adapter = new JsonStreamingAdapter(SCHEMA);
+
+      adapter.feedToken("{\"code\": \"abc\", \"title\": \"too long\"}");
+      assertThatThrownBy(adapter::flush).isInstanceOf(JsonStreamingException.class);
+    }
+  }
+
+  @Nested
+  @DisplayName("델타 단위")
+  class Granularity {
+
+    private static final String TEXT_SCHEMA = """
+        {
+          "type": "object",
+          "properties": { "text": { "type": "string" }, "n": { "type": "integer" } }
+        }
+        """;
+
+    private List<Object> texts(List<Map<String, Object>> deltas) {
+      return deltas.stream().filter(d -> d.containsKey("text")).map(d -> d.get("text")).toList();
+    }
+
+    @Test
+    @DisplayName("WORD는 경계까지 모아서, FIELD는 완성 시 한 번에 전달")
+    void coalescesIncrements() {
+      JsonStreamingAdapter word = new JsonStreamingAdapter(TEXT_SCHEMA,
+          StreamingOptions.defaults().deltaGranularity(DeltaGranularity.WORD));
+      assertThat(texts(word.feedToken("{\"text\": \"Hello wor"))).containsExactly("Hello ");
+      assertThat(texts(word.feedToken("ld. By"))).containsExactly("world. ");
+      assertThat(texts(word.feedToken("e\", \"n\": 1}"))).containsExactly("Bye");
+
+      JsonStreamingAdapter field = new JsonStreamingAdapter(TEXT_SCHEMA,
+          StreamingOptions.defaults().deltaGranularity(DeltaGranularity.FIELD));
+      assertThat(field.feedToken("{\"text\": \"Hello wor")).isEmpty();
+      assertThat(field.feedToken("ld. By")).isEmpty();
+      assertThat(texts(field.feedToken("e\"}"))).containsExactly("Hello world. Bye");
+      field.flush();
+      assertThat(field.getResultNode().get("text").asText()).isEqualTo("Hello world. Bye");
+    }
+
+    @Test
+    @DisplayName("공유 컨트롤러는 부하에 따라 단위를 키우고 부하가 충분히 내려가면 되돌림")
+    void adaptsToLoad() {
+      AtomicInteger depth = new AtomicInteger();
+      GranularityController controller = GranularityController.create()
+          .costBudget(Duration.ofSeconds(1))
+          .queueDepth(depth::get, 10);
+      StreamingOptions options = StreamingOptions.defaults().adaptiveGranularity(controller);
+      JsonStreamingAdapter first = new JsonStreamingAdapter(TEXT_SCHEMA, options);
+      JsonStreamingAdapter second = new JsonStreamingAdapter(TEXT_SCHEMA, options);
+
+      assertThat(texts(first.feedToken("{\"text\": \"ab"))).containsExactly("ab");
+
+      depth.set(10);
+      assertThat(texts(first.feedToken("c d"))).isEmpty();
+      assertThat(texts(second.feedToken("{\"text\": \"xy"))).isEmpty();
+
+      depth.set(6);
+      assertThat(controller.current()).isEqualTo(DeltaGranularity.WORD);
+      assertThat(texts(first.feedToken("e f"))).containsExactly("c de ");
+
+      depth.set(4);
+      assertThat(controller.current()).isEqualTo(DeltaGranularity.WORD);
+      depth.set(0);
+      assertThat(texts(second.feedToken("z"))).containsExactly("xyz");
+      assertThat(texts(first.feedToken("g\"}"))).containsExactly("fg");
+    }
+
+    @Test
+    @DisplayName("보류 중인 문자열은 체크포인트에 포함")
+    void checkpointKeepsHeldText() {
+      JsonSchema schema = JsonSchemaFactory.getInstance(SpecVersion.VersionFlag.V7).getSchema(TEXT_SCHEMA);
+      StreamingOptions options = StreamingOptions.defaults().deltaGranularity(DeltaGranularity.FIELD);
+      JsonStreamingAdapter adapter = new JsonStreamingAdapter(schema, options);
+      adapter.feedToken("{\"text\": \"Hel");
+
+      JsonStreamingAdapter restored = JsonStreamingAdapter.restore(schema, options, adapter.checkpoint());
+
+      assertThat(texts(restored.feedToken("lo\"}"))).containsExactly("Hello");
+    }
+  }
+
+  @Nested
+  @DisplayName("오류 복구")
+  class ErrorRecovery {
+
+    private static final String SCHEMA = """
+        {
+          "type": "object",
+          "properties": {
+            "a": { "type": "string" },
+            "b": { "type": "integer" },
+            "c": { "type": "array", "items": { "type": "integer" } },
+            "d": { "type": "string" }
+          }
+        }
+        """;
+
+    private final List<String> errors = new ArrayList<>();
+
+    private JsonStreamingAdapter lenientAdapter() {
+      return new JsonStreamingAdapter(SCHEMA,
+          StreamingOptions.defaults().errorRecovery((path, offset, message) -> errors.add(path + "@" + offset)));
+    }
+
+    private List<Map<String, Object>> feedInChunks(JsonStreamingAdapter adapter, String json, int size) {
+      List<Map<String, Object>> deltas = new ArrayList<>();
+      for (int i = 0; i < json.length(); i += size) {
+        deltas.addAll(adapter.feedToken(json.substring(i, Math.min(json.length(), i + size))));
+      }
+      return deltas;
+    }
+
+    @Test
+    @DisplayName("빠진 쉼표는 채우고 깨진 값은 다음 요소까지 건너뜀")
+    void repairsMissingCommasAndSkipsBrokenValues() {
+      JsonStreamingAdapter adapter = lenientAdapter();
+      String json = "{\"a\": \"x\" \"b\": 1, \"c\": [1 2, tru, 4], \"d\": \"done\"}";
+
+      List<Map<String, Object>> deltas = feedInChunks(adapter, json, 3);
+      adapter.flush();
+
+      assertThat(adapter.getResultNode().toString()).isEqualTo("{\"a\":\"x\",\"b\":1,\"c\":[1,2,4],\"d\":\"done\"}");
+      assertThat(errors).hasSize(3).first().isEqualTo("$.a@" + json.indexOf("\"b\""));
+      assertThat(errors.get(1)).isEqualTo("$.c@" + json.indexOf("2,"));
+      assertThat(deltas).filteredOn(d -> d.containsKey("d")).hasSizeGreaterThan(1)
+          .extracting(d -> d.get("d")).containsExactly("d", "one");
+    }
+
+    @Test
+    @DisplayName("중첩 객체의 깨진 값을 건너뛰고 다음 키부터 이어감")
+    void resumesAtNextKey() {
+      JsonStreamingAdapter adapter = new JsonStreamingAdapter("{\"type\": \"object\"}",
+          StreamingOptions.defaults().errorRecovery((path, offset, message) -> errors.add(path)));
+
+      adapter.feedToken("{\"a\": {\"x\": @@@, \"y");
+      adapter.feedToken("\": 2}, \"b\": tr!ue, \"c\": 3}");
+      adapter.flush();
+
+      assertThat(adapter.getResultNode().toString()).isEqualTo("{\"a\":{\"y\":2},\"c\":3}");
+      assertThat(errors).containsExactly("$.a.x", "$.b");
+    }
+
+    @Test
+    @DisplayName("다시 맞출 지점이 다음 청크에 오면 그때 이어감")
+    void waitsForSyncPointAcrossChunks() {
+      JsonStreamingAdapter adapter = lenientAdapter();
+
+      assertThat(adapter.feedToken("{\"b\": 1 x")).containsExactly(Map.of("b", 1));
+      assertThat(adapter.feedToken("x \"a")).isEmpty();
+      assertThat(adapter.feedToken("\": \"hi")).containsExactly(Map.of("a", "hi"));
+      adapter.feedToken("\"}");
+      adapter.flush();
+
+      assertThat(adapter.getResultNode().toString()).isEqualTo("{\"b\":1,\"a\":\"hi\"}");
+      assertThat(errors).containsExactly("$.b@8");
+    }
+
+    @Test
+    @DisplayName("제어 문자, 알 수 없는 이스케이프, 끝의 쉼표는 오류 없이 받아들임")
+    void toleratesCommonSlips() {
+      JsonStreamingAdapter adapter = lenientAdapter();
+
+      adapter.feedToken("{\"a\": \"he\u0001llo\", \"d\": \"q\\q\", \"c\": [1, 2,],}");
+      adapter.flush();
+
+      assertThat(adapter.getResultNode().get("a").asText()).isEqualTo("he\u0001llo");
+      assertThat(adapter.getResultNode().get("d").asText()).isEqualTo("qq");
+      assertThat(adapter.getResultNode().get("c")).hasSize(2);
+      assertThat(errors).isEmpty();
+    }
+
+    @Test
+    @DisplayName("기본 설정에서는 구문 오류가 예외")
+    void strictByDefault() {
+      JsonStreamingAdapter adapter = new JsonStreamingAdapter(SCHEMA);
+
+      assertThatThrownBy(() -> adapter.feedToken("{\"a\": \"x\" \"b\": 1}"))
+          .isInstanceOf(JsonStreamingException.class);
+    }
+  }
+
+  @Nested
+  @DisplayName("배열 요소 병렬 검증")
+  class ParallelItemValidation {
+
+    private static final String SCHEMA = """
+        {
+          "type": "object",
+          "properties": {
+            "order": {
+              "type": "object",
+              "properties": {
+                "items": { "type": "array", "minItems": 5, "items": { "$ref": "#/definitions/item" } }
+              }
+            }
+          },
+          "definitions": {
+            "item": {
+              "type": "object",
+              "properties": {
+                "sku": { "type": "string", "pattern": "^[A-Z]+$" },
+                "qty": { "type": "integer", "minimum": 1 }
+              },
+              "required": ["sku"]
+            }
+          }
+        }
+        """;
+
+    private final AtomicInteger submitted = new AtomicInteger();
+    private final Executor countingExecutor = task -> {
+      submitted.incrementAndGet();
+      task.run();
+    };
+
+    private ValidationResult validate(StreamingOptions options, String json) throws Exception {
+      JsonStreamingAdapter adapter = new JsonStreamingAdapter(SCHEMA, options);
+      for (int i = 0; i < json.length(); i += 4) {
+        adapter.feedToken(json.substring(i, Math.min(json.length(), i + 4)));
+      }
+      try {
+        adapter.flush();
+      } catch (JsonStreamingException e) {
+        // 검증 실패는 결과로 확인
+      }
+      return adapter.getValidationResult().get();
+    }
+
+    @Test
+    @DisplayName("요소 검증 결과를 배열 순서와 경로를 유지해 합침")
+    void mergesItemErrorsInOrder() throws Exception {
+      String json = "{\"order\": {\"items\": [{\"sku\": \"A\", \"qty\": 1}, {\"sku\": \"b\", \"qty\": 0},"
+          + " {\"qty\": 2}, {\"sku\": \"C\"}]}}";
+
+      ValidationResult parallel = validate(StreamingOptions.defaults().itemValidationExecutor(countingExecutor), json);
+      ValidationResult full = validate(StreamingOptions.defaults(), json);
+
+      assertThat(submitted).hasValue(4);
+      assertThat(parallel.messages()).extracting(m -> m.getInstanceLocation().toString())
+          .containsExactly("$.order.items", "$.order.items[1].sku", "$.order.items[1].qty", "$.order.items[2]");
+      assertThat(parallel.messages()).extracting(ValidationMessage::getMessage)
+          .containsExactlyInAnyOrderElementsOf(full.messages().stream().map(ValidationMessage::getMessage).toList());
+    }
+
+    @Test
+    @DisplayName("요소가 모두 유효하면 배열 자체의 제약만 남음")
+    void keepsArrayLevelConstraints() throws Exception {
+      StringBuilder json = new StringBuilder("{\"order\": {\"items\": [");
+      for (int i = 0; i < 5; i++) {
+        json.append(i > 0 ? ", " : "").append("{\"sku\": \"AB\", \"qty\": ").append(i + 1).append('}');
+      }
+      json.append("]}}");
+
+      assertThat(validate(StreamingOptions.defaults().itemValidationExecutor(countingExecutor), json.toString())
+          .isValid()).isTrue();
+      assertThat(validate(StreamingOptions.defaults().itemValidationExecutor(countingExecutor),
+          "{\"order\": {\"items\": [{\"sku\": \"AB\"}]}}").messages())
+          .extracting(ValidationMessage::getMessage)
+          .containsExactly("$.order.items: must have at least 5 items but found 1");
+    }
+
+    @Test
+    @DisplayName("조합 키워드가 걸린 배열은 요소를 따로 검증하지 않음")
+    void fallsBackForCompositeSchemas() throws Exception {
+      String schema = """
+          {
+            "type": "object",
+            "properties": {
+              "items": { "type": "array", "items": { "type": "object" }, "anyOf": [ { "maxItems": 1 } ] }
+            }
+          }
+          """;
+      JsonStreamingAdapter adapter = new JsonStreamingAdapter(schema,
+          StreamingOptions.defaults().itemValidationExecutor(countingExecutor));
+      adapter.feedToken("{\"items\": [{}, {}]}");
+
+      assertThatThrownBy(adapter::flush).isInstanceOf(JsonStreamingException.class);
+      assertThat(submitted).hasValue(0);
+    }
+  }
+
+  @Nested
+  @DisplayName("공유 메모리 예산")
+  class SharedMemoryBudget {
+
+    // 문자당 4바이트: 10자 = 40바이트
+    private MemoryBudget budget(MemoryBudget.Policy policy) {
+      return MemoryBudget.of(100).chunkBytes(20).policy(policy);
+    }
+
+    @Test
+    @DisplayName("예산을 넘는 토큰은 반영하지 않고 거부하며, 소진되면 새 스트림도 거부")
+    void rejectsTokensAndNewStreamsWhenExhausted() {
+      MemoryBudget budget = budget(MemoryBudget.Policy.REJECT);
+      StreamingOptions options = StreamingOptions.defaults().memoryBudget(budget);
+      JsonStreamingAdapter first = new JsonStreamingAdapter(SIMPLE_SCHEMA, options);
+      first.feedToken("{\"content\":\"");
+
+      assertThatThrownBy(() -> first.feedToken("0123456789012345"))
+          .isInstanceOf(StreamingLimitExceededException.class)
+          .extracting(e -> ((StreamingLimitExceededException) e).getLimit())
+          .isEqualTo(StreamingLimitExceededException.Limit.MEMORY_BUDGET);
+      assertThat(first.getCurrentBuffer()).isEqualTo("{\"content\":\"");
+
+      first.feedToken("012345678901");
+      assertThat(budget.isExhausted()).isTrue();
+      assertThatThrownBy(() -> new JsonStreamingAdapter(SIMPLE_SCHEMA, options))
+          .isInstanceOf(StreamingLimitExceededException.class);
+      assertThat(budget.getRejectedStreams()).isEqualTo(1);
+
+      first.close();
+      assertThat(budget.getReservedBytes()).isZero();
+      assertThatThrownBy(() -> first.feedToken("x")).isInstanceOf(JsonStreamingException.class);
+      try (JsonStreamingAdapter next = new JsonStreamingAdapter(SIMPLE_SCHEMA, options)) {
+        next.feedToken("{\"content\":\"ok\"}");
+        assertThat(next.getResultNode().get("content").asText()).isEqualTo("ok");
+      }
+    }
+
+    @Test
+    @DisplayName("BACKPRESSURE는 다른 스트림이 반환할 때까지 피드를 대기시킴")
+    void blocksFeederUntilMemoryIsReleased() throws Exception {
+      MemoryBudget budget = budget(MemoryBudget.Policy.BACKPRESSURE).backpressureTimeout(Duration.ofSeconds(10));
+      StreamingOptions options = StreamingOptions.defaults().memoryBudget(budget);
+      JsonStreamingAdapter holder = new JsonStreamingAdapter(SIMPLE_SCHEMA, options);
+      holder.feedToken("{\"content\":\"012345");
+      JsonStreamingAdapter waiting = new JsonStreamingAdapter(SIMPLE_SCHEMA, options);
+
+      CompletableFuture<List<Map<String, Object>>> feed =
+          CompletableFuture.supplyAsync(() -> waiting.feedToken("{\"content\":\"abc\"}"));
+      Thread.sleep(100);
+      assertThat(feed).isNotDone();
+
+      holder.close();
+      assertThat(feed.get(5, TimeUnit.SECONDS)).isNotEmpty();
+      assertThat(waiting.getResultNode().get("content").asText()).isEqualTo("abc");
+    }
+
+    @Test
+    @DisplayName("BACKPRESSURE 대기 시간이 지나면 실패")
+    void failsAfterBackpressureTimeout() {
+      MemoryBudget budget = budget(MemoryBudget.Policy.BACKPRESSURE).backpressureTimeout(Duration.ofMillis(50));
+      JsonStreamingAdapter adapter = new JsonStreamingAdapter(SIMPLE_SCHEMA,
+          StreamingOptions.defaults().memoryBudget(budget));
+
+      assertThatThrownBy(() -> adapter.feedToken("{\"content\":\"0123456789012345678901234567890\"}"))
+          .isInstanceOf(StreamingLimitExceededException.class);
+    }
+
+    @Test
+    @DisplayName("LOW_MEMORY는 계속 처리하되 재전송 버퍼를 비우고 복사하지 않은 스냅샷으로 재연결")
+    void switchesToLowMemoryMode() {
+      // 재전송 버퍼의 델타도 예약하므로 첫 델타까지 들어갈 만큼
+      MemoryBudget budget = MemoryBudget.of(300).chunkBytes(20).policy(MemoryBudget.Policy.LOW_MEMORY);
+      JsonStreamingAdapter adapter = new JsonStreamingAdapter(SIMPLE_SCHEMA,
+          StreamingOptions.defaults().memoryBudget(budget).replayBuffer(16));
+      adapter.feedToken("{\"content\":\"ab");
+      assertThat(adapter.isLowMemory()).isFalse();
+      assertThat(adapter.resume(0).isSnapshot()).isFalse();
+
+      adapter.feedToken("012345678901234567890123456789012345678901234567890123456789\"}");
+      adapter.flush();
+
+      assertThat(adapter.isLowMemory()).isTrue();
+      assertThat(budget.getReservedBytes()).isGreaterThan(budget.getMaxBytes());
+      assertThat(adapter.getResultNode().get("content").asText()).startsWith("ab0123");
+      ResumeResult result = adapter.resume(0);
+      assertThat(result.isSnapshot()).isTrue();
+      assertThat(result.snapshot()).isInstanceOf(CharBuffer.class).hasToString(adapter.getCurrentBuffer());
+      adapter.close();
+      assertThat(budget.getReservedBytes()).isZero();
+    }
+
+    @Test
+    @DisplayName("재전송 버퍼에 보관한 델타도 예약하고, 밀려난 델타는 반환")
+    void chargesReplayBufferEntries() {
+      MemoryBudget plain = MemoryBudget.of(1_000_000).chunkBytes(1);
+      MemoryBudget journaled = MemoryBudget.of(1_000_000).chunkBytes(1);
+      JsonStreamingAdapter withoutJournal = new JsonStreamingAdapter(SIMPLE_SCHEMA,
+          StreamingOptions.defaults().memoryBudget(plain));
+      JsonStreamingAdapter withJournal = new JsonStreamingAdapter(SIMPLE_SCHEMA,
+          StreamingOptions.defaults().memoryBudget(journaled).replayBuffer(2));
+
+      List<SequencedDelta> entries = new ArrayList<>();
+      for (String token : List.of("{\"content\":\"", "ab", "cd", "ef", "gh\"}")) {
+        withoutJournal.feedToken(token);
+        entries.addAll(withJournal.feedTokenSequenced(token));
+      }
+
+      assertThat(entries).hasSizeGreaterThan(2);
+      long retained = entries.subList(entries.size() - 2, entries.size()).stream()
+          .mapToLong(MemoryBudget::journalEntryBytes)
+          .sum();
+      assertThat(journaled.getReservedBytes() - plain.getReservedBytes()).isEqualTo(retained);
+    }
+
+    @Test
+    @DisplayName("오류 복구로 버린 원본 입력만큼 반환")
+    void releasesInputDiscardedByRecovery() {
+      MemoryBudget budget = MemoryBudget.of(1_000_000).chunkBytes(1);
+      JsonStreamingAdapter adapter = new JsonStreamingAdapter("{\"type\": \"object\"}",
+          StreamingOptions.defaults().memoryBudget(budget).errorRecovery((path, offset, message) -> {
+          }));
+      String first = "{\"a\": {\"x\": @@@, \"y";
+      String second = "\": 2}, \"b\": tr!ue, \"c\": 3}";
+
+      adapter.feedToken(first);
+      adapter.feedToken(second);
+
+      long input = first.length() + second.length();
+      long buffered = adapter.getCurrentBuffer().length();
+      assertThat(buffered).isLessThan(input);
+      assertThat(budget.getReservedBytes()).isEqualTo(input * 4 - (input - buffered) * 2);
+      adapter.close();
+      assertThat(budget.getReservedBytes()).isZero();
+    }
+  }
 }
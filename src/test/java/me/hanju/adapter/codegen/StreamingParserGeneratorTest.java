@@ -0,0 +1,203 @@
+package me.hanju.adapter.codegen;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import me.hanju.adapter.JsonStreamingAdapter;
+import me.hanju.adapter.codegen.generated.ContactParser;
+import me.hanju.adapter.codegen.generated.OrderParser;
+import me.hanju.adapter.exception.JsonStreamingException;
+import me.hanju.adapter.exception.SchemaViolationException;
+
+class StreamingParserGeneratorTest {
+
+  private static final String ORDER = """
+      {"id": "ord-1", "status": "paid", "note": null,
+       "customer": {"name": "Kim \\"K\\"", "vip": true},
+       "tags": ["a", "b"],
+       "items": [{"sku": "x-1", "quantity": 2, "price": 9.5}, {"sku": "y-2", "quantity": 1}]}
+      """;
+
+  @Test
+  @DisplayName("생성된 파서는 어댑터와 같은 델타와 결과를 만든다")
+  void producesSameDeltasAsAdapter() throws IOException {
+    for (int size = 1; size <= 9; size += 4) {
+      JsonStreamingAdapter adapter = new JsonStreamingAdapter(loadSchema("order.json"));
+      OrderParser parser = new OrderParser();
+
+      List<Map<String, Object>> expected = new ArrayList<>();
+      List<Map<String, Object>> actual = new ArrayList<>();
+      for (int i = 0; i < ORDER.length(); i += size) {
+        String token = ORDER.substring(i, Math.min(ORDER.length(), i + size));
+        expected.addAll(adapter.feedToken(token));
+        actual.addAll(parser.feedToken(token));
+      }
+      adapter.flush();
+      parser.flush();
+
+      assertThat(actual).isEqualTo(expected);
+      assertThat(parser.isComplete()).isTrue();
+      assertThat(parser.getResultNode()).isEqualTo(adapter.getResultNode());
+    }
+  }
+
+  @Test
+  @DisplayName("타입이 맞지 않는 값은 도착 즉시 거부")
+  void rejectsWrongTypeImmediately() {
+    OrderParser parser = new OrderParser();
+    parser.feedToken("{\"id\": \"ord-1\", \"customer\": {\"vip\": ");
+
+    assertThatThrownBy(() -> parser.feedToken("\"yes\""))
+        .isInstanceOf(SchemaViolationException.class)
+        .satisfies(e -> assertThat(((SchemaViolationException) e).getPath()).isEqualTo("$.customer.vip"));
+  }
+
+  @Test
+  @DisplayName("enum, 길이, 최솟값, 허용되지 않은 필드 검사")
+  void checksConstraints() {
+    assertThatThrownBy(() -> new OrderParser().feedToken("{\"id\": \"ord-1\", \"status\": \"lost\","))
+        .isInstanceOf(SchemaViolationException.class)
+        .hasMessageContaining("pending");
+    assertThatThrownBy(() -> new OrderParser().feedToken("{\"id\": \"o1\","))
+        .isInstanceOf(SchemaViolationException.class)
+        .hasMessageContaining("shorter");
+    assertThatThrownBy(() -> new OrderParser().feedToken("{\"items\": [{\"sku\": \"a\", \"quantity\": 0}"))
+        .isInstanceOf(SchemaViolationException.class)
+        .satisfies(e -> assertThat(((SchemaViolationException) e).getPath()).isEqualTo("$.items[0].quantity"));
+    assertThatThrownBy(() -> new OrderParser().feedToken("{\"extra\": 1"))
+        .isInstanceOf(SchemaViolationException.class)
+        .satisfies(e -> assertThat(((SchemaViolationException) e).getPath()).isEqualTo("$.extra"));
+  }
+
+  @Test
+  @DisplayName("maxLength는 스트리밍 중에 초과하는 즉시 거부")
+  void rejectsLongStringWhileStreaming() {
+    OrderParser parser = new OrderParser();
+    parser.feedToken("{\"note\": \"0123");
+    parser.feedToken("4567");
+
+    assertThatThrownBy(() -> parser.feedToken("89ab"))
+        .isInstanceOf(SchemaViolationException.class)
+        .hasMessageContaining("longer than 10");
+  }
+
+  @Test
+  @DisplayName("객체가 닫힐 때 required 필드 누락 검사")
+  void checksRequiredOnClose() {
+    OrderParser parser = new OrderParser();
+    parser.feedToken("{\"id\": \"ord-1\", \"status\": \"paid\", \"items\": [{\"sku\": \"a\"");
+
+    assertThatThrownBy(() -> parser.feedToken("}"))
+        .isInstanceOf(SchemaViolationException.class)
+        .hasMessageContaining("'quantity'")
+        .satisfies(e -> assertThat(((SchemaViolationException) e).getPath()).isEqualTo("$.items[0]"));
+
+    OrderParser root = new OrderParser();
+    root.feedToken("{\"id\": \"ord-1\"");
+    assertThatThrownBy(() -> root.feedToken("}"))
+        .isInstanceOf(SchemaViolationException.class)
+        .hasMessageContaining("'status'");
+  }
+
+  @Test
+  @DisplayName("properties에 없는 required 필드도 이름으로 확인")
+  void checksRequiredNamesWithoutProperties() {
+    ContactParser parser = new ContactParser();
+    parser.feedToken("{\"email\": {\"work\": [\"a@b.c\"]}, \"name\": \"Kim\"}");
+    parser.flush();
+    assertThat(parser.isComplete()).isTrue();
+
+    assertThatThrownBy(() -> new ContactParser().feedToken("{\"name\": \"Kim\", \"phone\": 1}"))
+        .isInstanceOf(SchemaViolationException.class)
+        .hasMessageContaining("'email'");
+  }
+
+  @Test
+  @DisplayName("요소 안의 배열이 닫힌 뒤에도 나머지 요소를 검사")
+  void checksElementsAfterNestedArray() {
+    String head = "{\"id\": \"ord-1\", \"status\": \"paid\", \"items\": ["
+        + "{\"sku\": \"x-1\", \"extra\": [1, 2], \"quantity\": 2}, ";
+
+    OrderParser valid = new OrderParser();
+    valid.feedToken(head + "{\"sku\": \"y-2\", \"quantity\": 1}]}");
+    valid.flush();
+    assertThat(valid.isComplete()).isTrue();
+    assertThat(valid.getResultNode().get("items")).hasSize(2);
+
+    assertThatThrownBy(() -> new OrderParser().feedToken(head + "{\"sku\": \"y-2\", \"quantity\": 0}"))
+        .isInstanceOf(SchemaViolationException.class)
+        .satisfies(e -> assertThat(((SchemaViolationException) e).getPath()).isEqualTo("$.items[1].quantity"));
+  }
+
+  @Test
+  @DisplayName("루트 객체가 닫히기 전에 입력이 끝나면 flush에서 실패")
+  void failsFlushOnIncompleteInput() {
+    OrderParser parser = new OrderParser();
+    parser.feedToken("{\"id\": \"ord-1\", \"note\": ");
+
+    assertThatThrownBy(parser::flush)
+        .isInstanceOf(JsonStreamingException.class)
+        .hasMessageContaining("$.note");
+    assertThatThrownBy(new OrderParser()::flush)
+        .isInstanceOf(JsonStreamingException.class);
+  }
+
+  @Test
+  @DisplayName("검사할 수 없는 키워드가 있으면 생성 실패")
+  void rejectsUnsupportedKeywords() {
+    for (String property : List.of(
+        "{\"type\": \"string\", \"pattern\": \"^a\"}",
+        "{\"type\": \"string\", \"format\": \"uuid\"}",
+        "{\"oneOf\": [{\"type\": \"string\"}, {\"type\": \"integer\"}]}",
+        "{\"type\": \"integer\", \"exclusiveMinimum\": 0}",
+        "{\"type\": \"array\", \"minItems\": 1}",
+        "{\"enum\": [1, 2]}",
+        "{\"type\": \"array\", \"items\": {\"type\": \"array\"}}",
+        "{\"$ref\": \"#/definitions/bad\"}")) {
+      String schema = "{\"type\": \"object\", \"properties\": {\"a\": " + property + "},"
+          + " \"definitions\": {\"bad\": {\"allOf\": []}}}";
+      assertThatThrownBy(() -> StreamingParserGenerator.generate(schema, "", "X"))
+          .as(property)
+          .isInstanceOf(IllegalArgumentException.class)
+          .hasMessageContaining("Unsupported keyword");
+    }
+    assertThat(StreamingParserGenerator.generate("""
+        {"$schema": "http://json-schema.org/draft-07/schema#", "title": "T", "type": "object",
+         "properties": {"a": {"type": "string", "description": "d"}}}
+        """, "", "X")).contains("class X");
+  }
+
+  @Test
+  @DisplayName("필드 구분은 switch 테이블로 생성")
+  void generatesSwitchTables() {
+    String source = StreamingParserGenerator.generate("""
+        {"type": "object", "properties": {"a\\"b": {"type": "integer"}}, "required": ["a\\"b"]}
+        """, "com.example", "SampleParser");
+
+    assertThat(source)
+        .startsWith("package com.example;")
+        .contains("public final class SampleParser extends GeneratedStreamingParser")
+        .contains("case \"a\\\"b\" -> 0;")
+        .contains("case 0 -> INTEGER;")
+        .doesNotContain("networknt");
+    assertThat(StreamingParserGenerator.classNameFor("order-event.json")).isEqualTo("OrderEventParser");
+    assertThatThrownBy(() -> StreamingParserGenerator.generate("{\"type\": \"array\"}", "", "X"))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  private static String loadSchema(String name) throws IOException {
+    try (InputStream in = StreamingParserGeneratorTest.class.getResourceAsStream("/schemas/" + name)) {
+      return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+    }
+  }
+}
@@ -0,0 +1,104 @@
+package me.hanju.adapter.concurrent;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+import me.hanju.adapter.JsonStreamingAdapter;
+import me.hanju.adapter.exception.JsonStreamingException;
+
+@Timeout(10)
+class ConcurrentStreamingPipelineTest {
+
+  private static final String SCHEMA = """
+      {
+        "type": "object",
+        "properties": {
+          "content": { "type": "string" }
+        },
+        "required": ["content"]
+      }
+      """;
+
+  @Test
+  @DisplayName("링 버퍼는 스레드 사이에서 순서를 유지")
+  void ringBufferPreservesOrderAcrossThreads() {
+    SpscRingBuffer<Integer> ring = new SpscRingBuffer<>(6);
+    assertThat(ring.capacity()).isEqualTo(8);
+
+    int count = 200_000;
+    CompletableFuture<Void> producer = CompletableFuture.runAsync(() -> {
+      WaitStrategy wait = WaitStrategy.yielding();
+      for (int i = 0; i < count; i++) {
+        for (int attempt = 0; !ring.offer(i); attempt++) {
+          wait.idle(attempt);
+        }
+      }
+    });
+
+    WaitStrategy wait = WaitStrategy.yielding();
+    for (int expected = 0; expected < count; expected++) {
+      Integer value;
+      for (int attempt = 0; (value = ring.poll()) == null; attempt++) {
+        wait.idle(attempt);
+      }
+      assertThat(value).isEqualTo(expected);
+    }
+    producer.join();
+    assertThat(ring.isEmpty()).isTrue();
+  }
+
+  @Test
+  @DisplayName("생산자 스레드의 청크를 소비자 스레드에서 파싱해 델타 게시")
+  void parsesOnConsumerThread() {
+    StringBuilder expected = new StringBuilder();
+    for (int i = 0; i < 500; i++) {
+      expected.append("chunk").append(i).append(' ');
+    }
+    String json = "{\"content\": \"" + expected + "\"}";
+
+    try (ConcurrentStreamingPipeline pipeline = new ConcurrentStreamingPipeline(new JsonStreamingAdapter(SCHEMA),
+        2, 2, WaitStrategy.parking(Duration.ofMillis(1)), Thread.ofVirtual().factory())) {
+      CompletableFuture<Void> producer = CompletableFuture.runAsync(() -> {
+        for (int i = 0; i < json.length(); i += 5) {
+          pipeline.put(json.substring(i, Math.min(json.length(), i + 5)));
+        }
+        pipeline.complete();
+      });
+
+      StringBuilder content = new StringBuilder();
+      Map<String, Object> delta;
+      while ((delta = pipeline.take()) != null) {
+        content.append(delta.get("content"));
+      }
+      producer.join();
+
+      assertThat(content.toString()).isEqualTo(expected.toString());
+      assertThat(pipeline.isFinished()).isTrue();
+      assertThat(pipeline.getAdapter().getResultNode().get("content").asText()).isEqualTo(expected.toString());
+    }
+  }
+
+  @Test
+  @DisplayName("소비자 스레드의 실패를 수신 쪽에 전달")
+  void propagatesConsumerFailure() {
+    try (ConcurrentStreamingPipeline pipeline = new ConcurrentStreamingPipeline(new JsonStreamingAdapter(SCHEMA), 4)) {
+      pipeline.put("{\"other\": 1}");
+      pipeline.complete();
+
+      assertThatThrownBy(() -> {
+        while (pipeline.take() != null) {
+          // 실패할 때까지 소비
+        }
+      }).isInstanceOf(JsonStreamingException.class)
+          .hasCauseInstanceOf(JsonStreamingException.class);
+    }
+  }
+}
@@ -0,0 +1,159 @@
+package me.hanju.adapter.jfr;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import me.hanju.adapter.JsonStreamingAdapter;
+import me.hanju.adapter.StreamingLimits;
+import me.hanju.adapter.StreamingOptions;
+import me.hanju.adapter.exception.StreamingLimitExceededException;
+
+class StreamingEventsTest {
+
+  private static final String SCHEMA = """
+      {
+        "type": "object",
+        "properties": {
+          "name": { "type": "string" }
+        }
+      }
+      """;
+
+  @TempDir
+  Path tempDir;
+
+  @Test
+  @DisplayName("기록 중에는 스트림, 피드, 검증 이벤트를 남김")
+  void recordsStreamEvents() throws Exception {
+    List<RecordedEvent> events;
+    try (Recording recording = new Recording()) {
+      recording.enable(StreamEvent.class);
+      recording.enable(SlowFeedEvent.class).withThreshold(Duration.ZERO);
+      recording.enable(ValidationEvent.class);
+      recording.start();
+
+      JsonStreamingAdapter adapter = new JsonStreamingAdapter(SCHEMA);
+      adapter.feedToken("{\"name\": \"Al");
+      adapter.feedToken("ice\"}");
+      adapter.flush();
+
+      recording.stop();
+      events = dump(recording);
+    }
+
+    RecordedEvent stream = only(events, "me.hanju.adapter.Stream");
+    assertThat(stream.getLong("inputBytes")).isEqualTo(17);
+    assertThat(stream.getLong("feedCalls")).isEqualTo(2);
+    assertThat(stream.getLong("deltas")).isEqualTo(2);
+    assertThat(stream.getLong("bufferHighWaterMark")).isEqualTo(17);
+    assertThat(stream.getBoolean("completed")).isTrue();
+
+    assertThat(events).filteredOn(e -> e.getEventType().getName().equals("me.hanju.adapter.SlowFeed"))
+        .hasSize(2);
+    assertThat(only(events, "me.hanju.adapter.Validation").getInt("errors")).isZero();
+  }
+
+  @Test
+  @DisplayName("flush 없이 닫아도 스트림 이벤트를 한 번만 남김")
+  void recordsStreamEventOnClose() throws Exception {
+    List<RecordedEvent> events;
+    try (Recording recording = new Recording()) {
+      recording.enable(StreamEvent.class);
+      recording.start();
+
+      try (JsonStreamingAdapter adapter = new JsonStreamingAdapter(SCHEMA)) {
+        adapter.feedToken("{\"name\": \"Al");
+      }
+      JsonStreamingAdapter flushed = new JsonStreamingAdapter(SCHEMA);
+      flushed.feedToken("{}");
+      flushed.flush();
+      flushed.close();
+
+      recording.stop();
+      events = dump(recording);
+    }
+
+    List<RecordedEvent> streams = events.stream()
+        .filter(e -> e.getEventType().getName().equals("me.hanju.adapter.Stream"))
+        .toList();
+    assertThat(streams).hasSize(2);
+    assertThat(streams).extracting(e -> e.getLong("inputBytes")).containsExactlyInAnyOrder(12L, 2L);
+    assertThat(streams).filteredOn(e -> e.getLong("inputBytes") == 12).singleElement()
+        .satisfies(e -> assertThat(e.getBoolean("completed")).isFalse());
+  }
+
+  @Test
+  @DisplayName("버퍼 최대 크기는 오류 복구로 버퍼가 줄어도 유지")
+  void keepsHighWaterMarkAfterRecovery() throws Exception {
+    String first = "{\"name\": {\"x\": @@@, \"y";
+    JsonStreamingAdapter adapter;
+    List<RecordedEvent> events;
+    try (Recording recording = new Recording()) {
+      recording.enable(StreamEvent.class);
+      recording.start();
+
+      adapter = new JsonStreamingAdapter("{\"type\": \"object\"}",
+          StreamingOptions.defaults().errorRecovery((path, offset, message) -> {
+          }));
+      adapter.feedToken(first);
+      adapter.feedToken("\": 2}}");
+      adapter.flush();
+
+      recording.stop();
+      events = dump(recording);
+    }
+
+    long highWaterMark = only(events, "me.hanju.adapter.Stream").getLong("bufferHighWaterMark");
+    assertThat(highWaterMark).isGreaterThanOrEqualTo(first.length())
+        .isGreaterThan(adapter.getCurrentBuffer().length());
+  }
+
+  @Test
+  @DisplayName("한도 초과 시 위반 이벤트를 남김")
+  void recordsLimitViolation() throws Exception {
+    List<RecordedEvent> events;
+    try (Recording recording = new Recording()) {
+      recording.enable(LimitViolationEvent.class);
+      recording.start();
+
+      JsonStreamingAdapter adapter = new JsonStreamingAdapter(SCHEMA,
+          StreamingOptions.defaults().limits(StreamingLimits.unlimited().maxDepth(1)));
+      assertThatThrownBy(() -> adapter.feedToken("{\"name\": {\"x\": 1}}"))
+          .isInstanceOf(StreamingLimitExceededException.class);
+
+      recording.stop();
+      events = dump(recording);
+    }
+
+    RecordedEvent violation = only(events, "me.hanju.adapter.LimitViolation");
+    assertThat(violation.getString("limit")).isEqualTo("DEPTH");
+    assertThat(violation.getLong("maxValue")).isEqualTo(1);
+    assertThat(violation.getString("path")).isEqualTo("$.name");
+  }
+
+  private List<RecordedEvent> dump(Recording recording) throws Exception {
+    Path file = Files.createTempFile(tempDir, "adapter", ".jfr");
+    recording.dump(file);
+    return RecordingFile.readAllEvents(file);
+  }
+
+  private static RecordedEvent only(List<RecordedEvent> events, String name) {
+    List<RecordedEvent> matching = events.stream()
+        .filter(e -> e.getEventType().getName().equals(name))
+        .toList();
+    assertThat(matching).hasSize(1);
+    return matching.get(0);
+  }
+}
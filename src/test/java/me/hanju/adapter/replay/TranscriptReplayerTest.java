@@ -0,0 +1,144 @@
+package me.hanju.adapter.replay;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.networknt.schema.JsonSchema;
+import com.networknt.schema.JsonSchemaFactory;
+import com.networknt.schema.SpecVersion;
+
+import me.hanju.adapter.DeltaGranularity;
+import me.hanju.adapter.MemoryBudget;
+import me.hanju.adapter.StreamingOptions;
+
+class TranscriptReplayerTest {
+
+  private static final JsonSchema SCHEMA = JsonSchemaFactory.getInstance(SpecVersion.VersionFlag.V7).getSchema("""
+      {
+        "type": "object",
+        "properties": {
+          "name": { "type": "string" },
+          "age": { "type": "integer" }
+        },
+        "required": ["name"]
+      }
+      """);
+
+  @TempDir
+  Path tempDir;
+
+  @Test
+  @DisplayName("여러 transcript를 병렬 재생하고 입력 순서대로 결과 반환")
+  void replaysInParallelPreservingOrder() {
+    List<List<String>> transcripts = new ArrayList<>();
+    for (int i = 0; i < 100; i++) {
+      transcripts.add(List.of("{\"name\": \"user", i + "\", \"age\": ", i + "}"));
+    }
+
+    ForkJoinPool pool = new ForkJoinPool(4);
+    try {
+      ReplayReport report = new TranscriptReplayer(SCHEMA, StreamingOptions.defaults(), pool)
+          .collectDeltas(true)
+          .replay(transcripts);
+
+      assertThat(report.size()).isEqualTo(100);
+      assertThat(report.validCount()).isEqualTo(100);
+      for (int i = 0; i < 100; i++) {
+        TranscriptResult result = report.results().get(i);
+        assertThat(result.index()).isEqualTo(i);
+        assertThat(result.result().get("name").asText()).isEqualTo("user" + i);
+        assertThat(result.result().get("age").asInt()).isEqualTo(i);
+        assertThat(result.deltas()).hasSize((int) result.deltaCount());
+      }
+    } finally {
+      pool.shutdown();
+    }
+  }
+
+  @Test
+  @DisplayName("검증 Executor 외의 옵션은 재생에도 적용")
+  void appliesOptionsExceptValidationExecutor() {
+    StreamingOptions options = StreamingOptions.defaults()
+        .deltaGranularity(DeltaGranularity.FIELD)
+        .validationExecutor(task -> {
+          throw new AssertionError("validation executor must not be used");
+        });
+
+    ReplayReport report = new TranscriptReplayer(SCHEMA, options, ForkJoinPool.commonPool())
+        .collectDeltas(true)
+        .replay(List.of(List.of("{\"name\": \"Al", "ice\", \"age\": 3}")));
+
+    TranscriptResult result = report.results().get(0);
+    assertThat(report.validCount()).isEqualTo(1);
+    assertThat(result.deltas()).extracting(delta -> delta.get("name")).contains("Alice");
+  }
+
+  @Test
+  @DisplayName("transcript마다 어댑터를 닫아 공유 메모리 예산을 반환")
+  void releasesMemoryBudgetPerTranscript() {
+    // 청크 8KiB 기준 동시에 8개까지만 열 수 있는 예산
+    MemoryBudget budget = MemoryBudget.of(64 * 1024);
+    List<List<String>> transcripts = new ArrayList<>();
+    for (int i = 0; i < 200; i++) {
+      transcripts.add(List.of("{\"name\": \"user", i + "\"}"));
+    }
+
+    ForkJoinPool pool = new ForkJoinPool(2);
+    try {
+      ReplayReport report = new TranscriptReplayer(SCHEMA, StreamingOptions.defaults().memoryBudget(budget), pool)
+          .replay(transcripts);
+
+      assertThat(report.validCount()).isEqualTo(200);
+      assertThat(budget.getRejectedStreams()).isZero();
+      assertThat(budget.getReservedBytes()).isZero();
+    } finally {
+      pool.shutdown();
+    }
+  }
+
+  @Test
+  @DisplayName("검증 실패, 미완성, 파싱 실패를 구분해 집계")
+  void classifiesOutcomes() {
+    ReplayReport report = new TranscriptReplayer(SCHEMA).replay(List.of(
+        List.of("{\"name\": \"ok\"}"),
+        List.of("{\"age\": 3}"),
+        List.of("{\"name\": \"cut"),
+        List.of("{\"name\" 1}")));
+
+    assertThat(report.validCount()).isEqualTo(1);
+    assertThat(report.invalidCount()).isEqualTo(1);
+    assertThat(report.incompleteCount()).isEqualTo(1);
+    assertThat(report.failedCount()).isEqualTo(1);
+    assertThat(report.results().get(1).errors()).isNotEmpty();
+    assertThat(report.results().get(3).failure()).isNotNull();
+  }
+
+  @Test
+  @DisplayName("메모리 매핑한 NDJSON 파일 재생")
+  void replaysNdjsonFile() throws Exception {
+    Path file = tempDir.resolve("transcripts.ndjson");
+    Files.writeString(file, """
+        ["{\\"name\\": \\"A", "lice\\"}"]
+
+        ["{\\"name\\": \\"Bob\\", ", "\\"age\\": 7}"]\r
+        not json
+        """);
+
+    ReplayReport report = new TranscriptReplayer(SCHEMA).replay(file);
+
+    assertThat(report.size()).isEqualTo(3);
+    assertThat(report.results().get(0).result().get("name").asText()).isEqualTo("Alice");
+    assertThat(report.results().get(1).result().get("age").asInt()).isEqualTo(7);
+    assertThat(report.results().get(2).failure()).isNotNull();
+    assertThat(report.validCount()).isEqualTo(2);
+  }
+}
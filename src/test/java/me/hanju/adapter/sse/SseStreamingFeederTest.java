@@ -0,0 +1,141 @@
+package me.hanju.adapter.sse;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import me.hanju.adapter.JsonStreamingAdapter;
+import me.hanju.adapter.exception.JsonStreamingException;
+
+class SseStreamingFeederTest {
+
+  private static final String SCHEMA = """
+      {
+        "type": "object",
+        "properties": {
+          "content": { "type": "string" }
+        },
+        "required": ["content"]
+      }
+      """;
+
+  @Test
+  @DisplayName("OpenAI 청크에서 content 조각 추출")
+  void extractsOpenAiContent() {
+    SseStreamingFeeder feeder = new SseStreamingFeeder(new JsonStreamingAdapter(SCHEMA),
+        FragmentExtractor.openAiContent());
+
+    String stream = """
+        data: {"id":"1","choices":[{"index":0,"delta":{"role":"assistant","content":""}}]}
+
+        data: {"id":"1","choices":[{"index":0,"delta":{"content":"{\\"content\\":\\"Hel"}}]}
+
+        data: {"id":"1","choices":[{"index":0,"delta":{"content":"lo\\"}"}}]}
+
+        data: {"id":"1","choices":[{"index":0,"delta":{},"finish_reason":"stop"}]}
+
+        data: [DONE]
+
+        """;
+
+    List<Map<String, Object>> deltas = feedInChunks(feeder, stream, 7);
+    feeder.flush();
+
+    assertThat(deltas).hasSize(2);
+    assertThat(deltas.get(0).get("content")).isEqualTo("Hel");
+    assertThat(deltas.get(1).get("content")).isEqualTo("lo");
+    assertThat(feeder.isDone()).isTrue();
+  }
+
+  @Test
+  @DisplayName("Anthropic partial_json 이벤트만 피드하고 나머지 이벤트는 무시")
+  void extractsAnthropicPartialJson() {
+    SseStreamingFeeder feeder = new SseStreamingFeeder(new JsonStreamingAdapter(SCHEMA),
+        FragmentExtractor.anthropicPartialJson());
+
+    String stream = "event: content_block_start\r\n"
+        + "data: {\"type\":\"content_block_start\",\"index\":0,\"content_block\":{\"type\":\"tool_use\",\"input\":{}}}\r\n"
+        + "\r\n"
+        + "event: content_block_delta\r\n"
+        + "data: {\"type\":\"content_block_delta\",\"index\":0,"
+        + "\"delta\":{\"type\":\"input_json_delta\",\"partial_json\":\"{\\\"content\\\": \\\"Hi\"}}\r\n"
+        + "\r\n"
+        + ": ping\r\n"
+        + "\r\n"
+        + "event: content_block_delta\r\n"
+        + "data: {\"type\":\"content_block_delta\",\"index\":0,"
+        + "\"delta\":{\"type\":\"input_json_delta\",\"partial_json\":\"!\\\"}\"}}\r\n"
+        + "\r\n";
+
+    List<Map<String, Object>> deltas = feedInChunks(feeder, stream, 5);
+    feeder.flush();
+
+    assertThat(deltas).extracting(d -> d.get("content")).containsExactly("Hi", "!");
+  }
+
+  @Test
+  @DisplayName("여러 data 줄은 개행으로 연결")
+  void joinsMultiLineData() {
+    List<String> payloads = new ArrayList<>();
+    SseStreamingFeeder feeder = new SseStreamingFeeder(new JsonStreamingAdapter(SCHEMA), data -> {
+      payloads.add(data);
+      return null;
+    });
+
+    feeder.feed("data: {\"a\":\ndata: 1}\n\n");
+
+    assertThat(payloads).containsExactly("{\"a\":\n1}");
+  }
+
+  @Test
+  @DisplayName("경로 추출기는 일치하지 않는 하위 값을 건너뜀")
+  void pathExtractorSkipsSiblings() {
+    FragmentExtractor extractor = FragmentExtractor.path("b", 1, "c");
+
+    assertThat(extractor.extract("{\"a\":{\"c\":\"no\"},\"b\":[{\"c\":\"no\"},{\"x\":[1,2],\"c\":\"yes\"}]}"))
+        .isEqualTo("yes");
+    assertThat(extractor.extract("{\"b\":[{\"c\":\"only one\"}]}")).isNull();
+  }
+
+  @Test
+  @DisplayName("올바르지 않은 data는 예외")
+  void pathExtractorRejectsMalformedData() {
+    FragmentExtractor extractor = FragmentExtractor.path("b", 1, "c");
+
+    assertThatThrownBy(() -> extractor.extract("not json"))
+        .isInstanceOf(JsonStreamingException.class);
+  }
+
+  @Test
+  @DisplayName("병렬 tool call은 위치가 아니라 index 필드로 구분")
+  void separatesParallelToolCalls() {
+    FragmentExtractor first = FragmentExtractor.openAiToolArguments();
+    FragmentExtractor second = FragmentExtractor.openAiToolArguments(1);
+
+    String secondOnly = "{\"choices\":[{\"delta\":{\"tool_calls\":["
+        + "{\"index\":1,\"function\":{\"arguments\":\"{\\\"b\"}}]}}]}";
+    assertThat(first.extract(secondOnly)).isNull();
+    assertThat(second.extract(secondOnly)).isEqualTo("{\"b");
+
+    // index가 function 뒤에 와도 일치 여부로 고름
+    String both = "{\"choices\":[{\"delta\":{\"tool_calls\":["
+        + "{\"function\":{\"arguments\":\"x\"},\"index\":1},"
+        + "{\"function\":{\"name\":\"f\",\"arguments\":\"y\"},\"index\":0}]}}]}";
+    assertThat(first.extract(both)).isEqualTo("y");
+    assertThat(second.extract(both)).isEqualTo("x");
+  }
+
+  private static List<Map<String, Object>> feedInChunks(SseStreamingFeeder feeder, String stream, int size) {
+    List<Map<String, Object>> deltas = new ArrayList<>();
+    for (int i = 0; i < stream.length(); i += size) {
+      deltas.addAll(feeder.feed(stream.substring(i, Math.min(stream.length(), i + size))));
+    }
+    return deltas;
+  }
+}
@@ -0,0 +1,82 @@
+package me.hanju.adapter.transform;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class JsonStreamTransformerTest {
+
+  private static final String INPUT = """
+      {"reasoning": {"steps": ["a", "b"]}, "user": {"name": "Kim", "email": "kim@example.com", "age": 31},
+       "items": [{"id": 1, "secret": "x"}, {"id": 2, "secret": "y"}], "msg": "안녕하세요"}""";
+
+  private static final TransformRules RULES = TransformRules.create()
+      .drop("$.reasoning")
+      .redact("$.user.email")
+      .drop("$.items[*].secret")
+      .rename("$.msg", "message");
+
+  @Test
+  @DisplayName("토큰 분할과 무관하게 같은 출력")
+  void transformsRegardlessOfChunking() {
+    for (int chunkSize : new int[] { 1, 3, 7, 1000 }) {
+      assertThat(transform(RULES, INPUT, chunkSize)).as("chunk size %d", chunkSize).isEqualTo("""
+          { "user": {"name": "Kim", "email":"[REDACTED]", "age": 31},
+           "items": [{"id": 1}, {"id": 2}], "message": "안녕하세요"}""");
+    }
+  }
+
+  @Test
+  @DisplayName("첫 멤버와 연속 멤버 제거 시 쉼표 정리")
+  void normalizesCommasAfterDrop() {
+    TransformRules rules = TransformRules.create().drop("$.a").drop("$.b").drop("$.d");
+
+    assertThat(transform(rules, "{\"a\":1,\"b\":[1,2],\"c\":3,\"d\":4}", 2)).isEqualTo("{\"c\":3}");
+    assertThat(transform(rules, "{\"a\":1,\"b\":2}", 2)).isEqualTo("{}");
+  }
+
+  @Test
+  @DisplayName("통과하는 문자열 값은 완성 전에 내보냄")
+  void streamsPassThroughValuesEarly() {
+    JsonStreamTransformer transformer = new JsonStreamTransformer(TransformRules.create().drop("$.hidden"));
+
+    assertThat(transformer.feed("{\"text\": \"Hel")).isEqualTo("{\"text\": \"Hel");
+    assertThat(transformer.feed("lo")).isEqualTo("lo");
+    assertThat(transformer.feed("\", \"hid")).isEqualTo("\"");
+    assertThat(transformer.getPendingBytes()).isEqualTo(6);
+    assertThat(transformer.feed("den\": \"long secret")).isEmpty();
+    assertThat(transformer.getPendingBytes()).isZero();
+    assertThat(transformer.feed("\"}")).isEqualTo("}");
+  }
+
+  @Test
+  @DisplayName("대체 값은 임의 JSON")
+  void replacesWithArbitraryJson() {
+    TransformRules rules = TransformRules.create().replace("$.*.token", "null");
+
+    assertThat(transform(rules, "{\"a\":{\"token\":{\"v\":[1]}},\"b\":{\"token\":5,\"k\":true}}", 4))
+        .isEqualTo("{\"a\":{\"token\":null},\"b\":{\"token\":null,\"k\":true}}");
+  }
+
+  @Test
+  @DisplayName("잘못된 경로와 대체 값 거부")
+  void rejectsInvalidRules() {
+    assertThatThrownBy(() -> TransformRules.create().drop("user.email"))
+        .isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> TransformRules.create().drop("$.items[*]"))
+        .isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> TransformRules.create().replace("$.a", "{oops"))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  private static String transform(TransformRules rules, String input, int chunkSize) {
+    JsonStreamTransformer transformer = new JsonStreamTransformer(rules);
+    StringBuilder out = new StringBuilder();
+    for (int i = 0; i < input.length(); i += chunkSize) {
+      out.append(transformer.feed(input.substring(i, Math.min(input.length(), i + chunkSize))));
+    }
+    return out.append(transformer.flush()).toString();
+  }
+}
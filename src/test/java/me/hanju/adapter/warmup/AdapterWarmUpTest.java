@@ -0,0 +1,149 @@
+package me.hanju.adapter.warmup;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.networknt.schema.JsonSchema;
+import com.networknt.schema.JsonSchemaFactory;
+import com.networknt.schema.SpecVersion;
+
+import me.hanju.adapter.JsonStreamingAdapter;
+import me.hanju.adapter.MemoryBudget;
+import me.hanju.adapter.StreamingOptions;
+
+class AdapterWarmUpTest {
+
+  private static final JsonSchema SCHEMA = JsonSchemaFactory.getInstance(SpecVersion.VersionFlag.V7).getSchema("""
+      {
+        "type": "object",
+        "properties": {
+          "title": { "type": "string", "maxLength": 40 },
+          "kind": { "enum": ["draft", "final"] },
+          "id": { "type": "string", "format": "uuid" },
+          "items": {
+            "type": "array",
+            "minItems": 1,
+            "items": { "$ref": "#/definitions/item" }
+          },
+          "tags": { "type": "array", "items": { "type": "string" } },
+          "meta": {
+            "type": "object",
+            "properties": {
+              "published": { "type": "boolean" },
+              "parent": { "type": ["string", "null"] }
+            }
+          }
+        },
+        "required": ["title", "items"],
+        "definitions": {
+          "item": {
+            "type": "object",
+            "properties": {
+              "sku": { "type": "string", "minLength": 3 },
+              "qty": { "type": "integer", "minimum": 1 },
+              "price": { "type": "number" }
+            },
+            "required": ["sku"]
+          }
+        }
+      }
+      """);
+
+  @Test
+  @DisplayName("합성 문서가 스키마 검증을 통과하고 토큰 분할과 무관하게 같은 결과로 조립됨")
+  void generatesValidSchemaShapedDocuments() throws Exception {
+    SampleDocuments samples = new SampleDocuments(SCHEMA);
+    ObjectMapper mapper = new ObjectMapper();
+
+    for (int variant = 0; variant < 8; variant++) {
+      String document = samples.document(variant);
+      JsonNode expected = mapper.readTree(document);
+      assertThat(SCHEMA.validate(expected)).as(document).isEmpty();
+      assertThat(expected.get("items").size()).isPositive();
+
+      for (int split = 0; split < 4; split++) {
+        JsonStreamingAdapter adapter = new JsonStreamingAdapter(SCHEMA,
+            StreamingOptions.defaults().validateStringsEarly(true));
+        for (String token : SampleDocuments.tokenize(document, variant * 31L + split)) {
+          adapter.feedToken(token);
+        }
+        adapter.flush();
+        assertThat(adapter.getResultNode()).as(document).isEqualTo(expected);
+      }
+    }
+  }
+
+  @Test
+  @DisplayName("홀수 변형은 비ASCII 문자를 이스케이프하고 토큰 경계에 걸치게 자름")
+  void escapesNonAsciiInOddVariants() {
+    SampleDocuments samples = new SampleDocuments(SCHEMA);
+
+    assertThat(samples.document(0)).contains("한글").doesNotContain("\\uD55C");
+    String escaped = samples.document(1);
+    assertThat(escaped).contains("\\uD55C").doesNotContain("한글");
+
+    List<String> tokens = new ArrayList<>();
+    for (long seed = 0; seed < 8; seed++) {
+      tokens.addAll(SampleDocuments.tokenize(escaped, seed));
+    }
+    assertThat(tokens).anyMatch(token -> token.matches(".*\\\\u[0-9A-F]{0,3}"));
+  }
+
+  @Test
+  @DisplayName("문서 수 한도 안에서 실행하고 결과를 보고")
+  void reportsDocumentsAndElapsedTime() {
+    WarmUpReport report = AdapterWarmUp.of(SCHEMA, StreamingOptions.defaults())
+        .minDocuments(100)
+        .maxDocuments(500)
+        .run();
+
+    assertThat(report.documents()).isBetween(100L, 500L);
+    assertThat(report.tokens()).isGreaterThan(report.documents());
+    assertThat(report.failures()).isZero();
+    assertThat(report.elapsed()).isPositive();
+  }
+
+  @Test
+  @DisplayName("기본적으로 리스너와 공유 예산에 영향을 주지 않고, 지정하면 그대로 사용")
+  void isolatesSideEffectsUnlessRequested() {
+    AtomicInteger completions = new AtomicInteger();
+    AtomicInteger resolutions = new AtomicInteger();
+    MemoryBudget budget = MemoryBudget.of(1024 * 1024);
+    StreamingOptions options = StreamingOptions.defaults()
+        .completionListener(event -> completions.incrementAndGet())
+        .enumResolutionListener((path, value) -> resolutions.incrementAndGet())
+        .memoryBudget(budget);
+
+    WarmUpReport report = AdapterWarmUp.of(SCHEMA, options).minDocuments(50).maxDocuments(50).run();
+
+    assertThat(report.failures()).isZero();
+    assertThat(completions).hasValue(0);
+    assertThat(resolutions).hasValue(0);
+    assertThat(budget.getReservedBytes()).isZero();
+    assertThat(budget.getRejectedStreams()).isZero();
+
+    AdapterWarmUp.of(SCHEMA, options).minDocuments(50).maxDocuments(50).keepSideEffects(true).run();
+
+    assertThat(completions.get()).isPositive();
+    assertThat(resolutions.get()).isPositive();
+  }
+
+  @Test
+  @DisplayName("잘못된 설정은 거부")
+  void rejectsInvalidSettings() {
+    assertThatThrownBy(() -> AdapterWarmUp.of(null, StreamingOptions.defaults()))
+        .isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> AdapterWarmUp.of(SCHEMA, StreamingOptions.defaults()).timeout(Duration.ZERO))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+}